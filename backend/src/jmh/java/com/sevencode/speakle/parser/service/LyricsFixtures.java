@@ -0,0 +1,131 @@
+package com.sevencode.speakle.parser.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 픽스처 (고정 시드로 재현 가능)
+ * - SHORT: 1절 8행
+ * - TYPICAL: 절/후렴 반복 약 60행 (스마트 따옴표/대시/장식 문자 포함)
+ * - PATHOLOGICAL: 빈 줄 없는 5,000행 (분할/정규식 최악 경로)
+ */
+public final class LyricsFixtures {
+
+	// @Param 타입 → 다른 패키지(jmh_generated)의 생성 코드가 참조하므로 클래스와 함께 public
+	public enum Size {
+		SHORT, TYPICAL, PATHOLOGICAL
+	}
+
+	private static final String[] WORDS = {
+		"love", "night", "heart", "dance", "fire", "dream", "city", "light", "rain", "baby",
+		"forever", "tonight", "golden", "falling", "runaway", "whisper", "highway", "summer", "broken", "shadow"
+	};
+
+	// 정규화 대상 문자(스마트 따옴표, 유니코드 대시, 장식 기호, 비라틴 문자, NBSP) 포함 행 템플릿
+	private static final String[] DECORATED = {
+		"I’m %s in the %s — don’t let go",
+		"“%s” she said, %s-%s all night ♪",
+		"We were 20-%s, %s-2 – on the %s",
+		"★ %s %s ★ (oh-oh)",
+		"%s ㄱㄴ %s, こんにちは %s"
+	};
+
+	private LyricsFixtures() {
+	}
+
+	static String lyrics(Size size) {
+		Random rnd = new Random(42);
+		return switch (size) {
+			case SHORT -> stanza(rnd, 8);
+			case TYPICAL -> {
+				String chorus = stanza(rnd, 6);
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < 4; i++) {
+					sb.append(stanza(rnd, 8)).append("\r\n\r\n").append(chorus).append("\r\n\r\n");
+				}
+				yield sb.append(stanza(rnd, 4)).toString();
+			}
+			case PATHOLOGICAL -> stanza(rnd, 5_000);
+		};
+	}
+
+	/**
+	 * LLM 청크 응답 JSON 문자열 목록 (청크 간 키 중복 = 반복 후렴 재현)
+	 * @param chunks 청크 수
+	 * @param itemsPerChunk 카테고리별 항목 수
+	 */
+	static List<String> chunkResponses(int chunks, int itemsPerChunk) {
+		Random rnd = new Random(7);
+		String[] levels = {"A1", "b2", "Intermediate", "C-1", "advanced", "", "expert", "B1"};
+		List<String> out = new ArrayList<>(chunks);
+		for (int c = 0; c < chunks; c++) {
+			StringBuilder sb = new StringBuilder("{");
+			appendArray(sb, "words", "word", itemsPerChunk, rnd, levels).append(',');
+			appendArray(sb, "expressions", "expression", itemsPerChunk, rnd, levels).append(',');
+			appendArray(sb, "idioms", "phrase", itemsPerChunk / 2, rnd, levels).append(',');
+			appendArray(sb, "sentences", "sentence", itemsPerChunk, rnd, levels);
+			out.add(sb.append('}').toString());
+		}
+		return out;
+	}
+
+	/** " | " 로 이어진 예문 누적 문자열 (joinUnique 입력) */
+	static String joined(int parts, String sep, int seed) {
+		Random rnd = new Random(seed);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts; i++) {
+			if (i > 0)
+				sb.append(sep);
+			sb.append(phrase(rnd, 6));
+		}
+		return sb.toString();
+	}
+
+	private static StringBuilder appendArray(StringBuilder sb, String name, String keyField, int n, Random rnd,
+		String[] levels) {
+		sb.append('"').append(name).append("\":[");
+		for (int i = 0; i < n; i++) {
+			if (i > 0)
+				sb.append(',');
+			// 키 공간을 좁혀 청크 간 중복(병합 경로) 유도
+			String key = keyField.equals("word") ? WORDS[rnd.nextInt(WORDS.length)] : phrase(rnd, 3);
+			sb.append("{\"").append(keyField).append("\":\"").append(i % 3 == 0 ? key.toUpperCase() : key)
+				.append("\",\"meaning\":\"뜻 ").append(i)
+				.append("\",\"examples\":\"").append(phrase(rnd, 5)).append(" | ").append(phrase(rnd, 5))
+				.append("\",\"tags\":\"").append(WORDS[rnd.nextInt(WORDS.length)]).append(", chorus")
+				.append("\",\"level\":\"").append(levels[rnd.nextInt(levels.length)])
+				.append("\"}");
+		}
+		return sb.append(']');
+	}
+
+	private static String stanza(Random rnd, int lines) {
+		StringBuilder sb = new StringBuilder(lines * 40);
+		for (int i = 0; i < lines; i++) {
+			if (i > 0)
+				sb.append("\r\n");
+			if (i % 3 == 0) {
+				String t = DECORATED[rnd.nextInt(DECORATED.length)];
+				sb.append(String.format(t, word(rnd), word(rnd), word(rnd)));
+			} else {
+				sb.append(phrase(rnd, 4 + rnd.nextInt(6)));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String phrase(Random rnd, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0)
+				sb.append(' ');
+			sb.append(word(rnd));
+		}
+		return sb.toString();
+	}
+
+	private static String word(Random rnd) {
+		return WORDS[rnd.nextInt(WORDS.length)];
+	}
+}
@@ -0,0 +1,91 @@
+package com.sevencode.speakle.parser.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * LyricsParsingService 병합 핫패스
+ * - mergeChunks: 청크 응답 JSON 파싱 + Accumulator.accumulate/toJson (입력 노드를 변경하므로 매 호출 파싱)
+ * - parseChunksBaseline: 파싱 비용만 (mergeChunks 에서 차감용)
+ * - normalizeLevels / deepCopyBaseline: 레벨 보정은 입력을 변경하므로 복사본 대상, 복사 비용은 baseline 으로 차감
+ * - joinUnique: examples/tags 누적 문자열 병합
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LyricsMergeBenchmark {
+
+	// SHORT ≈ 1청크, TYPICAL ≈ 2청크, PATHOLOGICAL ≈ 5,000행 / 60행 분할
+	@Param({"1", "2", "84"})
+	public int chunks;
+
+	@Param({"20"})
+	public int itemsPerChunk;
+
+	private final ObjectMapper om = new ObjectMapper();
+	private List<String> chunkJson;
+	private ObjectNode merged;
+	private String examplesA;
+	private String examplesB;
+
+	@Setup
+	public void setUp() throws Exception {
+		chunkJson = LyricsFixtures.chunkResponses(chunks, itemsPerChunk);
+		merged = mergeChunks();
+		examplesA = LyricsFixtures.joined(chunks * 4, " | ", 1);
+		examplesB = LyricsFixtures.joined(chunks * 4, " | ", 2);
+	}
+
+	@Benchmark
+	public ObjectNode mergeChunks() throws Exception {
+		LyricsParsingService.Accumulator acc = new LyricsParsingService.Accumulator(om);
+		for (String json : chunkJson) {
+			acc.accumulate(om.readTree(json));
+		}
+		return acc.toJson();
+	}
+
+	@Benchmark
+	public List<JsonNode> parseChunksBaseline() throws Exception {
+		List<JsonNode> out = new ArrayList<>(chunkJson.size());
+		for (String json : chunkJson) {
+			out.add(om.readTree(json));
+		}
+		return out;
+	}
+
+	@Benchmark
+	public int normalizeLevels() {
+		return LyricsParsingService.normalizeLevels(merged.deepCopy());
+	}
+
+	@Benchmark
+	public ObjectNode deepCopyBaseline() {
+		return merged.deepCopy();
+	}
+
+	@Benchmark
+	public String joinUnique() {
+		return LyricsParsingService.Accumulator.joinUnique(examplesA, examplesB, " | ");
+	}
+}
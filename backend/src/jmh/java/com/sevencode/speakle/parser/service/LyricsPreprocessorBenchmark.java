@@ -0,0 +1,52 @@
+package com.sevencode.speakle.parser.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LyricsPreprocessor 핫패스
+ * - clean: 정규식 replaceAll 체인
+ * - split: 정규화된 가사의 스탠자/행수 기준 청크 분할
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LyricsPreprocessorBenchmark {
+
+	@Param({"SHORT", "TYPICAL", "PATHOLOGICAL"})
+	public LyricsFixtures.Size size;
+
+	private String raw;
+	private String cleaned;
+
+	@Setup
+	public void setUp() {
+		raw = LyricsFixtures.lyrics(size);
+		cleaned = LyricsPreprocessor.clean(raw);
+	}
+
+	@Benchmark
+	public String clean() {
+		return LyricsPreprocessor.clean(raw);
+	}
+
+	@Benchmark
+	public List<String> split() {
+		return LyricsPreprocessor.splitLyrics(cleaned);
+	}
+}
@@ -0,0 +1,118 @@
+package com.sevencode.speakle.recommend.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * BM25 벤치마크 코퍼스 픽스처 (고정 시드로 재현 가능)
+ * - 곡마다 청크 30개(5~9 단어), 일반 어휘는 편향 분포(소수 단어가 대부분 등장)로 추출
+ * - 질의마다 전용 주제어 3개 + 구문 1개. 정답 곡(relevant)은 두 청크에 주제어 2개씩, 한 청크에 구문을 연속으로 포함
+ * - 방해 곡(정답 수 × 3)은 주제어 1개만 1회 포함 → 단순 포함 여부 검색과 재현율 차이가 드러나도록
+ */
+final class Bm25Fixtures {
+
+    private static final String[] SYLLABLES = {
+        "ka", "lo", "mi", "ne", "ru", "sa", "tu", "vi", "ze", "po", "da", "fe", "gu", "hi", "jo", "ly"
+    };
+    private static final int CHUNKS_PER_SONG = 30;
+    private static final int FILLER_VOCAB = 3000;
+
+    record SongDoc(String songId, String title, String artists, Integer popularity, List<String> chunks) {
+    }
+
+    record Query(List<String> words, List<String> phrases, Set<String> relevant) {
+    }
+
+    record Corpus(List<SongDoc> songs, List<Query> queries) {
+    }
+
+    private Bm25Fixtures() {
+    }
+
+    static Corpus corpus(int songCount, int queryCount, int relevantPerQuery) {
+        Random rnd = new Random(42);
+        String[] filler = words(0, FILLER_VOCAB);
+        String[] topics = words(FILLER_VOCAB, queryCount * 3);
+
+        List<List<String>> chunks = new ArrayList<>(songCount);
+        for (int i = 0; i < songCount; i++) {
+            List<String> song = new ArrayList<>(CHUNKS_PER_SONG);
+            for (int c = 0; c < CHUNKS_PER_SONG; c++) {
+                song.add(line(rnd, filler, 5 + rnd.nextInt(5)));
+            }
+            chunks.add(song);
+        }
+
+        List<Query> queries = new ArrayList<>(queryCount);
+        for (int q = 0; q < queryCount; q++) {
+            String a = topics[q * 3];
+            String b = topics[q * 3 + 1];
+            String c = topics[q * 3 + 2];
+            Set<String> relevant = new LinkedHashSet<>();
+            Set<Integer> used = new HashSet<>();
+            while (relevant.size() < relevantPerQuery) {
+                int song = rnd.nextInt(songCount);
+                if (!used.add(song)) {
+                    continue;
+                }
+                List<String> target = chunks.get(song);
+                plant(target, rnd, a + " " + b);          // 구문 그대로
+                plant(target, rnd, c + " " + filler[rnd.nextInt(50)] + " " + a);
+                relevant.add(songId(song));
+            }
+            for (int d = 0; d < relevantPerQuery * 3; d++) {
+                int song = rnd.nextInt(songCount);
+                if (used.add(song)) {
+                    plant(chunks.get(song), rnd, new String[] {a, b, c}[rnd.nextInt(3)]);
+                }
+            }
+            queries.add(new Query(List.of(a, b, c), List.of(a + " " + b), relevant));
+        }
+
+        List<SongDoc> songs = new ArrayList<>(songCount);
+        for (int i = 0; i < songCount; i++) {
+            songs.add(new SongDoc(songId(i), line(rnd, filler, 2), "artist " + filler[rnd.nextInt(FILLER_VOCAB)],
+                rnd.nextInt(10) == 0 ? null : rnd.nextInt(101), chunks.get(i)));
+        }
+        return new Corpus(songs, queries);
+    }
+
+    static String songId(int i) {
+        return "song-" + i;
+    }
+
+    /** 임의 청크 뒤에 텍스트 삽입 */
+    private static void plant(List<String> song, Random rnd, String text) {
+        int c = rnd.nextInt(song.size());
+        song.set(c, song.get(c) + " " + text);
+    }
+
+    private static String line(Random rnd, String[] vocab, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            // 세제곱 분포 → 앞쪽 어휘에 편중
+            double u = rnd.nextDouble();
+            sb.append(w == 0 ? "" : " ").append(vocab[(int)(vocab.length * u * u * u)]);
+        }
+        return sb.toString();
+    }
+
+    /** 음절 조합으로 겹치지 않는 가짜 단어 생성 (start 번째부터 count 개) */
+    private static String[] words(int start, int count) {
+        String[] out = new String[count];
+        for (int i = 0; i < count; i++) {
+            int n = start + i;
+            StringBuilder sb = new StringBuilder();
+            do {
+                sb.append(SYLLABLES[n % SYLLABLES.length]);
+                n /= SYLLABLES.length;
+            } while (n > 0);
+            out[i] = sb.toString();
+        }
+        return out;
+    }
+}
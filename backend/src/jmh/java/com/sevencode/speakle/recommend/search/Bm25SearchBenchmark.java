@@ -0,0 +1,164 @@
+package com.sevencode.speakle.recommend.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BM25 가사 검색 지연 + 재현율 (Bm25Fixtures 코퍼스)
+ * - bm25Index: 세그먼트 파일 mmap 후 Bm25Segment.search (운영 기본 파라미터)
+ * - linearScanBaseline: 색인 없이 전 청크 부분문자열 포함 검사(DB LIKE 스캔과 같은 방식) + 같은 인기도 가중
+ * - 지연은 SampleTime(백분위), 재현율(recall@K, 정답 곡 중 상위 K 포함 비율)과 세그먼트 크기는 Setup 에서 1회 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Bm25SearchBenchmark {
+
+    @Param({"1000", "10000"})
+    public int songs;
+
+    private static final int QUERIES = 50;
+    private static final int RELEVANT = 10;
+    private static final int TOP_K = 20;
+    private static final Bm25Segment.Scoring SCORING = new Bm25Segment.Scoring(1.2, 0.75, 0.5, 0.3, 0.5);
+
+    private Bm25Fixtures.Corpus corpus;
+    private Path file;
+    private Bm25Segment segment;
+    private List<Map<String, Double>> termWeights;
+    private List<List<List<String>>> phraseTokens;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpus = Bm25Fixtures.corpus(songs, QUERIES, RELEVANT);
+        Bm25SegmentWriter writer = new Bm25SegmentWriter();
+        long textBytes = 0;
+        for (Bm25Fixtures.SongDoc s : corpus.songs()) {
+            writer.addSong(s.songId(), s.title(), s.artists(), s.popularity(), s.chunks());
+            for (String chunk : s.chunks()) {
+                textBytes += chunk.length();
+            }
+        }
+        file = Files.createTempFile("bm25-bench-", ".seg");
+        writer.writeTo(file, System.currentTimeMillis());
+        segment = Bm25Segment.open(file);
+
+        termWeights = new ArrayList<>(QUERIES);
+        phraseTokens = new ArrayList<>(QUERIES);
+        for (Bm25Fixtures.Query q : corpus.queries()) {
+            Map<String, Double> weights = new LinkedHashMap<>();
+            q.words().forEach(w -> Bm25Tokenizer.tokenize(w).forEach(t -> weights.merge(t, 1.0, Double::sum)));
+            List<List<String>> phrases = new ArrayList<>();
+            for (String p : q.phrases()) {
+                List<String> tokens = Bm25Tokenizer.tokenize(p);
+                phrases.add(tokens);
+                tokens.forEach(t -> weights.merge(t, 0.5, Double::sum));
+            }
+            termWeights.add(weights);
+            phraseTokens.add(phrases);
+        }
+
+        double indexRecall = 0;
+        double scanRecall = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            indexRecall += recall(segment.search(termWeights.get(i), phraseTokens.get(i), TOP_K, SCORING)
+                .stream().map(Bm25Segment.Hit::songId).toList(), i);
+            scanRecall += recall(scan(i), i);
+        }
+        System.out.printf(Locale.ROOT,
+            "%n[Bm25SearchBenchmark] songs=%d chunks=%d terms=%d segment=%.1f MB (text %.1f MB) "
+                + "recall@%d bm25=%.3f scan=%.3f%n",
+            segment.songCount(), segment.docCount(), segment.termCount(), segment.sizeBytes() / 1048576.0,
+            textBytes / 1048576.0, TOP_K, indexRecall / QUERIES, scanRecall / QUERIES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Bm25Segment.Hit> bm25Index() {
+        int q = next();
+        return segment.search(termWeights.get(q), phraseTokens.get(q), TOP_K, SCORING);
+    }
+
+    @Benchmark
+    public List<String> linearScanBaseline() {
+        return scan(next());
+    }
+
+    private int next() {
+        cursor = (cursor + 1) % QUERIES;
+        return cursor;
+    }
+
+    private double recall(List<String> top, int query) {
+        long found = top.stream().filter(corpus.queries().get(query).relevant()::contains).count();
+        return (double)found / RELEVANT;
+    }
+
+    /** 색인 없는 기준선: 곡별 최고 청크의 (포함 단어 수 + 구문 포함 수) × 인기도 가중 → 상위 K */
+    private List<String> scan(int query) {
+        Bm25Fixtures.Query q = corpus.queries().get(query);
+        PriorityQueue<Object[]> heap = new PriorityQueue<>((x, y) -> Double.compare((double)x[0], (double)y[0]));
+        for (Bm25Fixtures.SongDoc s : corpus.songs()) {
+            double best = 0;
+            for (String chunk : s.chunks()) {
+                String lower = chunk.toLowerCase(Locale.ROOT);
+                double score = 0;
+                for (String w : q.words()) {
+                    if (lower.contains(w)) {
+                        score++;
+                    }
+                }
+                for (String p : q.phrases()) {
+                    if (lower.contains(p)) {
+                        score++;
+                    }
+                }
+                best = Math.max(best, score);
+            }
+            if (best == 0) {
+                continue;
+            }
+            int pop = s.popularity() != null ? s.popularity() : 0;
+            double score = best * (1 + 0.3 * Math.log1p(pop) / Math.log(101));
+            if (heap.size() < TOP_K) {
+                heap.add(new Object[] {score, s.songId()});
+            } else if (score > (double)heap.peek()[0]) {
+                heap.poll();
+                heap.add(new Object[] {score, s.songId()});
+            }
+        }
+        List<Object[]> sorted = new ArrayList<>(heap);
+        sorted.sort((x, y) -> Double.compare((double)y[0], (double)x[0]));
+        return sorted.stream().map(e -> (String)e[1]).toList();
+    }
+}
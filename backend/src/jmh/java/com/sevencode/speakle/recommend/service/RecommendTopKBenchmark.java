@@ -0,0 +1,127 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.FilterRequest;
+import com.sevencode.speakle.recommend.dto.response.SongMetaResponse;
+import com.sevencode.speakle.song.domain.Song;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 후보 필터 + 정렬 + 페이징
+ * - fullSortBaseline: 기존 경로 (전 후보 SongMetaResponse 생성 → 필터 → 박싱 비교자 전체 정렬 → subList)
+ * - topK: RecommendTopK (double[] 키 + 같은 순회 필터 + bounded heap, 페이지 곡만 DTO 생성)
+ * - 난이도 필터(LOW, MEDIUM)는 두 경로 모두 적용, 페이지 크기 20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendTopKBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int candidates;
+
+    @Param({"RECOMMEND_SCORE", "POPULARITY"})
+    public FilterRequest.SortType sortBy;
+
+    @Param({"0", "4"})
+    public int page;
+
+    private static final int SIZE = 20;
+    private static final List<Song.Level> DIFFICULTIES = List.of(Song.Level.LOW, Song.Level.MEDIUM);
+
+    private List<Song> songs;
+    private Map<String, Double> scores;
+    private Map<String, Integer> learnCounts;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        Song.Level[] levels = Song.Level.values();
+        songs = new ArrayList<>(candidates);
+        scores = new HashMap<>();
+        learnCounts = new HashMap<>();
+        for (int i = 0; i < candidates; i++) {
+            String id = "song-" + i;
+            songs.add(Song.builder()
+                    .songId(id)
+                    .title("title " + i)
+                    .artists("artist " + rnd.nextInt(500))
+                    .album("album " + rnd.nextInt(800))
+                    .level(levels[rnd.nextInt(levels.length)])
+                    .popularity(rnd.nextInt(10) == 0 ? null : rnd.nextInt(100))
+                    .durationMs(120_000L + rnd.nextInt(240_000))
+                    .build());
+            scores.put(id, rnd.nextDouble());
+            if (rnd.nextBoolean()) {
+                learnCounts.put(id, rnd.nextInt(50));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<SongMetaResponse> fullSortBaseline() {
+        List<SongMetaResponse> songMetas = songs.stream()
+                .map(song -> SongMetaResponse.from(song, scores.get(song.getSongId()),
+                        learnCounts.getOrDefault(song.getSongId(), 0)))
+                .collect(Collectors.toList());
+        songMetas = songMetas.stream()
+                .filter(song -> DIFFICULTIES.contains(song.getDifficulty()))
+                .collect(Collectors.toList());
+
+        Comparator<SongMetaResponse> comparator = switch (sortBy) {
+            case RECOMMEND_SCORE -> Comparator.comparing(SongMetaResponse::getRecommendScore,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case POPULARITY -> Comparator.comparing(SongMetaResponse::getPopularity,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case LEARN_COUNT -> Comparator.comparing(SongMetaResponse::getLearnCount,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case DURATION -> Comparator.comparing(SongMetaResponse::getDurationMs,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+        songMetas = songMetas.stream().sorted(comparator.reversed()).collect(Collectors.toList());
+
+        int total = songMetas.size();
+        int start = page * SIZE;
+        return songMetas.subList(Math.min(start, total), Math.min(start + SIZE, total));
+    }
+
+    @Benchmark
+    public List<SongMetaResponse> topK() {
+        double[] keys = RecommendTopK.sortKeys(songs, sortBy, scores, learnCounts);
+        Set<Song.Level> allowed = new HashSet<>(DIFFICULTIES);
+        IntPredicate include = i -> allowed.contains(songs.get(i).getLevel());
+        RecommendTopK.Selection selection = RecommendTopK.select(keys, true, include, page * SIZE, SIZE);
+
+        List<SongMetaResponse> out = new ArrayList<>(selection.indices().length);
+        for (int i : selection.indices()) {
+            Song song = songs.get(i);
+            out.add(SongMetaResponse.from(song, scores.get(song.getSongId()),
+                    learnCounts.getOrDefault(song.getSongId(), 0)));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,129 @@
+package com.sevencode.speakle.recommend.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HNSW 벡터 검색 처리량(QPS) + recall@K (VectorFixtures 생성 벡터, 네트워크/외부 파일 불필요)
+ * - hnsw: LyricVectorFile(mmap) + HnswGraph.search → 곡 단위 집계 (LyricVectorIndex 와 같은 경로)
+ * - bruteForce: mmap 파일 전수 내적 (정확 검색 기준선)
+ * - recall@K: 정확 상위 K 청크(float32 원본 기준) 중 HNSW 결과에 포함된 비율, Setup 에서 빌드 시간과 함께 1회 출력
+ * - 실행 예: ./gradlew jmh -PjmhInclude=HnswSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class HnswSearchBenchmark {
+
+    // LyricVectorFile.Encoding 은 패키지 전용 → 생성 코드(jmh_generated)가 참조할 수 없어 이름으로 받음
+    @Param({"FLOAT32", "INT8"})
+    public String encoding;
+
+    @Param({"8", "16", "32"})
+    public int m;
+
+    @Param({"16", "64", "128"})
+    public int efSearch;
+
+    private static final int VECTORS = 20_000;
+    private static final int DIM = 128;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+    private static final int EF_CONSTRUCTION = 100;
+
+    private VectorFixtures.Data data;
+    private Path file;
+    private LyricVectorFile vectors;
+    private HnswGraph graph;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = VectorFixtures.generate(VECTORS, DIM, QUERIES);
+        file = Files.createTempFile("hnsw-bench-", ".vec");
+        LyricVectorFileWriter.write(file, LyricVectorFile.Encoding.valueOf(encoding), data.vectors(),
+                data.chunkSong(), data.songIds());
+        vectors = LyricVectorFile.open(file);
+
+        long startedAt = System.nanoTime();
+        graph = HnswGraph.build(vectors, m, EF_CONSTRUCTION, 42L);
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        double recall = 0;
+        for (float[] q : data.queries()) {
+            int[] exact = VectorFixtures.exactTopK(data.vectors(), q, K);
+            int[] found = graph.search(q, K, efSearch).nodes();
+            Arrays.sort(found);
+            for (int e : exact) {
+                if (Arrays.binarySearch(found, e) >= 0) {
+                    recall++;
+                }
+            }
+        }
+        System.out.printf(Locale.ROOT,
+            "%n[HnswSearchBenchmark] %s M=%d efSearch=%d: recall@%d=%.3f, build=%d ms, levels=%d, "
+                + "file=%.1f MB, graph≈%.1f MB%n",
+            encoding, m, efSearch, K, recall / (QUERIES * K), buildMillis, graph.maxLevel() + 1,
+            vectors.sizeBytes() / 1048576.0, graph.memoryBytes() / 1048576.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<LyricVectorIndex.SongHit> hnsw() {
+        HnswGraph.Result result = graph.search(next(), K * 4, Math.max(efSearch, K * 4));
+        return LyricVectorIndex.aggregate(vectors, result, K);
+    }
+
+    @Benchmark
+    public int[] bruteForce() {
+        float[] q = next();
+        int[] best = new int[K];
+        float[] scores = new float[K];
+        Arrays.fill(scores, Float.NEGATIVE_INFINITY);
+        for (int i = 0; i < vectors.size(); i++) {
+            float s = vectors.dot(q, i);
+            if (s > scores[K - 1]) {
+                int pos = K - 1;
+                while (pos > 0 && scores[pos - 1] < s) {
+                    scores[pos] = scores[pos - 1];
+                    best[pos] = best[pos - 1];
+                    pos--;
+                }
+                scores[pos] = s;
+                best[pos] = i;
+            }
+        }
+        return best;
+    }
+
+    private float[] next() {
+        cursor = (cursor + 1) % QUERIES;
+        return data.queries()[cursor];
+    }
+}
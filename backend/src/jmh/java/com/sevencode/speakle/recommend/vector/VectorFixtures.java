@@ -0,0 +1,85 @@
+package com.sevencode.speakle.recommend.vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * HNSW 벤치마크 벡터 픽스처 (고정 시드, 오프라인 생성)
+ * - 군집 200개 중심 주변에 가우시안 잡음을 더한 L2 정규화 벡터 (실제 문장 임베딩처럼 군집 구조)
+ * - 곡당 청크 20개, 질의는 임의 군집 중심 근처 벡터
+ */
+final class VectorFixtures {
+
+    static final int CHUNKS_PER_SONG = 20;
+    private static final int CLUSTERS = 200;
+    private static final double NOISE = 0.35;
+
+    record Data(float[][] vectors, int[] chunkSong, List<String> songIds, float[][] queries) {
+    }
+
+    private VectorFixtures() {
+    }
+
+    static Data generate(int count, int dim, int queryCount) {
+        Random rnd = new Random(42);
+        float[][] centers = new float[CLUSTERS][];
+        for (int c = 0; c < CLUSTERS; c++) {
+            centers[c] = gaussian(rnd, dim, null, 1.0);
+        }
+        float[][] vectors = new float[count][];
+        int[] chunkSong = new int[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = gaussian(rnd, dim, centers[rnd.nextInt(CLUSTERS)], NOISE);
+            chunkSong[i] = i / CHUNKS_PER_SONG;
+        }
+        List<String> songIds = new ArrayList<>();
+        for (int s = 0; s <= (count - 1) / CHUNKS_PER_SONG; s++) {
+            songIds.add("song-" + s);
+        }
+        float[][] queries = new float[queryCount][];
+        for (int q = 0; q < queryCount; q++) {
+            queries[q] = gaussian(rnd, dim, centers[rnd.nextInt(CLUSTERS)], NOISE);
+        }
+        return new Data(vectors, chunkSong, songIds, queries);
+    }
+
+    /** 정확한 상위 k 청크 (전수 내적) */
+    static int[] exactTopK(float[][] vectors, float[] query, int k) {
+        int[] best = new int[k];
+        float[] scores = new float[k];
+        int n = 0;
+        for (int i = 0; i < vectors.length; i++) {
+            float s = 0f;
+            for (int d = 0; d < query.length; d++) {
+                s += query[d] * vectors[i][d];
+            }
+            if (n < k || s > scores[n - 1]) {
+                int pos = n < k ? n++ : n - 1;
+                while (pos > 0 && scores[pos - 1] < s) {
+                    scores[pos] = scores[pos - 1];
+                    best[pos] = best[pos - 1];
+                    pos--;
+                }
+                scores[pos] = s;
+                best[pos] = i;
+            }
+        }
+        return best;
+    }
+
+    private static float[] gaussian(Random rnd, int dim, float[] center, double sigma) {
+        float[] v = new float[dim];
+        double norm = 0;
+        for (int d = 0; d < dim; d++) {
+            double x = (center != null ? center[d] : 0) + rnd.nextGaussian() * sigma / Math.sqrt(dim);
+            v[d] = (float)x;
+            norm += x * x;
+        }
+        float inv = (float)(1 / Math.sqrt(norm));
+        for (int d = 0; d < dim; d++) {
+            v[d] *= inv;
+        }
+        return v;
+    }
+}
@@ -0,0 +1,92 @@
+package com.sevencode.speakle.spotify.service;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sevencode.speakle.common.util.CryptoUtil;
+import com.sevencode.speakle.spotify.config.SpotifyProps;
+import com.sevencode.speakle.spotify.entity.SpotifyAccount;
+import com.sevencode.speakle.spotify.repository.SpotifyAccountRepository;
+
+/**
+ * Spotify 사용자 액세스 토큰 조회 1회 비용 (ns/op)
+ * - loadAndDecryptBaseline: 기존 경로 (호출마다 계정 조회 + AES-GCM 복호화, Cipher.getInstance 포함)
+ * - resolveCached: resolveValidAccessToken 캐시 히트 (DB/복호화 없음)
+ * - resolveAfterInvalidate: 무효화 직후 조회 (single-flight 미스 경로 = 조회 + 복호화 + 캐시 적재)
+ * 계정 조회는 메모리 스텁이라 실제 DB 왕복(수백 µs~ms)은 baseline/미스 경로에 더해지지 않음 → 실제 차이는 더 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpotifyTokenCacheBenchmark {
+
+	private static final Long USER_ID = 42L;
+
+	private CryptoUtil crypto;
+	private SpotifyAccountRepository repository;
+	private SpotifyTokenService tokenService;
+
+	@Setup
+	public void setUp() {
+		crypto = new CryptoUtil("0123456789abcdef0123456789abcdef");
+
+		SpotifyAccount account = new SpotifyAccount();
+		account.setUserId(USER_ID);
+		account.setProvider("spotify");
+		account.setAccessTokenEnc(crypto.encrypt("BQD" + "x".repeat(200)));
+		account.setRefreshTokenEnc(crypto.encrypt("AQB" + "y".repeat(120)));
+		account.setExpiresAt(Instant.now().plus(1, ChronoUnit.DAYS));
+
+		repository = (SpotifyAccountRepository)Proxy.newProxyInstance(
+			SpotifyAccountRepository.class.getClassLoader(),
+			new Class<?>[] {SpotifyAccountRepository.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "findByUserId" -> Optional.of(account);
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> "SpotifyAccountRepositoryStub";
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+
+		SpotifyProps props = new SpotifyProps();
+		props.setClientId("client");
+		props.setClientSecret("secret");
+		tokenService = new SpotifyTokenService(props, repository, crypto, WebClient.create());
+		tokenService.resolveValidAccessToken(USER_ID);
+	}
+
+	@Benchmark
+	public String loadAndDecryptBaseline() {
+		SpotifyAccount acc = repository.findByUserId(USER_ID).orElseThrow();
+		return crypto.decrypt(acc.getAccessTokenEnc());
+	}
+
+	@Benchmark
+	public String resolveCached() {
+		return tokenService.resolveValidAccessToken(USER_ID);
+	}
+
+	@Benchmark
+	public String resolveAfterInvalidate() {
+		tokenService.invalidate(USER_ID);
+		return tokenService.resolveValidAccessToken(USER_ID);
+	}
+}
@@ -27,4 +27,11 @@ public interface AttendanceRepository extends JpaRepository<AttendanceEntity, At
 
     @Query("SELECT COUNT(a) FROM AttendanceEntity a WHERE a.userId = :userId AND a.localDate >= :fromDate")
     long countAttendanceDays(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate);
+
+    // 출석 비트맵 백필용 (AttendanceBitmapStore)
+    @Query("SELECT DISTINCT a.userId FROM AttendanceEntity a")
+    List<Long> findDistinctUserIds();
+
+    @Query("SELECT a.localDate FROM AttendanceEntity a WHERE a.userId = :userId ORDER BY a.localDate ASC")
+    List<LocalDate> findDatesByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
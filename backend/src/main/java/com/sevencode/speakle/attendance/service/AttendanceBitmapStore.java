@@ -0,0 +1,322 @@
+package com.sevencode.speakle.attendance.service;
+
+import com.sevencode.speakle.attendance.repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 출석 비트맵 저장소 (Redis)
+ * - 사용자별 비트맵: attendance:bitmap:{userId}, 비트 오프셋 = epochDay - BASE_DATE (1비트 = 1일)
+ * - 요약 해시: attendance:bitmap:stats:{userId} → first/last(오프셋), max(최장 연속), cur(last 에서 끝나는 현재 연속)
+ *   cur 는 기록 시 스크립트에서 갱신: last+1 이면 증가, 더 뒤면 1로 재시작 (백필은 DB 기준 끝 연속으로 보정)
+ * - 통계: 총 출석 BITCOUNT, 월 출석은 해당 월 바이트만 GETRANGE, 현재/최장 연속은 요약 해시에서 O(1)
+ *   → 이력 길이와 무관하게 고정 횟수의 Redis 호출로 계산
+ * - 원본은 Postgres(attendance_days). 기동 시/주기적으로 테이블에서 비트맵을 OR 병합으로 백필
+ *   (병합은 단조 연산이라 백필 중 동시 출석 기록과 경합해도 유실 없음)
+ * - 백필 완료 전이거나 Redis 오류 시 Optional.empty() → 호출부가 DB 경로로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBitmapStore {
+
+    private static final String BITMAP_KEY = "attendance:bitmap:";
+    private static final String STATS_KEY = "attendance:bitmap:stats:";
+    private static final String TMP_KEY = "attendance:bitmap:tmp:";
+    // v2: 요약 해시에 cur 추가 → 이전 마커만 있는 환경도 기동 시 재백필
+    private static final String READY_KEY = "attendance:bitmap:ready:v2";
+    private static final long BASE_EPOCH_DAY = LocalDate.of(2020, 1, 1).toEpochDay();
+
+    // 연속 구간 [last-run+1, last] 병합: first는 최소값, last/max는 최대값 (멱등·단조)
+    // cur 는 해시의 last 에서 끝나는 구간과 맞닿거나 겹치면 이어 붙이고, 더 뒤의 구간이면 그 구간으로 재시작
+    private static final byte[] MERGE_STATS_SCRIPT = (
+        "local first, last, max, run = tonumber(ARGV[1]), tonumber(ARGV[2]), tonumber(ARGV[3]), tonumber(ARGV[4]) "
+            + "local h = redis.call('HMGET', KEYS[1], 'first', 'last', 'max', 'cur') "
+            + "local hFirst, hLast, hMax, hCur = tonumber(h[1]), tonumber(h[2]), tonumber(h[3]), tonumber(h[4]) "
+            + "local start = last - run + 1 "
+            + "if hLast then "
+            + "  local hStart = hLast - (hCur or 1) + 1 "
+            + "  if last > hLast then "
+            + "    if start <= hLast + 1 then start = math.min(start, hStart) end "
+            + "  else "
+            + "    if last >= hStart - 1 then start = math.min(start, hStart) else start = hStart end "
+            + "    last = hLast "
+            + "  end "
+            + "end "
+            + "local cur = last - start + 1 "
+            + "if hFirst and hFirst < first then first = hFirst end "
+            + "max = math.max(max, cur, hMax or 0) "
+            + "redis.call('HSET', KEYS[1], 'first', first, 'last', last, 'max', max, 'cur', cur) "
+            + "return cur").getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AttendanceRepository attendanceRepository;
+
+    @Value("${attendance.bitmap.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean ready = false;
+
+    // ===== 기록 =====
+
+    /**
+     * 출석 1건 반영. 트랜잭션 안이면 커밋 후에 기록(롤백된 출석이 비트맵에 남지 않도록).
+     */
+    public void recordAfterCommit(Long userId, LocalDate date, int streakCount) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId, date, streakCount);
+                }
+            });
+        } else {
+            record(userId, date, streakCount);
+        }
+    }
+
+    private void record(Long userId, LocalDate date, int streakCount) {
+        long offset = offsetOf(date);
+        if (offset < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Object>) conn -> {
+                conn.stringCommands().setBit(bytes(BITMAP_KEY + userId), offset, true);
+                mergeStats(conn, userId, offset, offset, streakCount, 1);
+                return null;
+            });
+        } catch (Exception e) {
+            // 다음 백필에서 복구됨
+            log.warn("Failed to record attendance bitmap for user {} on {}: {}", userId, date, e.getMessage());
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 출석 요약 조회. 비트맵 사용 불가(비활성/백필 전/Redis 오류) 시 empty.
+     */
+    public Optional<Snapshot> snapshot(Long userId, LocalDate today) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(redisTemplate.execute((RedisCallback<Snapshot>) conn -> read(conn, userId, today)));
+        } catch (Exception e) {
+            log.warn("Attendance bitmap read failed for user {}, falling back to DB: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    private Snapshot read(RedisConnection conn, Long userId, LocalDate today) {
+        // Redis 초기화 등으로 마커가 사라졌으면 재백필 전까지 DB 폴백
+        if (!Boolean.TRUE.equals(conn.keyCommands().exists(bytes(READY_KEY)))) {
+            return null;
+        }
+        byte[] key = bytes(BITMAP_KEY + userId);
+        Map<byte[], byte[]> stats = conn.hashCommands().hGetAll(bytes(STATS_KEY + userId));
+        Long last = field(stats, "last");
+        if (last == null) {
+            return Snapshot.EMPTY;
+        }
+        Long first = field(stats, "first");
+        Long max = field(stats, "max");
+        Long cur = field(stats, "cur");
+        if (cur == null) {
+            // cur 도입 전 해시 → 재백필 전까지 DB 폴백
+            return null;
+        }
+
+        Long total = conn.stringCommands().bitCount(key);
+        long todayOffset = offsetOf(today);
+        boolean checkedToday = todayOffset >= 0 && Boolean.TRUE.equals(conn.stringCommands().getBit(key, todayOffset));
+
+        YearMonth month = YearMonth.from(today);
+        long monthFrom = Math.max(0, offsetOf(month.atDay(1)));
+        long monthTo = offsetOf(month.atEndOfMonth());
+        int thisMonth = monthTo < 0 ? 0 : countBits(conn.stringCommands().getRange(key, monthFrom / 8, monthTo / 8),
+            monthFrom - (monthFrom / 8) * 8, monthTo - (monthFrom / 8) * 8);
+
+        int currentStreak = cur.intValue();
+
+        return new Snapshot(
+            total != null ? total.intValue() : 0,
+            currentStreak,
+            max != null ? Math.max(max.intValue(), currentStreak) : currentStreak,
+            thisMonth,
+            checkedToday,
+            first != null ? dateOf(first) : null,
+            dateOf(last)
+        );
+    }
+
+    // ===== 백필 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                ready = true;
+                log.info("Attendance bitmap already built, skipping startup backfill");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Attendance bitmap ready check failed: {}", e.getMessage());
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "${attendance.bitmap.rebuild-cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /** Postgres 출석 기록 → 사용자별 비트맵/요약 OR 병합. 전체 완료 시 ready 마커 설정. */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        int users = 0;
+        try {
+            for (Long userId : attendanceRepository.findDistinctUserIds()) {
+                backfillUser(userId, attendanceRepository.findDatesByUserId(userId));
+                users++;
+            }
+            redisTemplate.opsForValue().set(READY_KEY, "1");
+            ready = true;
+            log.info("Attendance bitmap backfill completed: {} users ({} ms)", users,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Attendance bitmap backfill failed after {} users: {}", users, e.getMessage(), e);
+        }
+    }
+
+    private void backfillUser(Long userId, List<LocalDate> datesAsc) {
+        long first = -1, last = -1, prev = Long.MIN_VALUE;
+        int run = 0, max = 0;
+        byte[] bitmap = null;
+        for (LocalDate d : datesAsc) {
+            long off = offsetOf(d);
+            if (off < 0) {
+                continue;
+            }
+            if (bitmap == null) {
+                bitmap = new byte[(int) (offsetOf(datesAsc.get(datesAsc.size() - 1)) / 8) + 1];
+                first = off;
+            }
+            bitmap[(int) (off / 8)] |= (byte) (0x80 >>> (off % 8));
+            run = off == prev + 1 ? run + 1 : 1;
+            max = Math.max(max, run);
+            prev = off;
+            last = off;
+        }
+        if (bitmap == null) {
+            return;
+        }
+
+        final byte[] bits = bitmap;
+        final long f = first, l = last;
+        final int m = max, r = run;
+        redisTemplate.execute((RedisCallback<Object>) conn -> {
+            byte[] key = bytes(BITMAP_KEY + userId);
+            byte[] tmp = bytes(TMP_KEY + userId);
+            conn.stringCommands().set(tmp, bits);
+            conn.keyCommands().expire(tmp, Duration.ofMinutes(5).toSeconds());
+            conn.stringCommands().bitOp(BitOperation.OR, key, key, tmp);
+            conn.keyCommands().del(tmp);
+            mergeStats(conn, userId, f, l, m, r);
+            return null;
+        });
+    }
+
+    // ===== 내부 유틸 =====
+
+    /** run = last 에서 끝나는 연속 일수 (실시간 기록은 1, 백필은 DB 기준 끝 연속) */
+    private static void mergeStats(RedisConnection conn, Long userId, long first, long last, int maxStreak, int run) {
+        conn.scriptingCommands().eval(MERGE_STATS_SCRIPT, ReturnType.INTEGER, 1,
+            bytes(STATS_KEY + userId), bytes(Long.toString(first)), bytes(Long.toString(last)),
+            bytes(Integer.toString(maxStreak)), bytes(Integer.toString(run)));
+    }
+
+    private static Long field(Map<byte[], byte[]> hash, String name) {
+        if (hash == null) {
+            return null;
+        }
+        for (Map.Entry<byte[], byte[]> e : hash.entrySet()) {
+            if (name.equals(new String(e.getKey(), StandardCharsets.UTF_8))) {
+                return Long.parseLong(new String(e.getValue(), StandardCharsets.UTF_8));
+            }
+        }
+        return null;
+    }
+
+    /** chunk 내 비트 구간 [fromBit, toBit] 의 1 개수 (chunk 밖은 0) */
+    static int countBits(byte[] chunk, long fromBit, long toBit) {
+        if (chunk == null) {
+            return 0;
+        }
+        int count = 0;
+        for (long p = fromBit; p <= toBit; p++) {
+            if (bitAt(chunk, p)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Redis 비트 순서(바이트 내 MSB가 오프셋 0) */
+    private static boolean bitAt(byte[] chunk, long bit) {
+        int idx = (int) (bit / 8);
+        return chunk != null && idx < chunk.length && (chunk[idx] & (0x80 >>> (bit % 8))) != 0;
+    }
+
+    private static long offsetOf(LocalDate date) {
+        return date.toEpochDay() - BASE_EPOCH_DAY;
+    }
+
+    private static LocalDate dateOf(long offset) {
+        return LocalDate.ofEpochDay(BASE_EPOCH_DAY + offset);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 비트맵 기반 출석 요약 */
+    public record Snapshot(int totalDays, int currentStreak, int maxStreak, int thisMonthDays,
+                           boolean checkedToday, LocalDate firstDate, LocalDate lastDate) {
+        static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, false, null, null);
+    }
+}
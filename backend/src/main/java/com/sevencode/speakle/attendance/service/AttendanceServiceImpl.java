@@ -19,6 +19,7 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -32,6 +33,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final RedisTemplate<String, String> redisTemplate;
+    private final AttendanceBitmapStore attendanceBitmapStore;
 
     @Override
     @Transactional
@@ -102,6 +104,9 @@ public class AttendanceServiceImpl implements AttendanceService {
                 // Redis 캐시 설정 (하루 만료)
                 redisTemplate.opsForValue().set(redisKey, "1", 1, TimeUnit.DAYS);
 
+                // 출석 비트맵 반영 (커밋 후)
+                attendanceBitmapStore.recordAfterCommit(userId, today, streakCount);
+
                 log.info("Auto attendance processed for user {} on {}, streak: {}, points: {}",
                     userId, today, streakCount, ATTENDANCE_POINTS);
                 return true;
@@ -124,6 +129,24 @@ public class AttendanceServiceImpl implements AttendanceService {
     public AttendanceResponse getUserAttendance(Long userId) {
         LocalDate today = LocalDate.now();
 
+        // 비트맵 경로: 이력 길이와 무관한 상수 시간 조회
+        Optional<AttendanceBitmapStore.Snapshot> snapshot = attendanceBitmapStore.snapshot(userId, today);
+        if (snapshot.isPresent()) {
+            AttendanceBitmapStore.Snapshot s = snapshot.get();
+            Integer pointsEarnedToday = s.checkedToday()
+                ? attendanceRepository.findByUserIdAndLocalDate(userId, today)
+                    .map(AttendanceEntity::getPointsEarned)
+                    .orElse(0)
+                : 0;
+            return new AttendanceResponse(
+                s.checkedToday(),
+                s.lastDate(),
+                s.currentStreak(),
+                s.totalDays(),
+                pointsEarnedToday
+            );
+        }
+
         // 오늘 출석 여부
         boolean checkedToday = attendanceRepository.existsByUserIdAndLocalDate(userId, today);
 
@@ -158,6 +181,20 @@ public class AttendanceServiceImpl implements AttendanceService {
 
     @Override
     public AttendanceStatsResponse getUserAttendanceStats(Long userId) {
+        // 비트맵 경로: BITCOUNT/월 구간 카운트/역방향 비트 스캔
+        Optional<AttendanceBitmapStore.Snapshot> snapshot = attendanceBitmapStore.snapshot(userId, LocalDate.now());
+        if (snapshot.isPresent()) {
+            AttendanceBitmapStore.Snapshot s = snapshot.get();
+            return new AttendanceStatsResponse(
+                s.totalDays(),
+                s.currentStreak(),
+                s.maxStreak(),
+                s.thisMonthDays(),
+                s.firstDate(),
+                s.lastDate()
+            );
+        }
+
         List<AttendanceEntity> allAttendance = attendanceRepository.findByUserIdOrderByLocalDateDesc(userId);
 
         if (allAttendance.isEmpty()) {
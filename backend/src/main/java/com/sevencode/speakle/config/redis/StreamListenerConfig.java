@@ -3,6 +3,7 @@ package com.sevencode.speakle.config.redis;
 import com.sevencode.speakle.event.consumer.PlaylistEventConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,12 +20,20 @@ public class StreamListenerConfig {
 
 	private final PlaylistEventConsumer playlistEventConsumer;
 
+	// true면 PlaylistEventBatchConsumer 가 직접 XREADGROUP 하므로 컨테이너 구독을 등록하지 않음
+	@Value("${app.events.stream.batch.enabled:false}")
+	private boolean batchConsumerEnabled;
+
 	@Bean
 	public ApplicationRunner streamListenerRunner(
 		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container,
 		String streamConsumerName
 	) {
 		return args -> {
+			if (batchConsumerEnabled) {
+				log.info("배치 컨슈머 모드 - 리스너 컨테이너 구독 생략");
+				return;
+			}
 			log.info("===== StreamListener 초기화 시작 =====");
 
 			container.receive(
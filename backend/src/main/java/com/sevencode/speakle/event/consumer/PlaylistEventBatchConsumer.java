@@ -0,0 +1,258 @@
+package com.sevencode.speakle.event.consumer;
+
+import com.sevencode.speakle.config.redis.RedisStreamsConfig;
+import com.sevencode.speakle.event.exception.EventProcessingException;
+import com.sevencode.speakle.event.publisher.UserEventPublisher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가입 이벤트 배치 컨슈머 (app.events.stream.batch.enabled=true 일 때 리스너 컨테이너 대신 사용)
+ * - XREADGROUP COUNT N BLOCK t 로 최대 N건을 한 번에 읽음
+ * - userId 기준 레인으로 분배 → 레인별 순차, 레인 간 병렬(고정 크기 워커 풀) → 사용자 단위 순서 보장
+ * - 배치 처리 완료 후 다중 ID XACK 1회
+ * - 주기적으로 PEL에서 유휴(min-idle) 초과 항목을 XCLAIM 으로 회수(죽은 컨슈머 메시지 재처리),
+ *   전달 횟수 초과 항목은 DLQ 이동 후 ACK
+ * - 처리 중 예상치 못한 예외가 난 레코드는 ACK 하지 않음 → 재클레임 대상
+ */
+@Slf4j
+@Component
+public class PlaylistEventBatchConsumer {
+
+	private final PlaylistEventConsumer playlistEventConsumer;
+	private final StreamOperations<String, String, String> streamOps;
+	private final String consumerName;
+	private final boolean enabled;
+	private final int batchSize;
+	private final int workers;
+	private final Duration pollTimeout;
+	private final Duration reclaimInterval;
+	private final Duration reclaimMinIdle;
+	private final int maxDeliveries;
+
+	private volatile boolean running = false;
+	private Thread pollerThread;
+	private ExecutorService workerPool;
+	private Instant nextReclaimAt = Instant.EPOCH;
+
+	public PlaylistEventBatchConsumer(
+		PlaylistEventConsumer playlistEventConsumer,
+		RedisTemplate<String, String> redisTemplate,
+		String streamConsumerName,
+		@Value("${app.events.stream.batch.enabled:false}") boolean enabled,
+		@Value("${app.events.stream.batch.size:100}") int batchSize,
+		@Value("${app.events.stream.batch.workers:4}") int workers,
+		@Value("${app.events.stream.batch.poll-timeout:PT2S}") Duration pollTimeout,
+		@Value("${app.events.stream.batch.reclaim-interval:PT30S}") Duration reclaimInterval,
+		@Value("${app.events.stream.batch.reclaim-min-idle:PT60S}") Duration reclaimMinIdle,
+		@Value("${app.events.stream.batch.max-deliveries:5}") int maxDeliveries
+	) {
+		this.playlistEventConsumer = playlistEventConsumer;
+		this.streamOps = redisTemplate.opsForStream();
+		this.consumerName = streamConsumerName;
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.workers = Math.max(1, workers);
+		this.pollTimeout = pollTimeout;
+		this.reclaimInterval = reclaimInterval;
+		this.reclaimMinIdle = reclaimMinIdle;
+		this.maxDeliveries = Math.max(1, maxDeliveries);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/** Consumer Group 생성(ApplicationRunner) 이후 시작 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		if (!enabled || running) {
+			return;
+		}
+		AtomicInteger seq = new AtomicInteger();
+		workerPool = Executors.newFixedThreadPool(workers, r -> {
+			Thread t = new Thread(r, "StreamBatch-" + seq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		running = true;
+		pollerThread = new Thread(this::pollLoop, "StreamBatch-poller");
+		pollerThread.setDaemon(true);
+		pollerThread.start();
+		log.info("Redis Streams 배치 컨슈머 시작 - consumer={}, batchSize={}, workers={}", consumerName, batchSize, workers);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		try {
+			pollerThread.join(pollTimeout.toMillis() + 5000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		workerPool.shutdown();
+		try {
+			workerPool.awaitTermination(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		log.info("Redis Streams 배치 컨슈머 종료 - consumer={}", consumerName);
+	}
+
+	private void pollLoop() {
+		Consumer consumer = Consumer.from(RedisStreamsConfig.GROUP, consumerName);
+		StreamReadOptions options = StreamReadOptions.empty().count(batchSize).block(pollTimeout);
+		StreamOffset<String> offset = StreamOffset.create(UserEventPublisher.STREAM_KEY, ReadOffset.lastConsumed());
+
+		while (running) {
+			try {
+				if (Instant.now().isAfter(nextReclaimAt)) {
+					reclaimStalePending();
+					nextReclaimAt = Instant.now().plus(reclaimInterval);
+				}
+				@SuppressWarnings("unchecked") // StreamOffset 가변 인자(제네릭 배열) 경고만 억제
+				List<MapRecord<String, String, String>> records = streamOps.read(consumer, options, offset);
+				if (records != null && !records.isEmpty()) {
+					processBatch(records);
+				}
+			} catch (Exception e) {
+				if (!running) {
+					break;
+				}
+				log.error("Stream 배치 폴링 오류 - consumer={}", consumerName, e);
+				sleepQuietly(Duration.ofSeconds(1));
+			}
+		}
+	}
+
+	/**
+	 * 배치 처리: userId 레인별 순차, 레인 간 병렬. 완료 후 ACK 대상 ID를 다중 ID XACK 1회로 확인.
+	 * @return ACK 한 건수
+	 */
+	public int processBatch(List<MapRecord<String, String, String>> records) {
+		Map<Integer, List<MapRecord<String, String, String>>> lanes = new LinkedHashMap<>();
+		for (MapRecord<String, String, String> record : records) {
+			lanes.computeIfAbsent(laneOf(record), k -> new ArrayList<>()).add(record);
+		}
+
+		ConcurrentLinkedQueue<RecordId> acked = new ConcurrentLinkedQueue<>();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(lanes.size());
+		for (List<MapRecord<String, String, String>> lane : lanes.values()) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (MapRecord<String, String, String> record : lane) {
+					try {
+						playlistEventConsumer.process(record);
+						acked.add(record.getId());
+					} catch (Exception e) {
+						// 미확인 상태로 PEL에 남김 → reclaim 에서 재처리/DLQ
+						log.error("Stream 레코드 처리 실패(미ACK) - id={}", record.getId().getValue(), e);
+					}
+				}
+			}, workerPool));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		if (acked.isEmpty()) {
+			return 0;
+		}
+		Long count = streamOps.acknowledge(UserEventPublisher.STREAM_KEY, RedisStreamsConfig.GROUP,
+			acked.toArray(RecordId[]::new));
+		log.debug("Stream 배치 처리 완료 - read={}, lanes={}, acked={}", records.size(), lanes.size(), count);
+		return count != null ? count.intValue() : 0;
+	}
+
+	/**
+	 * PEL 회수: 유휴 시간이 reclaim-min-idle 을 넘은 항목을 이 컨슈머로 XCLAIM 후 재처리.
+	 * 전달 횟수가 max-deliveries 이상이면 DLQ 이동 후 ACK.
+	 * (Spring Data Redis 타입 API에 XAUTOCLAIM 이 없어 XPENDING + XCLAIM 조합으로 구현)
+	 */
+	void reclaimStalePending() {
+		PendingMessages pending = streamOps.pending(UserEventPublisher.STREAM_KEY, RedisStreamsConfig.GROUP,
+			Range.unbounded(), batchSize);
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
+
+		List<RecordId> stale = new ArrayList<>();
+		List<RecordId> exhausted = new ArrayList<>();
+		for (PendingMessage pm : pending) {
+			if (pm.getElapsedTimeSinceLastDelivery().compareTo(reclaimMinIdle) < 0) {
+				continue;
+			}
+			(pm.getTotalDeliveryCount() >= maxDeliveries ? exhausted : stale).add(pm.getId());
+		}
+
+		if (!exhausted.isEmpty()) {
+			List<MapRecord<String, String, String>> dead = streamOps.claim(UserEventPublisher.STREAM_KEY,
+				RedisStreamsConfig.GROUP, consumerName, reclaimMinIdle, exhausted.toArray(RecordId[]::new));
+			for (MapRecord<String, String, String> record : dead) {
+				playlistEventConsumer.moveToDlq(record,
+					new EventProcessingException("Max deliveries exceeded (" + maxDeliveries + ")"));
+			}
+			if (!dead.isEmpty()) {
+				streamOps.acknowledge(UserEventPublisher.STREAM_KEY, RedisStreamsConfig.GROUP,
+					dead.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+				log.warn("전달 횟수 초과 메시지 DLQ 이동 - count={}", dead.size());
+			}
+		}
+
+		if (!stale.isEmpty()) {
+			List<MapRecord<String, String, String>> claimed = streamOps.claim(UserEventPublisher.STREAM_KEY,
+				RedisStreamsConfig.GROUP, consumerName, reclaimMinIdle, stale.toArray(RecordId[]::new));
+			if (!claimed.isEmpty()) {
+				log.info("유휴 pending 메시지 회수 - count={}", claimed.size());
+				processBatch(claimed);
+			}
+		}
+	}
+
+	/** userId 기준 레인 (파싱 불가 메시지는 레코드 ID 기준 — 어차피 DLQ 처리) */
+	private int laneOf(MapRecord<String, String, String> record) {
+		Object key;
+		try {
+			key = playlistEventConsumer.parse(record).userId();
+		} catch (Exception e) {
+			key = record.getId().getValue();
+		}
+		return Math.floorMod(key != null ? key.hashCode() : 0, workers);
+	}
+
+	private static void sleepQuietly(Duration d) {
+		try {
+			Thread.sleep(d.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
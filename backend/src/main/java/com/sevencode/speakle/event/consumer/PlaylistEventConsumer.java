@@ -29,24 +29,28 @@ public class PlaylistEventConsumer {
 	private final CustomPlaylistService playlistService;
 	private final FailedMessagePusher failedMessagePusher;
 
+	/** 처리 결과: 정상 처리(또는 멱등 스킵) / 실패하여 DLQ 이동 — 두 경우 모두 원본 ACK 대상 */
+	public enum Outcome {
+		PROCESSED, MOVED_TO_DLQ
+	}
+
 	/** MapRecord<String,String,String> 으로 통일 */
 	public void onMessage(MapRecord<String, String, String> record) {
-		log.info("===== Consumer 메시지 수신됨 =====");
-		log.info("Record ID: {}", record.getId());
-		log.info("Record value: {}", record.getValue());
-		try {
-			var map = record.getValue();
-			var json = map.get("data");
-			if (json == null) {
-				throw new InvalidMessageFormatException("Missing 'data' field in stream message");
-			}
+		if (process(record) == Outcome.PROCESSED) {
+			ack(record);
+		} else {
+			safeAck(record);
+		}
+	}
 
-			UserRegisteredMessage msg;
-			try {
-				msg = objectMapper.readValue(json, UserRegisteredMessage.class);
-			} catch (Exception e) {
-				throw new MessageDeserializationException("Failed to deserialize message", e);
-			}
+	/**
+	 * 메시지 1건 처리 (ACK 제외). 배치 컨슈머는 결과를 모아 다중 ID XACK 1회로 확인.
+	 * 예상하지 못한 예외는 그대로 전파 → ACK 하지 않아 PEL에 남고 재클레임 대상이 됨.
+	 */
+	public Outcome process(MapRecord<String, String, String> record) {
+		log.debug("Consumer 메시지 수신 - id: {}, value: {}", record.getId(), record.getValue());
+		try {
+			UserRegisteredMessage msg = parse(record);
 
 			Long userId = msg.userId();
 			String playlistName = buildDefaultName(msg.username());
@@ -54,8 +58,7 @@ public class PlaylistEventConsumer {
 			// ✅ 멱등 처리: 이미 있으면 건너뜀
 			if (playlistService.hasDefaultPlaylist(userId)) {
 				log.info("[SKIP] 기본 플레이리스트가 이미 존재 - userId={}", userId);
-				ack(record);
-				return;
+				return Outcome.PROCESSED;
 			}
 
 			try {
@@ -64,22 +67,39 @@ public class PlaylistEventConsumer {
 				throw new EventProcessingException("Failed to create default playlist", e);
 			}
 
-			ack(record);
 			log.info("기본 플레이리스트 생성 완료 - userId={}, messageId={}",
 				userId, record.getId().getValue());
+			return Outcome.PROCESSED;
 
 		} catch (InvalidMessageFormatException | MessageDeserializationException | EventProcessingException ex) {
 			log.error("기본 플레이리스트 생성 실패 - messageId: {}, error: {}",
 				record.getId().getValue(), ex.getMessage());
 			// 실패: DLQ로 복사 후 원본도 ACK (XPENDING 방지)
-			try {
-				failedMessagePusher.pushToDlq(record, ex);
-				log.info("실패한 메시지를 DLQ로 이동 완료 - messageId: {}", record.getId().getValue());
-			} catch (Exception dlqEx) {
-				log.error("DLQ 저장 실패 - messageId: {}", record.getId().getValue());
-			} finally {
-				safeAck(record);
-			}
+			moveToDlq(record, ex);
+			return Outcome.MOVED_TO_DLQ;
+		}
+	}
+
+	/** 'data' 필드 역직렬화 */
+	public UserRegisteredMessage parse(MapRecord<String, String, String> record) {
+		var json = record.getValue().get("data");
+		if (json == null) {
+			throw new InvalidMessageFormatException("Missing 'data' field in stream message");
+		}
+		try {
+			return objectMapper.readValue(json, UserRegisteredMessage.class);
+		} catch (Exception e) {
+			throw new MessageDeserializationException("Failed to deserialize message", e);
+		}
+	}
+
+	/** DLQ 이동 (실패해도 예외 전파하지 않음) */
+	public void moveToDlq(MapRecord<String, String, String> record, Exception cause) {
+		try {
+			failedMessagePusher.pushToDlq(record, cause);
+			log.info("실패한 메시지를 DLQ로 이동 완료 - messageId: {}", record.getId().getValue());
+		} catch (Exception dlqEx) {
+			log.error("DLQ 저장 실패 - messageId: {}", record.getId().getValue());
 		}
 	}
 
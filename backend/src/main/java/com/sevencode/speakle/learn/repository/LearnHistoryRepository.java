@@ -11,4 +11,8 @@ public interface LearnHistoryRepository extends JpaRepository<LearnedSongEntity,
 
     @Query("SELECT ls.songId, COUNT(ls) FROM LearnedSongEntity ls WHERE ls.songId IN :songIds GROUP BY ls.songId")
     List<Object[]> countBySongIdIn(@Param("songIds") List<String> songIds);
+
+    // 곡별 학습 횟수 전체 집계 (LearnCountStore 재집계용)
+    @Query("SELECT ls.songId, COUNT(ls) FROM LearnedSongEntity ls WHERE ls.songId IS NOT NULL GROUP BY ls.songId")
+    List<Object[]> countAllBySongId();
 }
\ No newline at end of file
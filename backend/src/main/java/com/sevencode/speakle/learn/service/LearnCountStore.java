@@ -0,0 +1,224 @@
+package com.sevencode.speakle.learn.service;
+
+import com.sevencode.speakle.learn.repository.LearnHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 곡별 학습 횟수 카운터 (Redis 해시 learn:count:song, field = songId)
+ * - 학습곡 저장 시 HINCRBY 1 → 추천 정렬용 조회는 후보 수만큼의 HMGET 1회 (learned_song GROUP BY 대체)
+ * - 원본은 learned_song 테이블: 기동 시(ready 마커 없을 때)와 주기적으로 전체 재집계 후 교체
+ *   · 재집계는 한 번에 한 인스턴스만 (rebuild 마커 SET NX PX, 값 = 실행 ID), 임시 해시는 실행별 키
+ *   · 재집계 중 HINCRBY 는 델타 해시에도 기록 → 교체 Lua 가 델타를 임시 해시에 더한 뒤 RENAME (원자적)
+ *     → 집계 쿼리 이후 저장된 학습이 교체로 사라지지 않음
+ *   · 마커 설정과 집계 쿼리 시작 사이(수 ms)에 저장된 학습만 두 번 셀 수 있음 (다음 재집계에서 보정)
+ * - ready 마커가 없거나(미구축/Redis 초기화) 조회 실패 시 Optional.empty() → 호출부는 DB 집계로 폴백
+ */
+@Slf4j
+@Component
+public class LearnCountStore {
+
+    private static final String COUNT_KEY = "learn:count:song";
+    private static final String TMP_KEY_PREFIX = "learn:count:song:tmp:";
+    private static final String DELTA_KEY = "learn:count:song:delta";
+    private static final String REBUILD_KEY = "learn:count:rebuild";
+    private static final String READY_KEY = "learn:count:ready";
+    private static final int HSET_CHUNK = 1000;
+
+    // 카운터 +1, 재집계 중이면 델타 해시에도 +1. KEYS = [카운터, rebuild 마커, 델타], ARGV = [songId]
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local n = redis.call('hincrby', KEYS[1], ARGV[1], 1) "
+            + "if redis.call('exists', KEYS[2]) == 1 then redis.call('hincrby', KEYS[3], ARGV[1], 1) end "
+            + "return n",
+        Long.class);
+    // 재집계 시작: 마커가 비어 있을 때만 획득 + 이전 델타 정리. KEYS = [rebuild 마커, 델타], ARGV = [실행 ID, ttl(ms)]
+    private static final DefaultRedisScript<Long> BEGIN_SCRIPT = new DefaultRedisScript<>(
+        "if not redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 0 end "
+            + "redis.call('del', KEYS[2]) "
+            + "return 1",
+        Long.class);
+    // 교체: 마커 보유 시에만 델타를 임시 해시에 더하고 RENAME, 마커/델타 삭제 + ready 설정. 반환 = 반영한 델타 곡 수 (-1: 마커 상실)
+    // KEYS = [임시 해시, 카운터, 델타, rebuild 마커, ready], ARGV = [실행 ID]
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[4]) ~= ARGV[1] then redis.call('del', KEYS[1]) return -1 end "
+            + "local d = redis.call('hgetall', KEYS[3]) "
+            + "for i = 1, #d, 2 do redis.call('hincrby', KEYS[1], d[i], d[i + 1]) end "
+            + "if redis.call('exists', KEYS[1]) == 1 then redis.call('rename', KEYS[1], KEYS[2]) "
+            + "else redis.call('del', KEYS[2]) end "
+            + "redis.call('del', KEYS[3], KEYS[4]) "
+            + "redis.call('set', KEYS[5], '1') "
+            + "return #d / 2",
+        Long.class);
+    // 실패 시 정리: 마커 보유 시에만 마커/델타 삭제. KEYS = [rebuild 마커, 델타, 임시 해시], ARGV = [실행 ID]
+    private static final DefaultRedisScript<Long> ABORT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('del', KEYS[3]) "
+            + "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1], KEYS[2]) end "
+            + "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LearnHistoryRepository learnHistoryRepository;
+    private final boolean enabled;
+    private final Duration rebuildTimeout;
+
+    public LearnCountStore(StringRedisTemplate redisTemplate,
+                           LearnHistoryRepository learnHistoryRepository,
+                           @Value("${learn.count.enabled:true}") boolean enabled,
+                           @Value("${learn.count.rebuild-timeout:PT10M}") Duration rebuildTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.learnHistoryRepository = learnHistoryRepository;
+        this.enabled = enabled;
+        this.rebuildTimeout = rebuildTimeout;
+    }
+
+    /** 학습곡 1건 저장됨 (실패해도 학습 저장에는 영향 없음, 재집계에서 보정) */
+    public void recordLearned(String songId) {
+        if (!enabled || songId == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(COUNT_KEY, REBUILD_KEY, DELTA_KEY), songId);
+        } catch (Exception e) {
+            log.warn("Learn count increment failed: songId={}, {}", songId, e.getMessage());
+        }
+    }
+
+    /**
+     * 곡별 학습 횟수 (학습 이력이 없는 곡은 결과에서 제외)
+     * @return 카운터 미구축/조회 실패 시 empty
+     */
+    public Optional<Map<String, Integer>> counts(List<String> songIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (songIds.isEmpty()) {
+            return Optional.of(Map.of());
+        }
+        try {
+            byte[][] fields = songIds.stream().map(LearnCountStore::bytes).toArray(byte[][]::new);
+            // ready 확인 + HMGET 을 파이프라인 1회로
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+                conn.keyCommands().exists(bytes(READY_KEY));
+                conn.hashCommands().hMGet(bytes(COUNT_KEY), fields);
+                return null;
+            });
+            if (!Boolean.TRUE.equals(replies.get(0))) {
+                return Optional.empty();
+            }
+            @SuppressWarnings("unchecked")
+            List<Object> values = (List<Object>) replies.get(1);
+            Map<String, Integer> counts = new HashMap<>(songIds.size() * 2);
+            for (int i = 0; i < songIds.size(); i++) {
+                Object v = values.get(i);
+                if (v != null) {
+                    counts.put(songIds.get(i), Integer.parseInt(v.toString()));
+                }
+            }
+            return Optional.of(counts);
+        } catch (Exception e) {
+            log.warn("Learn count lookup failed, falling back to DB: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ===== 재집계 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                log.info("Learn count hash already built, skipping startup rebuild");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Learn count ready check failed: {}", e.getMessage());
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "${learn.count.reconcile-cron:0 45 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * learned_song 전체 GROUP BY → 실행별 임시 해시 작성 → 재집계 중 델타를 더해 원자적으로 교체, ready 마커 설정
+     * 다른 인스턴스가 재집계 중이면 건너뜀
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        String runId = UUID.randomUUID().toString();
+        String tmpKey = TMP_KEY_PREFIX + runId;
+        try {
+            Long begun = redisTemplate.execute(BEGIN_SCRIPT, List.of(REBUILD_KEY, DELTA_KEY), runId,
+                String.valueOf(rebuildTimeout.toMillis()));
+            if (begun == null || begun == 0L) {
+                log.info("Learn count rebuild already running on another instance, skipping");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Learn count rebuild could not start: {}", e.getMessage(), e);
+            return;
+        }
+        try {
+            List<Object[]> rows = learnHistoryRepository.countAllBySongId();
+            Map<String, String> chunk = new HashMap<>();
+            for (Object[] row : rows) {
+                chunk.put((String)row[0], String.valueOf(row[1]));
+                if (chunk.size() >= HSET_CHUNK) {
+                    writeChunk(tmpKey, chunk);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(tmpKey, chunk);
+            }
+            Long merged = redisTemplate.execute(SWAP_SCRIPT,
+                List.of(tmpKey, COUNT_KEY, DELTA_KEY, REBUILD_KEY, READY_KEY), runId);
+            if (merged == null || merged < 0) {
+                log.warn("Learn count rebuild lost its marker (timeout {}), discarded", rebuildTimeout);
+                return;
+            }
+            log.info("Learn count hash rebuilt: {} songs, {} songs learned during rebuild ({} ms)", rows.size(),
+                merged, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Learn count rebuild failed: {}", e.getMessage(), e);
+            try {
+                redisTemplate.execute(ABORT_SCRIPT, List.of(REBUILD_KEY, DELTA_KEY, tmpKey), runId);
+            } catch (Exception cleanup) {
+                log.warn("Learn count rebuild cleanup failed: {}", cleanup.getMessage());
+            }
+        }
+    }
+
+    // 임시 해시 HSET + 만료(실행이 중단돼도 남지 않도록)
+    private void writeChunk(String tmpKey, Map<String, String> chunk) {
+        redisTemplate.opsForHash().putAll(tmpKey, chunk);
+        redisTemplate.expire(tmpKey, rebuildTimeout);
+        chunk.clear();
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,6 +21,20 @@ public class TranslationUpdateEvent {
     private int completedChunks;
     private TranslationStatus status;
 
+    // 창 단위로 묶어 보낸 PROGRESS (Redis Pub/Sub 1회). 리스너가 청크별 메시지로 풀어서 WebSocket 전송
+    private List<ChunkUpdate> chunks;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkUpdate {
+        private String chunkId;
+        private String english;
+        private String korean;
+        private Long startTimeMs;
+    }
+
     public enum TranslationStatus {
         STARTED,    // 번역 시작
         PROGRESS,   // 진행 중 (개별 청크 완료)
@@ -0,0 +1,57 @@
+package com.sevencode.speakle.parser.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 곡 + 컨텍스트별 파싱 상태 (words/expressions/idioms/sentences 4개 테이블의 요약)
+ * - 키: (song_id, situation_key, location_key), 컨텍스트 null 은 '' 로 저장 (상세 테이블 유니크 인덱스의 COALESCE 와 동일)
+ * - result_json: 4개 카테고리를 조립한 최종 JSON (READY 일 때만 존재) → 조회 시 상세 테이블 미접근
+ * - version: 조립 결과 형식 버전 (LyricsPersistService.RESULT_VERSION 과 다르면 미스로 보고 재조립)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "lyrics_parse_status")
+@IdClass(LyricsParseStatusId.class)
+public class LyricsParseStatusEntity {
+
+	public enum State {
+		PARSING, READY
+	}
+
+	@Id
+	@Column(name = "song_id")
+	private String songId;
+
+	@Id
+	@Column(name = "situation_key", length = 255)
+	private String situationKey;
+
+	@Id
+	@Column(name = "location_key", length = 255)
+	private String locationKey;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "state", nullable = false, length = 16)
+	private State state;
+
+	@Column(name = "version", nullable = false)
+	private Integer version;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "result_json", columnDefinition = "jsonb")
+	private String resultJson;
+
+	@Column(name = "created_at", nullable = false)
+	private OffsetDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.sevencode.speakle.parser.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class LyricsParseStatusId implements Serializable {
+	private String songId;
+	private String situationKey;
+	private String locationKey;
+}
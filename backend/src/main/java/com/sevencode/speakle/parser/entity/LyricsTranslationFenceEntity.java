@@ -0,0 +1,29 @@
+package com.sevencode.speakle.parser.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 곡별 실시간 번역 펜스 (TranslationLease 펜싱 토큰의 DB 측 기준값)
+ * - token: 이 곡의 songs_lyrics.korean 을 마지막으로 쓴 lease 토큰
+ * - LyricChunkBulkRepository.updateKorean 이 같은 문장에서 갱신 + 비교 → 더 작은 토큰(만료된 이전 보유자)의 쓰기는 반영 안 됨
+ * - 스키마만 정의 (읽기/쓰기는 JdbcTemplate)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "lyrics_translation_fence")
+public class LyricsTranslationFenceEntity {
+
+	@Id
+	@Column(name = "song_id")
+	private String songId;
+
+	@Column(name = "token", nullable = false)
+	private Long token;
+}
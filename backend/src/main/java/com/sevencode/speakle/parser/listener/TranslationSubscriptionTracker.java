@@ -0,0 +1,80 @@
+package com.sevencode.speakle.parser.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 곡별 번역 진행 구독자 수 추적 (/topic/translation/{songId}, 이 인스턴스의 STOMP 세션 기준)
+ * - TranslationJobScheduler 가 대기 작업 중 지금 보고 있는 사용자가 있는 곡을 먼저 실행하는 데 사용
+ */
+@Slf4j
+@Component
+public class TranslationSubscriptionTracker {
+
+    private static final String DESTINATION_PREFIX = "/topic/translation/";
+
+    // sessionId → (subscriptionId → songId)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    // songId → 구독 수
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    /** 곡 번역 진행을 구독 중인 사용자가 있는지 */
+    public boolean hasSubscribers(String songId) {
+        AtomicInteger count = counts.get(songId);
+        return count != null && count.get() > 0;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String songId = destination.substring(DESTINATION_PREFIX.length());
+        String previous = sessions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), songId);
+        if (previous == null) {
+            counts.compute(songId, (k, count) -> {
+                AtomicInteger c = count != null ? count : new AtomicInteger();
+                c.incrementAndGet();
+                return c;
+            });
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        decrement(subscriptions.remove(accessor.getSubscriptionId()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private void decrement(String songId) {
+        if (songId == null) {
+            return;
+        }
+        counts.computeIfPresent(songId, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
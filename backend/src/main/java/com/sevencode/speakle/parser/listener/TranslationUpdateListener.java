@@ -30,7 +30,25 @@ public class TranslationUpdateListener implements MessageListener {
 
             // WebSocket으로 특정 songId 구독자들에게 브로드캐스트
             String destination = "/topic/translation/" + event.getSongId();
-            messagingTemplate.convertAndSend(destination, event);
+            if (event.getChunks() != null && !event.getChunks().isEmpty()) {
+                // 묶음 PROGRESS → 기존 클라이언트 형식(청크 1개당 메시지 1개)으로 풀어서 전송
+                int n = event.getChunks().size();
+                for (int i = 0; i < n; i++) {
+                    TranslationUpdateEvent.ChunkUpdate chunk = event.getChunks().get(i);
+                    messagingTemplate.convertAndSend(destination, TranslationUpdateEvent.builder()
+                            .songId(event.getSongId())
+                            .chunkId(chunk.getChunkId())
+                            .english(chunk.getEnglish())
+                            .korean(chunk.getKorean())
+                            .startTimeMs(chunk.getStartTimeMs())
+                            .totalChunks(event.getTotalChunks())
+                            .completedChunks(event.getCompletedChunks() - (n - 1 - i))
+                            .status(event.getStatus())
+                            .build());
+                }
+            } else {
+                messagingTemplate.convertAndSend(destination, event);
+            }
 
             log.debug("[TranslationUpdateListener] WebSocket 메시지 전송 완료 - destination={}, status={}, 진행률: {}/{}",
                     destination, event.getStatus(), event.getCompletedChunks(), event.getTotalChunks());
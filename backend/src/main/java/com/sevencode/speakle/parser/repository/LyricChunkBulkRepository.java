@@ -0,0 +1,78 @@
+package com.sevencode.speakle.parser.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LyricChunkBulkRepository
+ * - 역할: 실시간 번역 결과(songs_lyrics.korean)를 창 단위로 SQL 1회 일괄 반영.
+ * - 경로: UPDATE songs_lyrics SET korean = v.korean FROM (VALUES (?, ?), ...) AS v(id, korean)
+ *   (청크마다 엔터티 save → UPDATE 1회씩 발생하던 경로 대체, 엔터티 조회/더티체킹 없음)
+ * - 펜싱: 곡별 펜스(lyrics_translation_fence)를 같은 문장의 CTE 에서 갱신 + 비교
+ *   WITH fence AS (INSERT ... ON CONFLICT DO UPDATE ... WHERE token <= ? RETURNING token) UPDATE ... FROM ..., fence
+ *   → 더 큰 토큰이 이미 썼으면 fence 가 비어 0행 갱신 (만료된 이전 lease 보유자의 늦은 쓰기 차단, 추가 왕복 없음)
+ * - 트랜잭션: JdbcTemplate은 호출부 트랜잭션이 있으면 참여, 없으면 문장 단위 auto-commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LyricChunkBulkRepository {
+
+	// PostgreSQL 바인드 파라미터 상한(32767) 대비 여유 있게 분할
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 청크별 한국어 번역 일괄 갱신 (펜싱 토큰 검사 포함)
+	 * @param songId 곡 ID (펜스 키, 해당 곡의 청크만 갱신)
+	 * @param token TranslationLease 펜싱 토큰
+	 * @param koreanByChunkId songs_lyrics_id → korean
+	 * @return 갱신된 행 수, 펜스에 더 큰 토큰이 있으면 -1 (아무것도 갱신하지 않음)
+	 */
+	public int updateKorean(String songId, long token, Map<String, String> koreanByChunkId) {
+		if (koreanByChunkId == null || koreanByChunkId.isEmpty())
+			return 0;
+
+		List<Map.Entry<String, String>> entries = new ArrayList<>(koreanByChunkId.entrySet());
+		int updated = 0;
+		for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+			List<Map.Entry<String, String>> slice =
+				entries.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+
+			StringBuilder sql = new StringBuilder(
+				"WITH fence AS (INSERT INTO lyrics_translation_fence (song_id, token) VALUES (?, ?) "
+					+ "ON CONFLICT (song_id) DO UPDATE SET token = EXCLUDED.token "
+					+ "WHERE lyrics_translation_fence.token <= EXCLUDED.token RETURNING token) "
+					+ "UPDATE songs_lyrics AS l SET korean = v.korean FROM fence, (VALUES ");
+			Object[] args = new Object[slice.size() * 2 + 3];
+			args[0] = songId;
+			args[1] = token;
+			for (int i = 0; i < slice.size(); i++) {
+				sql.append(i == 0 ? "" : ", ").append("(CAST(? AS varchar), CAST(? AS text))");
+				args[2 + i * 2] = slice.get(i).getKey();
+				args[2 + i * 2 + 1] = slice.get(i).getValue();
+			}
+			sql.append(") AS v(id, korean) WHERE l.songs_lyrics_id = v.id AND l.song_id = ?");
+			args[args.length - 1] = songId;
+			int rows = jdbcTemplate.update(sql.toString(), args);
+			if (rows == 0 && !isFenceHeld(songId, token)) {
+				return -1;
+			}
+			updated += rows;
+		}
+		return updated;
+	}
+
+	/** 0행 갱신 시 원인 구분: 펜스가 이 토큰 이하면 보유 중 (청크가 사라진 경우 등) */
+	private boolean isFenceHeld(String songId, long token) {
+		Long current = jdbcTemplate.query("SELECT token FROM lyrics_translation_fence WHERE song_id = ?",
+			rs -> rs.next() ? rs.getLong(1) : null, songId);
+		return current == null || current <= token;
+	}
+}
@@ -0,0 +1,167 @@
+package com.sevencode.speakle.parser.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LyricsBulkRepository
+ * - 역할: 파싱 결과(words/expressions/idioms/sentences)를 테이블당 SQL 1회로 일괄 저장.
+ * - 기본 경로: 다중 행 INSERT ... ON CONFLICT DO NOTHING
+ *   · 충돌 대상: (song_id, COALESCE(situation,''), COALESCE(location,''), lower(key)) 함수형 유니크 인덱스
+ *   · 인덱스는 기동 시 CREATE UNIQUE INDEX IF NOT EXISTS 로 보장(ddl-auto는 함수형 인덱스 미지원).
+ * - 폴백 경로: 인덱스 생성 실패(기존 중복 데이터 등) 시 기존 키 1회 조회 → 신규만 JDBC batch INSERT.
+ * - 트랜잭션: JdbcTemplate은 호출부(@Transactional, JPA)의 커넥션에 참여.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class LyricsBulkRepository {
+
+	// PostgreSQL 바인드 파라미터 상한(32767) 대비 여유 있게 분할
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile boolean conflictIndexesReady = false;
+
+	/**
+	 * 대상 테이블 정의: 자연키 컬럼 + 값 컬럼(자연키 포함, 순서대로 바인딩).
+	 * 공통 컬럼(song_id, situation, location, created_at)은 자동 부착.
+	 */
+	public enum Target {
+		WORDS("words", "word", "ux_words_song_ctx_word",
+			"word", "phonetic", "meaning", "pos", "examples", "level", "tags"),
+		EXPRESSIONS("expressions", "expression", "ux_expressions_song_ctx_expression",
+			"expression", "meaning", "context", "examples", "tags", "level"),
+		IDIOMS("idioms", "phrase", "ux_idioms_song_ctx_phrase",
+			"phrase", "meaning", "examples", "level", "tags"),
+		SENTENCES("sentences", "sentence", "ux_sentences_song_ctx_sentence",
+			"sentence", "translation", "tags", "level");
+
+		private final String table;
+		private final String keyColumn;
+		private final String indexName;
+		private final String[] columns;
+
+		Target(String table, String keyColumn, String indexName, String... columns) {
+			this.table = table;
+			this.keyColumn = keyColumn;
+			this.indexName = indexName;
+			this.columns = columns;
+		}
+
+		/** 바인딩 순서의 값 컬럼 목록(첫 번째가 자연키) */
+		public String[] columns() {
+			return columns;
+		}
+
+		private String conflictTarget() {
+			return "(song_id, COALESCE(situation, ''), COALESCE(location, ''), lower(" + keyColumn + "))";
+		}
+	}
+
+	/** 기동 시 함수형 유니크 인덱스 보장. 실패하면 폴백 경로로 동작. */
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureConflictIndexes() {
+		boolean ok = true;
+		for (Target t : Target.values()) {
+			try {
+				jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + t.indexName
+					+ " ON " + t.table + " " + t.conflictTarget());
+			} catch (Exception e) {
+				ok = false;
+				log.warn("Unique index {} on {} unavailable ({}). Bulk save falls back to JDBC batch.",
+					t.indexName, t.table, e.getMessage());
+			}
+		}
+		conflictIndexesReady = ok;
+		log.info("Lyrics bulk upsert mode: {}", ok ? "INSERT ... ON CONFLICT DO NOTHING" : "JDBC batch fallback");
+	}
+
+	/**
+	 * 일괄 저장(중복은 건너뜀). rows는 호출부에서 정규화/배치 내 dedupe 완료된 상태여야 함.
+	 * @param rows 각 원소는 Target.columns() 순서의 값 배열
+	 * @return 실제 삽입된 행 수
+	 */
+	public int insertIgnoringDuplicates(Target target, String songId, String situation, String location,
+		List<Object[]> rows) {
+		if (rows == null || rows.isEmpty())
+			return 0;
+		return conflictIndexesReady
+			? insertOnConflict(target, songId, situation, location, rows)
+			: insertBatchFallback(target, songId, situation, location, rows);
+	}
+
+	// ===== 기본 경로: 다중 행 INSERT ... ON CONFLICT DO NOTHING =====
+
+	private int insertOnConflict(Target t, String songId, String situation, String location, List<Object[]> rows) {
+		int inserted = 0;
+		for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+			List<Object[]> slice = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+
+			String rowPlaceholder = "(?, ?, ?, " + String.join(", ", Collections.nCopies(t.columns.length, "?"))
+				+ ", now())";
+			String sql = insertPrefix(t)
+				+ String.join(", ", Collections.nCopies(slice.size(), rowPlaceholder))
+				+ " ON CONFLICT " + t.conflictTarget() + " DO NOTHING";
+
+			List<Object> args = new ArrayList<>(slice.size() * (t.columns.length + 3));
+			for (Object[] row : slice) {
+				args.add(songId);
+				args.add(situation);
+				args.add(location);
+				Collections.addAll(args, row);
+			}
+			inserted += jdbcTemplate.update(sql, args.toArray());
+		}
+		log.debug("Bulk insert {} rows={} inserted={}", t.table, rows.size(), inserted);
+		return inserted;
+	}
+
+	// ===== 폴백 경로: 기존 키 1회 조회 → 신규만 JDBC batch =====
+
+	private int insertBatchFallback(Target t, String songId, String situation, String location, List<Object[]> rows) {
+		Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT lower(" + t.keyColumn + ") FROM " + t.table
+				+ " WHERE song_id = ? AND situation IS NOT DISTINCT FROM CAST(? AS varchar)"
+				+ " AND location IS NOT DISTINCT FROM CAST(? AS varchar)",
+			String.class, songId, situation, location));
+
+		List<Object[]> batch = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			String key = String.valueOf(row[0]).toLowerCase();
+			if (!existing.add(key))
+				continue;
+			Object[] args = new Object[t.columns.length + 3];
+			args[0] = songId;
+			args[1] = situation;
+			args[2] = location;
+			System.arraycopy(row, 0, args, 3, row.length);
+			batch.add(args);
+		}
+		if (batch.isEmpty())
+			return 0;
+
+		String sql = insertPrefix(t)
+			+ "(?, ?, ?, " + String.join(", ", Collections.nCopies(t.columns.length, "?")) + ", now())";
+		jdbcTemplate.batchUpdate(sql, batch);
+		log.debug("Batch insert {} rows={} inserted={}", t.table, rows.size(), batch.size());
+		return batch.size();
+	}
+
+	private static String insertPrefix(Target t) {
+		return "INSERT INTO " + t.table + " (song_id, situation, location, "
+			+ String.join(", ", t.columns) + ", created_at) VALUES ";
+	}
+}
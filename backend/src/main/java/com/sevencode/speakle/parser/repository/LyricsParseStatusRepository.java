@@ -0,0 +1,38 @@
+package com.sevencode.speakle.parser.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sevencode.speakle.parser.entity.LyricsParseStatusEntity;
+import com.sevencode.speakle.parser.entity.LyricsParseStatusId;
+
+public interface LyricsParseStatusRepository extends JpaRepository<LyricsParseStatusEntity, LyricsParseStatusId> {
+
+	/** READY + 조립 결과 저장 (동시 저장 경합은 ON CONFLICT 로 마지막 쓰기 반영) */
+	@Modifying
+	@Query(value = """
+		INSERT INTO lyrics_parse_status
+			(song_id, situation_key, location_key, state, version, result_json, created_at, updated_at)
+		VALUES (:songId, :situationKey, :locationKey, 'READY', :version, CAST(:resultJson AS jsonb), now(), now())
+		ON CONFLICT (song_id, situation_key, location_key) DO UPDATE
+		SET state = 'READY', version = EXCLUDED.version, result_json = EXCLUDED.result_json, updated_at = now()
+		""", nativeQuery = true)
+	int upsertReady(@Param("songId") String songId, @Param("situationKey") String situationKey,
+		@Param("locationKey") String locationKey, @Param("version") int version,
+		@Param("resultJson") String resultJson);
+
+	/** PARSING 표시 (현재 버전으로 READY 인 행은 덮어쓰지 않음) */
+	@Modifying
+	@Query(value = """
+		INSERT INTO lyrics_parse_status
+			(song_id, situation_key, location_key, state, version, result_json, created_at, updated_at)
+		VALUES (:songId, :situationKey, :locationKey, 'PARSING', :version, NULL, now(), now())
+		ON CONFLICT (song_id, situation_key, location_key) DO UPDATE
+		SET state = 'PARSING', version = EXCLUDED.version, result_json = NULL, updated_at = now()
+		WHERE lyrics_parse_status.state <> 'READY' OR lyrics_parse_status.version <> EXCLUDED.version
+		""", nativeQuery = true)
+	int markParsing(@Param("songId") String songId, @Param("situationKey") String situationKey,
+		@Param("locationKey") String locationKey, @Param("version") int version);
+}
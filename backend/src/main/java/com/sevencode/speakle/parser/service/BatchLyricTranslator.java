@@ -0,0 +1,150 @@
+package com.sevencode.speakle.parser.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sevencode.speakle.support.StatsSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BatchLyricTranslator
+ * - 목적: 줄 단위 순차 번역(줄마다 LLM 호출 1회) 대체 — window-size 줄씩 묶어 1회 호출.
+ * - 요청/응답: 줄 번호(i) 기반 JSON (LyricsParsingService.translateIndexedLines)
+ * - 검증: 응답 줄 수 == 요청 줄 수, 번호 집합 일치(순서 무관, 중복/누락/추가 불가), 원문이 있는 줄은 번역도 비어 있지 않음.
+ *   불일치/오류/타임아웃 시 창을 반으로 나눠 재시도 → 1줄 창도 실패하면 빈 번역으로 방출(호출부에서 건너뜀).
+ * - 병렬: 최대 concurrency 개 창 동시 호출, 완료되는 창부터 방출(순서 무관) → 실시간 진행률 갱신용.
+ */
+@Slf4j
+@Component
+public class BatchLyricTranslator implements StatsSource {
+
+	private final LyricsParsingService lyricsParsingService;
+	private final int windowSize;
+	private final int concurrency;
+	private final Duration windowTimeout;
+
+	// 통계
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong splits = new AtomicLong();
+	private final AtomicLong failedLines = new AtomicLong();
+
+	/** 번역 완료된 창: 입력 목록 기준 줄 위치 → 번역 (실패한 줄은 빈 문자열) */
+	public record Window(Map<Integer, String> translations) {
+	}
+
+	public BatchLyricTranslator(
+		LyricsParsingService lyricsParsingService,
+		@Value("${lyrics.translation.batch.window-size:16}") int windowSize,
+		@Value("${lyrics.translation.batch.concurrency:3}") int concurrency,
+		@Value("${lyrics.translation.batch.window-timeout:PT30S}") Duration windowTimeout) {
+		this.lyricsParsingService = lyricsParsingService;
+		this.windowSize = Math.max(1, windowSize);
+		this.concurrency = Math.max(1, concurrency);
+		this.windowTimeout = windowTimeout;
+	}
+
+	/**
+	 * 영어 줄 목록 일괄 번역
+	 * @return 완료된 창 스트림 (완료 순서대로, 모든 줄은 정확히 한 창에 한 번 포함)
+	 */
+	public Flux<Window> translate(List<String> englishLines, String title, String artists, String album) {
+		List<List<Integer>> windows = new ArrayList<>();
+		for (int from = 0; from < englishLines.size(); from += windowSize) {
+			List<Integer> window = new ArrayList<>();
+			for (int i = from; i < Math.min(from + windowSize, englishLines.size()); i++) {
+				window.add(i);
+			}
+			windows.add(window);
+		}
+		log.info("Batch translation: lines={}, windows={}, windowSize={}, concurrency={}",
+			englishLines.size(), windows.size(), windowSize, concurrency);
+
+		return Flux.fromIterable(windows)
+			.flatMap(window -> translateWindow(englishLines, window, title, artists, album), concurrency);
+	}
+
+	@Override
+	public String statsName() {
+		return "lyrics.translation.batch";
+	}
+
+	@Override
+	public Stats stats() {
+		return new Stats(calls.get(), splits.get(), failedLines.get());
+	}
+
+	/** 창 1개 호출 → 검증 실패 시 반으로 나눠 재귀 재시도 */
+	private Flux<Window> translateWindow(List<String> englishLines, List<Integer> window, String title,
+		String artists, String album) {
+		Map<Integer, String> input = new LinkedHashMap<>();
+		for (int i : window) {
+			input.put(i, englishLines.get(i));
+		}
+		calls.incrementAndGet();
+		return lyricsParsingService.translateIndexedLines(input, title, artists, album)
+			.timeout(windowTimeout)
+			.map(response -> validate(response, input))
+			.onErrorResume(e -> {
+				log.warn("Batch translation window failed (lines {}..{}): {}", window.get(0),
+					window.get(window.size() - 1), e.toString());
+				return Mono.just(Map.of());
+			})
+			.flatMapMany(translated -> {
+				if (!translated.isEmpty()) {
+					return Flux.just(new Window(translated));
+				}
+				if (window.size() == 1) {
+					failedLines.incrementAndGet();
+					return Flux.just(new Window(Map.of(window.get(0), "")));
+				}
+				splits.incrementAndGet();
+				int mid = window.size() / 2;
+				return Flux.merge(
+					translateWindow(englishLines, window.subList(0, mid), title, artists, album),
+					translateWindow(englishLines, window.subList(mid, window.size()), title, artists, album));
+			});
+	}
+
+	/** @return 정렬 일치 시 줄 위치 → 번역, 불일치 시 빈 맵 */
+	private Map<Integer, String> validate(JsonNode response, Map<Integer, String> input) {
+		JsonNode lines = response.path("lines");
+		if (!lines.isArray() || lines.size() != input.size()) {
+			log.warn("Batch translation misaligned: expected {} lines, got {}", input.size(),
+				lines.isArray() ? lines.size() : "none");
+			return Map.of();
+		}
+		Map<Integer, String> out = new LinkedHashMap<>();
+		for (JsonNode item : lines) {
+			JsonNode index = item.path("i");
+			if (!index.canConvertToInt()) {
+				log.warn("Batch translation misaligned: line without index");
+				return Map.of();
+			}
+			int i = index.asInt();
+			String ko = item.path("ko").asText("").trim();
+			String en = input.get(i);
+			if (en == null || out.containsKey(i) || (ko.isEmpty() && !en.isBlank())) {
+				log.warn("Batch translation misaligned: unexpected, duplicate or empty line i={}", i);
+				return Map.of();
+			}
+			out.put(i, ko);
+		}
+		return out;
+	}
+
+	/** 통계 (calls = LLM 호출 수, splits = 재시도 분할 수, failedLines = 1줄 창까지 실패한 줄 수) */
+	public record Stats(long calls, long splits, long failedLines) {
+	}
+}
@@ -2,20 +2,23 @@ package com.sevencode.speakle.parser.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.parser.repository.LyricChunkBulkRepository;
 import com.sevencode.speakle.song.domain.LyricChunk;
 import com.sevencode.speakle.song.repository.LyricChunkRepository;
 import com.sevencode.speakle.parser.dto.TranslationUpdateEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,9 +30,14 @@ public class ContextAwareLyricTranslationService {
     private final LyricChunkRepository lyricChunkRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final BatchLyricTranslator batchLyricTranslator;
+    private final LyricChunkBulkRepository lyricChunkBulkRepository;
+    private final TranslationLease translationLease;
+    private final TranslationJobScheduler translationJobScheduler;
 
-    // 현재 진행 중인 번역 작업 추적 (메모리 기반)
-    private final Set<String> activeTranslations = ConcurrentHashMap.newKeySet();
+    // true: 줄 번호 기반 창 단위 일괄 번역(병렬), false: 청크별 순차 번역
+    @Value("${lyrics.translation.batch.enabled:true}")
+    private boolean batchEnabled;
 
     private static final String REDIS_PREFIX = "lyrics:translation:";
     private static final String REDIS_PUBSUB_CHANNEL = "translation:updates";
@@ -38,18 +46,28 @@ public class ContextAwareLyricTranslationService {
     /**
      * 곡의 모든 청크를 컨텍스트 기반으로 실시간 번역
      * 번역이 완료되는 대로 Redis PubSub으로 실시간 알림
+     * 곡별 Redis lease 를 획득한 인스턴스만 번역, 나머지는 보유자의 Pub/Sub 진행 이벤트를 그대로 전달받음
+     * 작업은 TranslationJobScheduler 전용 스레드에서 실행, 대기열 포화 시 REJECTED + retryAfter 반환
      */
-    public void translateSongChunksRealtime(String songId, String title, String artists, String album) {
+    public TranslationJobScheduler.Admission translateSongChunksRealtime(String songId, String title, String artists, String album) {
         log.info("[ContextAwareLyricTranslation] 실시간 번역 시작 - songId={}, title={}, artists={}", songId, title, artists);
 
-        // 중복 요청 방지
-        if (!activeTranslations.add(songId)) {
-            log.info("⚠️ [중복 요청 차단] 이미 진행 중인 번역 - songId={}", songId);
-            return;
+        // 중복 요청 방지 (인스턴스 간)
+        Optional<TranslationLease.Lease> acquired;
+        try {
+            acquired = translationLease.tryAcquire(songId);
+        } catch (Exception e) {
+            log.error("[ContextAwareLyricTranslation] 번역 lease 획득 실패 - songId={}, error={}", songId, e.getMessage());
+            return TranslationJobScheduler.Admission.rejected(Duration.ofSeconds(5));
         }
+        if (acquired.isEmpty()) {
+            log.info("⚠️ [중복 요청 차단] 다른 인스턴스에서 진행 중인 번역 - songId={}", songId);
+            return TranslationJobScheduler.Admission.duplicate();
+        }
+        TranslationLease.Lease lease = acquired.get();
 
-        CompletableFuture.runAsync(() -> {
-            try {
+        TranslationJobScheduler.Admission admission = translationJobScheduler.submit(songId, () -> {
+            try (lease) {
                 // 1. 기존 청크 조회
                 List<LyricChunk> chunks = lyricChunkRepository.findBySongSongIdOrderByStartTimeMsAsc(songId);
                 if (chunks.isEmpty()) {
@@ -77,43 +95,210 @@ public class ContextAwareLyricTranslationService {
                 }
 
                 // 3. 번역 시작 이벤트 발송
-                publishTranslationEvent(songId, null, TranslationUpdateEvent.TranslationStatus.STARTED, targetChunks.size(), 0);
-
-                // 4. 순차적 번역 (실시간 피드백을 위해)
-                int completedCount = 0;
-                for (LyricChunk chunk : targetChunks) {
-                    try {
-                        translateSingleChunkSync(chunk, title, artists, album, songId, targetChunks.size(), ++completedCount);
-
-                        // 개별 청크 완료 시 DB 저장
-                        if (isNotBlank(chunk.getKorean())) {
-                            lyricChunkRepository.save(chunk);
-                        }
-
-                    } catch (Exception e) {
-                        log.error("[ContextAwareLyricTranslation] 청크 번역 실패 - chunkId={}, error={}", chunk.getSongsLyricsId(), e.getMessage());
-                    }
-                }
+                publishLeaseEvent(songId, TranslationUpdateEvent.TranslationStatus.STARTED, targetChunks.size(), 0, lease);
+
+                // 4. 번역 (창 단위 일괄 또는 순차) - 완료되는 대로 저장 + 진행 이벤트
+                int completedCount = batchEnabled
+                        ? translateInBatches(targetChunks, title, artists, album, songId, lease)
+                        : translateSequentially(targetChunks, title, artists, album, songId, lease);
 
                 // 5. 전체 완료 이벤트 발송
-                publishTranslationEvent(songId, null, TranslationUpdateEvent.TranslationStatus.COMPLETED, targetChunks.size(), completedCount);
+                publishLeaseEvent(songId, TranslationUpdateEvent.TranslationStatus.COMPLETED, targetChunks.size(), completedCount, lease);
                 log.info("[ContextAwareLyricTranslation] 실시간 번역 완료 - songId={}, 완료: {}/{}", songId, completedCount, targetChunks.size());
 
+            } catch (LeaseLostException e) {
+                // 다른 인스턴스가 인수 → 이후 진행/완료 이벤트는 새 보유자가 발송
+                log.warn("[ContextAwareLyricTranslation] 번역 lease 상실로 중단 - songId={}, token={}", songId, lease.token());
             } catch (Exception e) {
                 log.error("[ContextAwareLyricTranslation] 실시간 번역 실패 - songId={}, error={}", songId, e.getMessage(), e);
                 publishTranslationEvent(songId, null, TranslationUpdateEvent.TranslationStatus.ERROR, 0, 0);
-            } finally {
-                // 완료/실패 시 activeTranslations에서 제거
-                activeTranslations.remove(songId);
             }
         });
+        if (!admission.isAccepted()) {
+            // 대기열 포화 → lease 반납 (다른 인스턴스가 받을 수 있도록)
+            lease.close();
+        }
+        return admission;
+    }
+
+    /**
+     * 창 단위 일괄 번역: Redis 캐시 히트(MGET 1회)는 먼저 반영, 나머지는 BatchLyricTranslator 로 N줄씩 병렬 번역
+     * 창 경계마다 왕복 2회로 처리: 펜스 검사 포함 UPDATE ... FROM (VALUES ...) 1회 + lease 검사 포함 캐시 SETEX·묶음 PROGRESS 발행 Lua 1회
+     * 쓰기 직전마다 lease 유효성 확인 + 저장소(DB 펜스, Redis lease 값)가 토큰을 검사, 잃으면 남은 창 호출 취소 후 LeaseLostException
+     * @return 처리 완료 청크 수 (캐시 히트 포함)
+     */
+    private int translateInBatches(List<LyricChunk> targetChunks, String title, String artists, String album,
+                                   String songId, TranslationLease.Lease lease) {
+        int total = targetChunks.size();
+        int completedCount = 0;
+
+        // 캐시 히트 먼저 반영 (MGET 1회)
+        List<String> cacheKeys = targetChunks.stream().map(c -> REDIS_PREFIX + c.getSongsLyricsId()).toList();
+        List<String> cached = redisTemplate.opsForValue().multiGet(cacheKeys);
+        List<LyricChunk> misses = new ArrayList<>();
+        List<LyricChunk> cacheHits = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            LyricChunk chunk = targetChunks.get(i);
+            String hit = cached != null ? cached.get(i) : null;
+            if (isNotBlank(hit)) {
+                chunk.setKorean(hit);
+                cacheHits.add(chunk);
+            } else {
+                misses.add(chunk);
+            }
+        }
+        if (!cacheHits.isEmpty()) {
+            ensureHeld(lease);
+            updateKorean(songId, lease, koreanById(cacheHits));
+            completedCount += cacheHits.size();
+            publishProgressBatch(songId, cacheHits, total, completedCount, Map.of(), lease);
+        }
+        if (misses.isEmpty()) {
+            return completedCount;
+        }
+
+        // 창 단위 번역 (완료 순서대로 이 스레드에서 소비)
+        List<String> englishLines = misses.stream().map(c -> c.getEnglish().trim()).toList();
+        for (BatchLyricTranslator.Window window : batchLyricTranslator
+                .translate(englishLines, title, artists, album)
+                .takeWhile(w -> lease.isValid())
+                .toIterable()) {
+            List<LyricChunk> translated = new ArrayList<>();
+            for (Map.Entry<Integer, String> e : window.translations().entrySet()) {
+                LyricChunk chunk = misses.get(e.getKey());
+                if (isNotBlank(e.getValue())) {
+                    chunk.setKorean(e.getValue());
+                    translated.add(chunk);
+                } else {
+                    log.warn("[ContextAwareLyricTranslation] 청크 번역 실패 - chunkId={}", chunk.getSongsLyricsId());
+                }
+            }
+            if (translated.isEmpty()) {
+                continue;
+            }
+            ensureHeld(lease);
+            Map<String, String> koreanById = koreanById(translated);
+            updateKorean(songId, lease, koreanById);
+            completedCount += translated.size();
+            publishProgressBatch(songId, translated, total, completedCount, cacheEntries(koreanById), lease);
+        }
+        ensureHeld(lease);
+        return completedCount;
+    }
+
+    private static void ensureHeld(TranslationLease.Lease lease) {
+        if (!lease.isValid()) {
+            throw new LeaseLostException();
+        }
+    }
+
+    /** 펜싱 토큰 검사 포함 DB 반영, 더 큰 토큰의 보유자가 이미 썼으면 LeaseLostException */
+    private void updateKorean(String songId, TranslationLease.Lease lease, Map<String, String> koreanById) {
+        if (lyricChunkBulkRepository.updateKorean(songId, lease.token(), koreanById) < 0) {
+            translationLease.rejected(lease);
+            throw new LeaseLostException();
+        }
+    }
+
+    private Map<String, String> koreanById(List<LyricChunk> chunks) {
+        Map<String, String> out = new LinkedHashMap<>();
+        for (LyricChunk chunk : chunks) {
+            out.put(chunk.getSongsLyricsId(), chunk.getKorean());
+        }
+        return out;
+    }
+
+    /** 청크 ID → 번역 캐시 키 */
+    private Map<String, String> cacheEntries(Map<String, String> koreanById) {
+        Map<String, String> out = new LinkedHashMap<>();
+        koreanById.forEach((id, korean) -> out.put(REDIS_PREFIX + id, korean));
+        return out;
+    }
+
+    /**
+     * 창 단위 번역 캐시 저장 + 묶음 PROGRESS 이벤트 (lease 값 검사 포함 Lua 1회, completedChunks = 이 창까지 누적)
+     * lease 를 잃었으면 아무것도 쓰지 않고 LeaseLostException, Redis 오류는 로그만 (DB 반영은 이미 끝남)
+     */
+    private void publishProgressBatch(String songId, List<LyricChunk> chunks, int totalChunks, int completedChunks,
+                                      Map<String, String> cacheEntries, TranslationLease.Lease lease) {
+        boolean held;
+        try {
+            TranslationUpdateEvent event = TranslationUpdateEvent.builder()
+                    .songId(songId)
+                    .totalChunks(totalChunks)
+                    .completedChunks(completedChunks)
+                    .status(TranslationUpdateEvent.TranslationStatus.PROGRESS)
+                    .chunks(chunks.stream()
+                            .map(c -> TranslationUpdateEvent.ChunkUpdate.builder()
+                                    .chunkId(c.getSongsLyricsId())
+                                    .english(c.getEnglish())
+                                    .korean(c.getKorean())
+                                    .startTimeMs(c.getStartTimeMs())
+                                    .build())
+                            .toList())
+                    .build();
+            held = translationLease.writeIfHeld(lease, cacheEntries, Duration.ofHours(REDIS_TTL_HOURS),
+                    REDIS_PUBSUB_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.error("[ContextAwareLyricTranslation] 묶음 캐시/이벤트 발송 실패 - songId={}, error={}", songId, e.getMessage());
+            return;
+        }
+        if (!held) {
+            throw new LeaseLostException();
+        }
+    }
+
+    /** 보유 중일 때만 상태 이벤트 발송 (lease 값 검사 포함 Lua 1회), 잃었으면 LeaseLostException */
+    private void publishLeaseEvent(String songId, TranslationUpdateEvent.TranslationStatus status, int totalChunks,
+                                   int completedChunks, TranslationLease.Lease lease) {
+        boolean held;
+        try {
+            TranslationUpdateEvent event = TranslationUpdateEvent.builder()
+                    .songId(songId)
+                    .totalChunks(totalChunks)
+                    .completedChunks(completedChunks)
+                    .status(status)
+                    .build();
+            held = translationLease.writeIfHeld(lease, Map.of(), Duration.ZERO, REDIS_PUBSUB_CHANNEL,
+                    objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.error("[ContextAwareLyricTranslation] 이벤트 발송 실패 - songId={}, error={}", songId, e.getMessage());
+            return;
+        }
+        if (!held) {
+            throw new LeaseLostException();
+        }
+    }
+
+    /**
+     * 청크별 순차 번역 (lyrics.translation.batch.enabled=false)
+     * @return 처리한 청크 수
+     */
+    private int translateSequentially(List<LyricChunk> targetChunks, String title, String artists, String album,
+                                      String songId, TranslationLease.Lease lease) {
+        int completedCount = 0;
+        for (LyricChunk chunk : targetChunks) {
+            ensureHeld(lease);
+            try {
+                translateSingleChunkSync(chunk, title, artists, album, songId, targetChunks.size(), ++completedCount,
+                        lease);
+
+            } catch (LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("[ContextAwareLyricTranslation] 청크 번역 실패 - chunkId={}, error={}", chunk.getSongsLyricsId(), e.getMessage());
+            }
+        }
+        return completedCount;
     }
 
     /**
      * 실시간 개별 청크 번역 (동기적)
+     * 번역 결과는 펜싱 토큰 검사 포함 DB 반영 후 lease 값 검사 포함 캐시 저장 + 이벤트 발송
      */
     private void translateSingleChunkSync(LyricChunk chunk, String title, String artists, String album,
-                                         String songId, int totalChunks, int completedCount) {
+                                         String songId, int totalChunks, int completedCount,
+                                         TranslationLease.Lease lease) {
         String englishText = chunk.getEnglish().trim();
         if (englishText.isEmpty()) {
             return; // 빈 청크 스킵
@@ -126,8 +311,9 @@ public class ContextAwareLyricTranslationService {
             String cachedTranslation = redisTemplate.opsForValue().get(cacheKey);
             if (isNotBlank(cachedTranslation)) {
                 chunk.setKorean(cachedTranslation);
-                // 캐시 히트도 진행 상황 알림
-                publishTranslationEventWithChunk(songId, chunk, TranslationUpdateEvent.TranslationStatus.PROGRESS, totalChunks, completedCount);
+                // 캐시 히트도 DB 반영 + 진행 상황 알림
+                updateKorean(songId, lease, Map.of(chunk.getSongsLyricsId(), cachedTranslation));
+                publishProgressBatch(songId, List.of(chunk), totalChunks, completedCount, Map.of(), lease);
                 return;
             }
 
@@ -138,16 +324,17 @@ public class ContextAwareLyricTranslationService {
                 log.info("✅ [GPT API 응답] chunkId={}, translation={}", chunk.getSongsLyricsId(), translatedText.substring(0, Math.min(30, translatedText.length())));
                 chunk.setKorean(translatedText);
 
-                // Redis에 캐시 저장
-                redisTemplate.opsForValue().set(cacheKey, translatedText, Duration.ofHours(REDIS_TTL_HOURS));
-
-                // 실시간 번역 완료 이벤트 발송
-                publishTranslationEventWithChunk(songId, chunk, TranslationUpdateEvent.TranslationStatus.PROGRESS, totalChunks, completedCount);
+                // DB 저장 후 Redis 캐시 저장 + 실시간 번역 완료 이벤트 발송
+                updateKorean(songId, lease, Map.of(chunk.getSongsLyricsId(), translatedText));
+                publishProgressBatch(songId, List.of(chunk), totalChunks, completedCount,
+                        Map.of(cacheKey, translatedText), lease);
 
                 log.debug("[ContextAwareLyricTranslation] 번역 완료 - chunkId={}, text={}",
                         chunk.getSongsLyricsId(), translatedText.substring(0, Math.min(20, translatedText.length())));
             }
 
+        } catch (LeaseLostException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[ContextAwareLyricTranslation] 청크 번역 실패 - chunkId={}, error={}",
                     chunk.getSongsLyricsId(), e.getMessage());
@@ -182,14 +369,6 @@ public class ContextAwareLyricTranslationService {
         }
     }
 
-    /**
-     * 청크 정보 포함 번역 이벤트 발송
-     */
-    private void publishTranslationEventWithChunk(String songId, LyricChunk chunk, TranslationUpdateEvent.TranslationStatus status,
-                                                 int totalChunks, int completedChunks) {
-        publishTranslationEvent(songId, chunk, status, totalChunks, completedChunks);
-    }
-
     /**
      * GPT에게 컨텍스트 정보를 포함하여 번역 요청
      */
@@ -230,4 +409,12 @@ public class ContextAwareLyricTranslationService {
     private boolean isNotBlank(String str) {
         return !isBlank(str);
     }
+
+    /** 번역 중 lease 를 잃음 (만료 후 다른 인스턴스가 인수) */
+    private static final class LeaseLostException extends RuntimeException {
+
+        LeaseLostException() {
+            super("translation lease lost", null, false, false);
+        }
+    }
 }
@@ -16,6 +16,7 @@ import com.sevencode.speakle.parser.service.gms.service.GmsClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -23,17 +24,20 @@ import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  *LyricsController.parse(HTTP POST /api/lyrics/parse)
  *   └─▶ LyricsParsingService.parse(rawLyrics)  // ★ 서비스 엔트리 포인트
  *           ├─▶ LyricsPreprocessor.preprocess(...)          // 가사 전처리·청크 분할
  *           ├─▶ buildSchema(), promptManager.lyricsPrompt() // LLM 스키마/프롬프트 준비
- *           ├─▶ (청크 반복) gmsClient.chatWithSchema(...)
+ *           ├─▶ (청크 반복) gmsClient.chatWithSchema(...)     // 순차 또는 병렬(gms.parse.parallel.*)
  *           │        └─▶ LLM JSON 응답 수신(청크 단위)
  *           ├─▶ Accumulator.accumulate(청크 JSON)           // 키 기반 병합/중복 제거
  *           └─▶ Accumulator.toJson()                        // 최종 JSON 반환
@@ -58,6 +62,15 @@ public class LyricsParsingService {
 
 	private static final int TRACE_MAX = 4000;          // 로그 프리뷰 최대 길이(성능/보안 절충)
 
+	@Value("${gms.parse.parallel.enabled:false}")
+	private boolean parallelEnabled;                    // true: 청크 병렬 호출(flatMapSequential)
+
+	@Value("${gms.parse.parallel.concurrency:4}")
+	private int parallelConcurrency;                    // 동시 LLM 호출 상한
+
+	@Value("${gms.parse.parallel.chunk-timeout:PT90S}")
+	private Duration chunkTimeout;                      // 병렬 모드 청크별 타임아웃(초과 시 빈 슬라이스)
+
 	private String clip(String s) {                     // 장문 로그 안전 절단
 		if (s == null)
 			return "";
@@ -96,27 +109,23 @@ public class LyricsParsingService {
 		String schemaName = props.defaults().schemaName();
 		String developerPrompt = buildContextualPrompt(situation, location);
 
-		// 3) 청크 순차 호출(concatMap) → JSON 파싱 → 누산
-		return Flux.fromIterable(chunks)
-			.index()
-			.concatMap(t -> { // 순차 처리(레이트/타임아웃 안정성 우선)
-				long idx = t.getT1() + 1;
-				String chunk = t.getT2();
-				log.info("LLM call for chunk #{} (chars={}, lines≈{}) with context situation={}, location={}",
-					idx, chunk.length(), chunk.lines().count(), situation, location);
-				log.debug("[TRACE] chunk #{} input:\n{}", idx, clip(chunk));
-
-				return gmsClient.chatWithSchema(developerPrompt, chunk, schemaName, schema)
-					.map(jsonText -> {
-						log.debug("[TRACE] chunk #{} response.raw:\n{}", idx, clip(jsonText));
-						try {
-							return objectMapper.readTree(jsonText);
-						} catch (Exception e) {
-							log.warn("Chunk #{} returned non-JSON. Using empty slice.", idx);
-							return emptyResult(); // 비JSON 방어
-						}
-					});
-			})
+		// 3) 청크 호출 → JSON 파싱 → 누산
+		//    - 기본: 순차(concatMap, 레이트/타임아웃 안정성 우선)
+		//    - 병렬 모드: flatMapSequential(동시성 상한) — 결과는 청크 순서대로 방출되어 병합 결과 동일
+		boolean parallel = parallelEnabled && chunks.size() > 1;
+		Flux<Tuple2<Long, String>> indexed = Flux.fromIterable(chunks).index();
+		Flux<JsonNode> slices = parallel
+			? indexed.flatMapSequential(t -> callChunkWithFallback(t.getT1() + 1, t.getT2(),
+				developerPrompt, schemaName, schema, situation, location), Math.max(1, parallelConcurrency))
+			: indexed.concatMap(t -> callChunk(t.getT1() + 1, t.getT2(),
+				developerPrompt, schemaName, schema, situation, location));
+
+		if (parallel) {
+			log.info("Parallel chunk parsing: chunks={}, concurrency={}, chunkTimeout={}",
+				chunks.size(), parallelConcurrency, chunkTimeout);
+		}
+
+		return slices
 			// 4) 병합(자연키 기반 dedupe + 정보 보강)
 			.reduce(new Accumulator(objectMapper), Accumulator::accumulate)
 			// 5) 최종 JSON + CEFR 레벨 정규화(DB 제약 준수)
@@ -131,6 +140,38 @@ public class LyricsParsingService {
 			});
 	}
 
+	/** 단일 청크 LLM 호출 → JSON 파싱(비JSON은 빈 슬라이스) */
+	private Mono<JsonNode> callChunk(long idx, String chunk, String developerPrompt, String schemaName,
+		ObjectNode schema, String situation, String location) {
+		log.info("LLM call for chunk #{} (chars={}, lines≈{}) with context situation={}, location={}",
+			idx, chunk.length(), chunk.lines().count(), situation, location);
+		log.debug("[TRACE] chunk #{} input:\n{}", idx, clip(chunk));
+
+		return gmsClient.chatWithSchema(developerPrompt, chunk, schemaName, schema)
+			.map(jsonText -> {
+				log.debug("[TRACE] chunk #{} response.raw:\n{}", idx, clip(jsonText));
+				try {
+					return objectMapper.readTree(jsonText);
+				} catch (Exception e) {
+					log.warn("Chunk #{} returned non-JSON. Using empty slice.", idx);
+					return emptyResult(); // 비JSON 방어
+				}
+			});
+	}
+
+	/** 병렬 모드용: 청크별 타임아웃 + 실패 시 빈 슬라이스로 대체(다른 청크 결과는 유지) */
+	private Mono<JsonNode> callChunkWithFallback(long idx, String chunk, String developerPrompt, String schemaName,
+		ObjectNode schema, String situation, String location) {
+		final long startedAt = System.nanoTime();
+		return callChunk(idx, chunk, developerPrompt, schemaName, schema, situation, location)
+			.timeout(chunkTimeout)
+			.doOnNext(n -> log.debug("Chunk #{} done in {} ms", idx, (System.nanoTime() - startedAt) / 1_000_000))
+			.onErrorResume(ex -> {
+				log.warn("Chunk #{} failed ({}). Using empty slice.", idx, ex.toString());
+				return Mono.just(emptyResult());
+			});
+	}
+
 	/** parse() + 저장. 기존 데이터 있으면 LLM 스킵 후 DB→JSON 반환. */
 	public Mono<ObjectNode> parseAndSave(String songId, String rawLyrics) {
 		return parseAndSave(songId, rawLyrics, null, null);
@@ -138,17 +179,17 @@ public class LyricsParsingService {
 
 	/** parse() + 저장. situation/location을 포함한 context-aware 파싱 */
 	public Mono<ObjectNode> parseAndSave(String songId, String rawLyrics, String situation, String location) {
-		// JPA I/O는 boundedElastic로 작업분리
-		return Mono.fromCallable(() -> existsWithContext(songId, situation, location))
+		// JPA I/O는 boundedElastic로 작업분리 (준비 여부 + 결과 = lyrics_parse_status PK 1회 조회)
+		return Mono.fromCallable(() -> lyricsPersistService.findParsedWithContext(songId, situation, location))
 			.subscribeOn(Schedulers.boundedElastic())
-			.flatMap(exists -> {
-				if (exists) {
+			.flatMap(stored -> {
+				if (stored.isPresent()) {
 					log.info("songId={}, situation={}, location={} already has parsed rows. Skip LLM.", songId, situation, location);
-					return Mono.fromCallable(() -> loadAsJsonWithContext(songId, situation, location))
-						.subscribeOn(Schedulers.boundedElastic());
+					return Mono.just(stored.get());
 				}
 				// 신규: 파싱 → 저장 → 결과 반환
-				return this.parseWithContext(rawLyrics, situation, location)
+				return markParsing(songId, situation, location)
+					.then(Mono.defer(() -> this.parseWithContext(rawLyrics, situation, location)))
 					.flatMap(parsed ->
 						Mono.fromRunnable(() -> saveAllWithContext(songId, parsed, situation, location))
 							.subscribeOn(Schedulers.boundedElastic())
@@ -282,6 +323,51 @@ public class LyricsParsingService {
 			});
 	}
 
+	/** 줄 번호 기반 번역 스키마: { "lines": [ { "i": <int>, "ko": "<...>" } ] } */
+	private ObjectNode buildIndexedTranslationSchema() {
+		ObjectNode schema = buildTranslationSchema();
+		ObjectNode lineItem = (ObjectNode) schema.path("properties").path("lines").path("items");
+		ObjectNode index = objectMapper.createObjectNode();
+		index.put("type", "integer");
+		((ObjectNode) lineItem.path("properties")).set("i", index);
+		lineItem.set("required", objectMapper.createArrayNode().add("i").add("ko"));
+		return schema;
+	}
+
+	/**
+	 * 줄 번호 기반 번역 호출 (BatchLyricTranslator 전용).
+	 * 입력 { song, lines: [ { i, en } ] } → 응답 원본 JSON { lines: [ { i, ko } ] } (정렬 검증은 호출부 책임).
+	 * 비 JSON 응답은 빈 lines 로 반환 → 호출부에서 정렬 불일치로 처리.
+	 */
+	public Mono<JsonNode> translateIndexedLines(Map<Integer, String> englishLines, String title, String artists,
+		String album) {
+		ObjectNode input = objectMapper.createObjectNode();
+		ObjectNode song = input.putObject("song");
+		song.put("title", title);
+		song.put("artists", artists);
+		song.put("album", album);
+		ArrayNode lines = input.putArray("lines");
+		englishLines.forEach((i, en) -> lines.addObject().put("i", i).put("en", en));
+
+		String schemaName = sanitizeSchemaName(props.defaults().translationSchemaName(), "lyrics_translation_v1")
+			+ "_indexed";
+		log.info("GMS translateIndexedLines call (schemaName='{}', lines={})", schemaName, englishLines.size());
+
+		return gmsClient.chatWithSchema(promptManager.lyricsIndexedTranslationPrompt(), input.toString(),
+				schemaName, buildIndexedTranslationSchema())
+			.map(jsonText -> {
+				log.debug("[TRACE] translateIndexedLines response.raw:\n{}", clip(jsonText));
+				try {
+					return objectMapper.readTree(jsonText);
+				} catch (Exception e) {
+					log.warn("translateIndexedLines returned non-JSON. Treating window as misaligned.");
+					ObjectNode fallback = objectMapper.createObjectNode();
+					fallback.putArray("lines");
+					return fallback;
+				}
+			});
+	}
+
 	/** name은 ^[a-zA-Z0-9_-]+$ 만 허용 → 다른 문자는 '_'로 치환 */
 	private String sanitizeSchemaName(String name, String fallback) {
 		if (name == null || name.isBlank()) return fallback;
@@ -335,85 +421,50 @@ public class LyricsParsingService {
 					new ResponseStatusException(HttpStatus.NOT_FOUND,
 						"해당 songId에 대한 가사가 존재하지 않습니다."))));
 
-		// 1) Context-aware 파싱 데이터 존재 여부 체크
-		Mono<Boolean> existsMono = Mono.fromCallable(() ->
-				existsWithContext(songId, situation, location))
+		// 1) Context-aware 파싱 상태 조회 (lyrics_parse_status PK 1회, READY 면 조립 결과 그대로)
+		Mono<Optional<ObjectNode>> storedMono = Mono.fromCallable(() ->
+				lyricsPersistService.findParsedWithContext(songId, situation, location))
 			.subscribeOn(Schedulers.boundedElastic());
 
-		return existsMono.flatMap(exists -> {
-			if (exists) {
-				log.info("songId={}, situation={}, location={} 이미 파싱 데이터 존재 → LLM 스킵, JPA 재조회 후 조립",
+		return storedMono.flatMap(stored -> {
+			if (stored.isPresent()) {
+				log.info("songId={}, situation={}, location={} 이미 파싱 데이터 존재 → LLM 스킵, 저장된 조립 결과 반환",
 					songId, situation, location);
-				return assembleFromJpaWithContext(songId, situation, location);
+				return Mono.just(stored.get());
 			}
 
-			// 신규: 가사 로딩 → context-aware 파싱 → 저장 → JPA 재조회/조립
+			// 신규: 가사 로딩 → context-aware 파싱 → 저장(같은 트랜잭션에서 조립 결과 기록) → 조립 결과 반환
 			return lyricsMono
 				.flatMap(rawLyrics -> {
 					if (rawLyrics.isBlank()) {
 						return Mono.error(new ResponseStatusException(
 							HttpStatus.BAD_REQUEST, "해당 songId의 가사가 비어 있습니다."));
 					}
-					return parseWithContext(rawLyrics, situation, location);
+					return markParsing(songId, situation, location)
+						.then(Mono.defer(() -> parseWithContext(rawLyrics, situation, location)));
 				})
 				.flatMap(parsed ->
-					Mono.fromRunnable(() -> saveAllWithContext(songId, parsed, situation, location))
+					Mono.fromCallable(() -> saveAllWithContext(songId, parsed, situation, location))
 						.subscribeOn(Schedulers.boundedElastic())
-						.then(assembleFromJpaWithContext(songId, situation, location))
 				);
 		});
 	}
 
-	private Mono<ObjectNode> assembleFromJpaWithContext(String songId, String situation, String location) {
-		return Mono.fromCallable(() -> {
-				ObjectNode root = objectMapper.createObjectNode();
-
-				root.set("words", objectMapper.valueToTree(
-					wordRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-				root.set("expressions", objectMapper.valueToTree(
-					expressionRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-				root.set("idioms", objectMapper.valueToTree(
-					idiomRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-				root.set("sentences", objectMapper.valueToTree(
-					sentenceRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-				return root;
-			})
-			.subscribeOn(Schedulers.boundedElastic());
-	}
-
 	// ===== Context-aware 헬퍼 메서드 =====
 
-	private boolean existsWithContext(String songId, String situation, String location) {
-		return wordRepository.existsBySongIdAndSituationAndLocation(songId, situation, location) ||
-			   expressionRepository.existsBySongIdAndSituationAndLocation(songId, situation, location) ||
-			   idiomRepository.existsBySongIdAndSituationAndLocation(songId, situation, location) ||
-			   sentenceRepository.existsBySongIdAndSituationAndLocation(songId, situation, location);
+	private ObjectNode saveAllWithContext(String songId, ObjectNode parsed, String situation, String location) {
+		return lyricsPersistService.saveAllWithContext(songId, parsed, situation, location);
 	}
 
-	private ObjectNode loadAsJsonWithContext(String songId, String situation, String location) {
-		ObjectNode root = objectMapper.createObjectNode();
-
-		root.set("words", objectMapper.valueToTree(
-			wordRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-		root.set("expressions", objectMapper.valueToTree(
-			expressionRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-		root.set("idioms", objectMapper.valueToTree(
-			idiomRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-		root.set("sentences", objectMapper.valueToTree(
-			sentenceRepository.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
-
-		return root;
-	}
-
-	private void saveAllWithContext(String songId, ObjectNode parsed, String situation, String location) {
-		lyricsPersistService.saveAllWithContext(songId, parsed, situation, location);
+	// 파싱 시작 상태 기록 (실패해도 파싱은 진행)
+	private Mono<Void> markParsing(String songId, String situation, String location) {
+		return Mono.fromRunnable(() -> lyricsPersistService.markParsing(songId, situation, location))
+			.subscribeOn(Schedulers.boundedElastic())
+			.onErrorResume(e -> {
+				log.warn("parse status PARSING mark failed - songId={}: {}", songId, e.getMessage());
+				return Mono.empty();
+			})
+			.then();
 	}
 
 	private String buildContextualPrompt(String situation, String location) {
@@ -520,8 +571,8 @@ public class LyricsParsingService {
 		put("native", "C2");
 	}};
 
-	/** CEFR 외 입력을 보정/제거(DB 제약 충족). 반환: 수정/제거 건수 */
-	private int normalizeLevels(ObjectNode root) {
+	/** CEFR 외 입력을 보정/제거(DB 제약 충족). 반환: 수정/제거 건수 (package-private: JMH 벤치마크 접근용) */
+	static int normalizeLevels(ObjectNode root) {
 		int changed = 0;
 		for (String arrName : new String[] {"words", "expressions", "idioms", "sentences"}) {
 			JsonNode arr = root.get(arrName);
@@ -554,7 +605,7 @@ public class LyricsParsingService {
 		return changed;
 	}
 
-	private String normalizeLevelValue(String v) {
+	private static String normalizeLevelValue(String v) {
 		String s = v.trim();
 		String upper = s.toUpperCase();
 		if (ALLOWED_LEVELS.contains(upper))
@@ -682,7 +733,7 @@ public class LyricsParsingService {
 			}
 		}
 
-		private String joinUnique(String a, String b, String sep) {
+		static String joinUnique(String a, String b, String sep) {
 			boolean A = a == null || a.isBlank(), B = b == null || b.isBlank();
 			if (A && B)
 				return null;
@@ -1,5 +1,6 @@
 package com.sevencode.speakle.parser.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -13,10 +14,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * LyricsPersistService
  * - 역할: 파싱 결과(JSON)를 DB 엔터티로 저장/조회.
- * - 규칙: (songId + 자연키) 중복은 건너뜀, 필수 필드 없으면 저장하지 않음.
+ * - 규칙: (songId + situation + location + 자연키) 중복은 건너뜀, 필수 필드 없으면 저장하지 않음.
+ * - 저장: 배치 내 dedupe(소문자 키, 첫 항목 우선) 후 카테고리별 INSERT ... ON CONFLICT DO NOTHING 1회.
+ * - 상태: 저장과 같은 트랜잭션에서 lyrics_parse_status(곡+컨텍스트별 1행)에 READY + 조립 JSON 기록
+ *   → 준비 여부 확인/결과 조회는 PK 1회 조회 (상세 테이블 exists 4회 + findAll 4회 대체).
+ *   상태 행이 없는 기존 데이터는 첫 조회 시 상세 테이블로 확인 후 상태 행을 채움.
  * - 비고: level 값은 상위 서비스에서 CEFR(A1~C2)로 정규화되어 들어온다고 가정.
  */
 @Slf4j
@@ -29,9 +39,14 @@ public class LyricsPersistService {
 	private final ExpressionRepository exprRepo;
 	private final IdiomRepository idiomRepo;
 	private final SentenceRepository sentRepo;
+	private final LyricsBulkRepository bulkRepo; // 카테고리별 1회 SQL 일괄 저장
+	private final LyricsParseStatusRepository statusRepo; // 곡+컨텍스트별 파싱 상태/조립 결과
 
 	private final ObjectMapper objectMapper; // DB→JSON 역직렬화용
 
+	// 조립 결과(result_json) 형식 버전: 조립 방식이 바뀌면 올려서 기존 캐시 무효화
+	static final int RESULT_VERSION = 1;
+
 	/** 해당 곡에 어떤 카테고리든 기 저장 여부 빠른 확인 */
 	public boolean existsAny(String songId) {
 		return wordRepo.existsBySongId(songId)
@@ -48,6 +63,52 @@ public class LyricsPersistService {
 			|| sentRepo.existsBySongIdAndSituationAndLocation(songId, situation, location);
 	}
 
+	/**
+	 * Context-aware 저장된 파싱 결과 조회
+	 * - 상태 행이 현재 버전 READY 면 result_json 그대로 반환 (PK 1회)
+	 * - 상태 행이 없거나 버전이 다르면 상세 테이블 확인 → 있으면 조립 후 상태 행 기록
+	 * @return 저장된 결과가 없으면 empty
+	 */
+	@Transactional
+	public Optional<ObjectNode> findParsedWithContext(String songId, String situation, String location) {
+		Optional<LyricsParseStatusEntity> status = statusRepo.findById(statusId(songId, situation, location));
+		if (status.isPresent() && status.get().getState() == LyricsParseStatusEntity.State.READY
+			&& status.get().getVersion() == RESULT_VERSION && status.get().getResultJson() != null) {
+			try {
+				return Optional.of((ObjectNode)objectMapper.readTree(status.get().getResultJson()));
+			} catch (Exception e) {
+				log.warn("parse status result unreadable, reassembling - songId={}, situation={}, location={}: {}",
+					songId, situation, location, e.getMessage());
+			}
+		}
+		if (!existsAnyWithContext(songId, situation, location)) {
+			return Optional.empty();
+		}
+		ObjectNode assembled = assembleWithContext(songId, situation, location);
+		markReady(songId, situation, location, assembled);
+		return Optional.of(assembled);
+	}
+
+	/** 파싱 시작 표시 (현재 버전 READY 행은 유지) */
+	@Transactional
+	public void markParsing(String songId, String situation, String location) {
+		statusRepo.markParsing(songId, contextKey(situation), contextKey(location), RESULT_VERSION);
+	}
+
+	/** 상세 테이블 → 응답 JSON 조립 (카테고리별 엔터티 목록 그대로 직렬화) */
+	public ObjectNode assembleWithContext(String songId, String situation, String location) {
+		ObjectNode root = objectMapper.createObjectNode();
+		root.set("words", objectMapper.valueToTree(
+			wordRepo.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
+		root.set("expressions", objectMapper.valueToTree(
+			exprRepo.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
+		root.set("idioms", objectMapper.valueToTree(
+			idiomRepo.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
+		root.set("sentences", objectMapper.valueToTree(
+			sentRepo.findAllBySongIdAndSituationAndLocation(songId, situation, location)));
+		return root;
+	}
+
 	/** DB → 파싱 스키마(JSON) 형태로 재구성하여 반환 (검수/재사용용) */
 	public ObjectNode loadAsJson(String songId) {
 		return loadAsJsonWithContext(songId, null, null);
@@ -136,9 +197,12 @@ public class LyricsPersistService {
 		saveAllWithContext(learnedSongId, parsed, null, null);
 	}
 
-	/** Context-aware 저장 메서드 */
+	/**
+	 * Context-aware 저장 메서드 (상세 4개 테이블 + 파싱 상태 행을 한 트랜잭션으로)
+	 * @return 저장 후 조립한 응답 JSON (상태 행 result_json 과 동일)
+	 */
 	@Transactional
-	public void saveAllWithContext(String learnedSongId, ObjectNode parsed, String situation, String location) {
+	public ObjectNode saveAllWithContext(String learnedSongId, ObjectNode parsed, String situation, String location) {
 		log.info("[DEBUG] saveAllWithContext called - songId={}, situation={}, location={}",
 			learnedSongId, situation, location);
 		log.debug("[DEBUG] situation is null? {}, location is null? {}",
@@ -148,6 +212,28 @@ public class LyricsPersistService {
 		saveExpressionsWithContext(learnedSongId, parsed.withArray("expressions"), situation, location);
 		saveIdiomsWithContext(learnedSongId, parsed.withArray("idioms"), situation, location);
 		saveSentencesWithContext(learnedSongId, parsed.withArray("sentences"), situation, location);
+
+		ObjectNode assembled = assembleWithContext(learnedSongId, situation, location);
+		markReady(learnedSongId, situation, location, assembled);
+		return assembled;
+	}
+
+	private void markReady(String songId, String situation, String location, ObjectNode assembled) {
+		try {
+			statusRepo.upsertReady(songId, contextKey(situation), contextKey(location), RESULT_VERSION,
+				objectMapper.writeValueAsString(assembled));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("parse status result serialization failed: songId=" + songId, e);
+		}
+	}
+
+	private static LyricsParseStatusId statusId(String songId, String situation, String location) {
+		return new LyricsParseStatusId(songId, contextKey(situation), contextKey(location));
+	}
+
+	// 상세 테이블 유니크 인덱스의 COALESCE(situation,'') 와 같은 규칙
+	private static String contextKey(String s) {
+		return s == null ? "" : s;
 	}
 
 	/** key: (songId + word, 대소문자 무시). meaning 없으면 저장 안 함. */
@@ -160,30 +246,18 @@ public class LyricsPersistService {
 		log.debug("[DEBUG] saveWordsWithContext - songId={}, situation={}, location={}, words count={}",
 			songId, situation, location, arr.size());
 
+		Map<String, Object[]> rows = new LinkedHashMap<>();
 		for (JsonNode n : arr) {
 			String word = text(n, "word");
-			if (isBlank(word))
-				continue;
-			if (wordRepo.findBySongIdAndWordIgnoreCase(songId, word).isPresent())
+			String meaning = text(n, "meaning");
+			if (isBlank(word) || isBlank(meaning))
 				continue;
-
-			WordEntity e = new WordEntity();
-			e.setSongId(songId);
-			e.setSituation(situation);
-			e.setLocation(location);
-
-			log.trace("[DEBUG] Saving word entity - word={}, situation={}, location={}",
-				word, e.getSituation(), e.getLocation());
-			e.setWord(word);
-			e.setPhonetic(text(n, "phonetic"));
-			e.setMeaning(text(n, "meaning"));
-			e.setPos(text(n, "pos"));
-			e.setExamples(text(n, "examples"));
-			e.setLevel(text(n, "level"));   // CEFR(A1~C2) 가정
-			e.setTags(text(n, "tags"));
-			if (!isBlank(e.getMeaning()))
-				wordRepo.save(e);
+			rows.putIfAbsent(word.toLowerCase(), new Object[] {
+				word, text(n, "phonetic"), meaning, text(n, "pos"),
+				text(n, "examples"), text(n, "level"), text(n, "tags")}); // level: CEFR(A1~C2) 가정
 		}
+		bulkRepo.insertIgnoringDuplicates(LyricsBulkRepository.Target.WORDS,
+			songId, situation, location, new ArrayList<>(rows.values()));
 	}
 
 	/** key: (songId + expression). meaning 없으면 저장 안 함. */
@@ -193,26 +267,18 @@ public class LyricsPersistService {
 
 	/** Context-aware expressions 저장 */
 	private void saveExpressionsWithContext(String songId, ArrayNode arr, String situation, String location) {
+		Map<String, Object[]> rows = new LinkedHashMap<>();
 		for (JsonNode n : arr) {
 			String exp = text(n, "expression");
-			if (isBlank(exp))
-				continue;
-			if (exprRepo.findBySongIdAndExpressionIgnoreCase(songId, exp).isPresent())
+			String meaning = text(n, "meaning");
+			if (isBlank(exp) || isBlank(meaning))
 				continue;
-
-			ExpressionEntity e = new ExpressionEntity();
-			e.setSongId(songId);
-			e.setSituation(situation);
-			e.setLocation(location);
-			e.setExpression(exp);
-			e.setMeaning(text(n, "meaning"));
-			e.setContext(text(n, "context"));
-			e.setExamples(text(n, "examples"));
-			e.setTags(text(n, "tags"));
-			e.setLevel(text(n, "level"));   // CEFR(A1~C2) 가정
-			if (!isBlank(e.getMeaning()))
-				exprRepo.save(e);
+			rows.putIfAbsent(exp.toLowerCase(), new Object[] {
+				exp, meaning, text(n, "context"), text(n, "examples"),
+				text(n, "tags"), text(n, "level")});
 		}
+		bulkRepo.insertIgnoringDuplicates(LyricsBulkRepository.Target.EXPRESSIONS,
+			songId, situation, location, new ArrayList<>(rows.values()));
 	}
 
 	/** key: (songId + phrase). meaning 없으면 저장 안 함. */
@@ -222,25 +288,17 @@ public class LyricsPersistService {
 
 	/** Context-aware idioms 저장 */
 	private void saveIdiomsWithContext(String songId, ArrayNode arr, String situation, String location) {
+		Map<String, Object[]> rows = new LinkedHashMap<>();
 		for (JsonNode n : arr) {
 			String phrase = text(n, "phrase");
-			if (isBlank(phrase))
-				continue;
-			if (idiomRepo.findBySongIdAndPhraseIgnoreCase(songId, phrase).isPresent())
+			String meaning = text(n, "meaning");
+			if (isBlank(phrase) || isBlank(meaning))
 				continue;
-
-			IdiomEntity e = new IdiomEntity();
-			e.setSongId(songId);
-			e.setSituation(situation);
-			e.setLocation(location);
-			e.setPhrase(phrase);
-			e.setMeaning(text(n, "meaning"));
-			e.setExamples(text(n, "examples"));
-			e.setLevel(text(n, "level"));   // CEFR(A1~C2) 가정
-			e.setTags(text(n, "tags"));
-			if (!isBlank(e.getMeaning()))
-				idiomRepo.save(e);
+			rows.putIfAbsent(phrase.toLowerCase(), new Object[] {
+				phrase, meaning, text(n, "examples"), text(n, "level"), text(n, "tags")});
 		}
+		bulkRepo.insertIgnoringDuplicates(LyricsBulkRepository.Target.IDIOMS,
+			songId, situation, location, new ArrayList<>(rows.values()));
 	}
 
 	/** key: (songId + sentence). translation 없으면 저장 안 함. */
@@ -250,24 +308,17 @@ public class LyricsPersistService {
 
 	/** Context-aware sentences 저장 */
 	private void saveSentencesWithContext(String songId, ArrayNode arr, String situation, String location) {
+		Map<String, Object[]> rows = new LinkedHashMap<>();
 		for (JsonNode n : arr) {
 			String sentence = text(n, "sentence");
-			if (isBlank(sentence))
-				continue;
-			if (sentRepo.findBySongIdAndSentenceIgnoreCase(songId, sentence).isPresent())
+			String translation = text(n, "translation"); // 문장 카테고리는 번역이 핵심
+			if (isBlank(sentence) || isBlank(translation))
 				continue;
-
-			SentenceEntity e = new SentenceEntity();
-			e.setSongId(songId);
-			e.setSituation(situation);
-			e.setLocation(location);
-			e.setSentence(sentence);
-			e.setTranslation(text(n, "translation")); // 문장 카테고리는 번역이 핵심
-			e.setTags(text(n, "tags"));
-			e.setLevel(text(n, "level"));             // CEFR(A1~C2) 가정
-			if (!isBlank(e.getTranslation()))
-				sentRepo.save(e);
+			rows.putIfAbsent(sentence.toLowerCase(), new Object[] {
+				sentence, translation, text(n, "tags"), text(n, "level")});
 		}
+		bulkRepo.insertIgnoringDuplicates(LyricsBulkRepository.Target.SENTENCES,
+			songId, situation, location, new ArrayList<>(rows.values()));
 	}
 
 	// JSON 헬퍼
@@ -49,8 +49,8 @@ public class LyricsPreprocessor {
 		return splitLyrics(cleaned);
 	}
 
-	// ===== Clean =====
-	private static String clean(String lyrics) {
+	// ===== Clean ===== (package-private: JMH 벤치마크 접근용)
+	static String clean(String lyrics) {
 		if (lyrics == null)
 			return null;
 
@@ -88,8 +88,8 @@ public class LyricsPreprocessor {
 		return lyrics;
 	}
 
-	// ===== Split (스탠자 우선, 목표 행/문자 초과 시 롤오버) =====
-	private static List<String> splitLyrics(String lyrics) {
+	// ===== Split (스탠자 우선, 목표 행/문자 초과 시 롤오버) ===== (package-private: JMH 벤치마크 접근용)
+	static List<String> splitLyrics(String lyrics) {
 		List<String> stanzas = splitByBlankLines(lyrics);
 
 		List<String> chunks = new ArrayList<>();
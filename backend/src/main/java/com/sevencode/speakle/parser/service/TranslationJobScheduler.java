@@ -0,0 +1,222 @@
+package com.sevencode.speakle.parser.service;
+
+import com.sevencode.speakle.parser.listener.TranslationSubscriptionTracker;
+import com.sevencode.speakle.support.StatsSource;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TranslationJobScheduler
+ * - 목적: 실시간 가사 번역 작업을 공용 ForkJoinPool(CompletableFuture.runAsync 기본) 대신 전용 스레드에서 실행.
+ *   번역 작업은 LLM 응답을 블로킹 대기하므로 공용 풀에서 돌면 다른 사용자(parallel stream 등)까지 굶게 됨.
+ * - 구성:
+ *   · 전용 고정 크기 풀(threads) + bounded 대기열(queue-capacity)
+ *   · 우선순위: 꺼낼 때 판단 — 지금 WebSocket 으로 진행을 구독 중인 곡 우선, 그 안에서는 먼저 들어온 순.
+ *     (클라이언트는 곡 상세 응답 후 구독하므로 넣을 때가 아니라 꺼낼 때 구독 여부를 봄, 대기열이 작아 선형 탐색)
+ *   · 대기열 포화 시 즉시 거절 + Retry-After 힌트(대기 작업 수 / 스레드 수 × 평균 실행 시간)
+ * - 통계: 대기열 길이, 접수/거절/완료/실패 수, 대기 시간·실행 시간 평균/최대 (StatsReporter 주기 로그로 노출).
+ */
+@Slf4j
+@Component
+public class TranslationJobScheduler implements StatsSource {
+
+	private static final Duration MIN_RETRY_AFTER = Duration.ofSeconds(1);
+	private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+	private final TranslationSubscriptionTracker subscriptionTracker;
+	private final int threads;
+	private final int queueCapacity;
+	private final ExecutorService workers;
+
+	private final Deque<Job> pending = new ArrayDeque<>();
+
+	// 통계
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong prioritized = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong totalRunNanos = new AtomicLong();
+	private final AtomicLong maxRunNanos = new AtomicLong();
+
+	/** 접수 결과 (REJECTED 면 retryAfter 이후 재시도 권장) */
+	public record Admission(Status status, Duration retryAfter) {
+
+		public enum Status {
+			ACCEPTED, DUPLICATE, REJECTED
+		}
+
+		public static Admission accepted() {
+			return new Admission(Status.ACCEPTED, Duration.ZERO);
+		}
+
+		public static Admission duplicate() {
+			return new Admission(Status.DUPLICATE, Duration.ZERO);
+		}
+
+		public static Admission rejected(Duration retryAfter) {
+			return new Admission(Status.REJECTED, retryAfter);
+		}
+
+		public boolean isAccepted() {
+			return status == Status.ACCEPTED;
+		}
+	}
+
+	public TranslationJobScheduler(
+		TranslationSubscriptionTracker subscriptionTracker,
+		@Value("${lyrics.translation.scheduler.threads:4}") int threads,
+		@Value("${lyrics.translation.scheduler.queue-capacity:64}") int queueCapacity) {
+		this.subscriptionTracker = subscriptionTracker;
+		this.threads = Math.max(1, threads);
+		this.queueCapacity = Math.max(1, queueCapacity);
+		AtomicInteger threadNo = new AtomicInteger();
+		// 실행 토큰 큐: 접수된 작업 1건당 runNext 1건 (실제 대기열 상한은 pending 에서 관리)
+		this.workers = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(), r -> {
+				Thread t = new Thread(r, "Translate-" + threadNo.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			});
+	}
+
+	/**
+	 * 번역 작업 접수
+	 * @return ACCEPTED 또는 대기열 포화 시 REJECTED(retryAfter)
+	 */
+	public Admission submit(String songId, Runnable task) {
+		Job job = new Job(songId, task, System.nanoTime());
+		int depth;
+		synchronized (pending) {
+			// 쉬는 스레드가 있으면 곧바로 꺼내지므로 pending 크기 = 실행을 기다리는 작업 수
+			if (pending.size() >= queueCapacity) {
+				depth = pending.size();
+				job = null;
+			} else {
+				pending.addLast(job);
+				depth = pending.size();
+			}
+		}
+		if (job == null) {
+			rejected.incrementAndGet();
+			Duration retryAfter = retryAfter(depth);
+			log.warn("Translation job rejected: songId={}, queued={}, retryAfter={}s", songId, depth,
+				retryAfter.toSeconds());
+			return Admission.rejected(retryAfter);
+		}
+		submitted.incrementAndGet();
+		try {
+			workers.execute(this::runNext);
+		} catch (RejectedExecutionException e) {
+			// 종료 중
+			synchronized (pending) {
+				pending.remove(job);
+			}
+			rejected.incrementAndGet();
+			return Admission.rejected(MAX_RETRY_AFTER);
+		}
+		return Admission.accepted();
+	}
+
+	@Override
+	public String statsName() {
+		return "translation.scheduler";
+	}
+
+	@Override
+	public Stats stats() {
+		int depth;
+		synchronized (pending) {
+			depth = pending.size();
+		}
+		long done = completed.get() + failed.get();
+		return new Stats(depth, submitted.get(), rejected.get(), completed.get(), failed.get(), prioritized.get(),
+			done == 0 ? 0L : totalWaitNanos.get() / done / 1_000_000, maxWaitNanos.get() / 1_000_000,
+			done == 0 ? 0L : totalRunNanos.get() / done / 1_000_000, maxRunNanos.get() / 1_000_000);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+		log.info("Translation job scheduler stopped => stats={}", stats());
+	}
+
+	private void runNext() {
+		Job job = takeNext();
+		if (job == null) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		record(totalWaitNanos, maxWaitNanos, startedAt - job.enqueuedAt);
+		try {
+			job.task.run();
+			completed.incrementAndGet();
+		} catch (Throwable t) {
+			failed.incrementAndGet();
+			log.error("Translation job failed: songId={}, {}", job.songId, t.getMessage(), t);
+		} finally {
+			record(totalRunNanos, maxRunNanos, System.nanoTime() - startedAt);
+		}
+	}
+
+	/** 구독자가 있는 곡 중 가장 먼저 들어온 작업, 없으면 가장 먼저 들어온 작업 */
+	private Job takeNext() {
+		synchronized (pending) {
+			Iterator<Job> it = pending.iterator();
+			for (int pos = 0; it.hasNext(); pos++) {
+				Job job = it.next();
+				if (subscriptionTracker.hasSubscribers(job.songId)) {
+					it.remove();
+					if (pos > 0) {
+						prioritized.incrementAndGet();
+					}
+					return job;
+				}
+			}
+			return pending.pollFirst();
+		}
+	}
+
+	private Duration retryAfter(int depth) {
+		long done = completed.get() + failed.get();
+		long avgRunNanos = done == 0 ? MAX_RETRY_AFTER.toNanos() / 2 : totalRunNanos.get() / done;
+		long rounds = (depth + threads) / threads;
+		Duration estimate = Duration.ofNanos(avgRunNanos * rounds);
+		if (estimate.compareTo(MIN_RETRY_AFTER) < 0) {
+			return MIN_RETRY_AFTER;
+		}
+		return estimate.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : estimate;
+	}
+
+	private static void record(AtomicLong total, AtomicLong max, long nanos) {
+		total.addAndGet(nanos);
+		max.accumulateAndGet(nanos, Math::max);
+	}
+
+	private record Job(String songId, Runnable task, long enqueuedAt) {
+	}
+
+	/** 스케줄러 통계 (시간 단위 ms, prioritized = 구독자 우선으로 앞선 작업을 추월한 수) */
+	public record Stats(int queued, long submitted, long rejected, long completed, long failed, long prioritized,
+						long avgWaitMs, long maxWaitMs, long avgRunMs, long maxRunMs) {
+	}
+}
@@ -0,0 +1,267 @@
+package com.sevencode.speakle.parser.service;
+
+import com.sevencode.speakle.support.StatsSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TranslationLease
+ * - 목적: 곡 단위 실시간 번역 중복 방지를 인스턴스 간으로 확장 (기존 JVM 내 activeTranslations Set 대체).
+ * - 획득: lease 가 비어 있을 때만 펜싱 토큰 발급(곡별 단조 증가) + SET lease PX ttl, 값 = "인스턴스ID:토큰" (Lua 1회).
+ *   토큰 = max(이전 토큰 + 1, 현재 시각 ms) → Redis 데이터가 유실돼도 DB 펜스에 남은 토큰보다 작아지지 않음.
+ *   실패 = 다른 인스턴스(또는 같은 인스턴스의 다른 작업)가 보유 중 → 호출부는 작업을 시작하지 않음(follower).
+ *   follower 의 클라이언트는 Redis Pub/Sub(translation:updates)로 보유자의 진행 이벤트를 그대로 받음.
+ * - 갱신: 전용 단일 스레드가 renew-interval 마다 보유 중인 lease 를 값 비교 후 PEXPIRE (Lua).
+ *   (공용 @Scheduled 풀의 긴 작업에 밀려 갱신이 늦어지지 않도록 분리) 값이 다르면(만료 후 인수됨) 잃은 것으로 표시.
+ * - 인수: 보유자가 죽으면 갱신이 멈추고 PX 만료 → 다음 요청이 새 토큰으로 획득.
+ * - 유효성: 마지막 갱신 성공 시각 + ttl - safety 이전이고 잃지 않았을 때만 유효 → 작업자는 쓰기 직전 확인(추가 왕복 없음).
+ * - 펜싱(쓰기 시점 강제): 로컬 유효성 확인만으로는 GC 정지 등으로 만료된 보유자의 쓰기를 막지 못하므로 저장소가 직접 거부.
+ *   · Redis: writeIfHeld — lease 값 비교 후 번역 캐시 SETEX + 진행 이벤트 PUBLISH (Lua 1회, 원자적)
+ *   · DB: LyricChunkBulkRepository.updateKorean(songId, token, ...) — 곡별 펜스(lyrics_translation_fence)보다
+ *     작은 토큰의 UPDATE 는 반영하지 않음
+ * - 해제: 값 비교 후 DEL (Lua) → 인수한 다른 보유자의 lease 를 지우지 않음.
+ */
+@Slf4j
+@Component
+public class TranslationLease implements StatsSource {
+
+	private static final String LEASE_PREFIX = "lyrics:translation:lease:";
+	private static final String FENCE_PREFIX = "lyrics:translation:fence:";
+
+	// lease 가 비어 있을 때만 토큰 발급 + 획득, 반환 = 토큰 (보유자가 있으면 0)
+	private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('exists', KEYS[1]) == 1 then return 0 end "
+			+ "local token = math.max(tonumber(redis.call('get', KEYS[2]) or '0') + 1, tonumber(ARGV[2])) "
+			+ "redis.call('set', KEYS[2], string.format('%d', token)) "
+			+ "redis.call('set', KEYS[1], ARGV[1] .. ':' .. string.format('%d', token), 'PX', ARGV[3]) "
+			+ "return token",
+		Long.class);
+	// 값이 같을 때만 캐시 SETEX + PUBLISH. KEYS = [lease, 캐시 키...], ARGV = [lease 값, ttl(초), 채널, 메시지, 캐시 값...]
+	private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end "
+			+ "for i = 2, #KEYS do redis.call('set', KEYS[i], ARGV[i + 3], 'EX', ARGV[2]) end "
+			+ "if ARGV[4] ~= '' then redis.call('publish', ARGV[3], ARGV[4]) end "
+			+ "return 1",
+		Long.class);
+	// 값이 같을 때만 만료 연장 / 삭제
+	private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+	private final Duration safety;
+	private final Duration renewInterval;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "TranslationLease-renew");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// 이 인스턴스가 보유 중인 lease (songId → Lease)
+	private final ConcurrentHashMap<String, Lease> held = new ConcurrentHashMap<>();
+
+	// 통계
+	private final AtomicLong acquired = new AtomicLong();
+	private final AtomicLong contended = new AtomicLong();
+	private final AtomicLong lost = new AtomicLong();
+	private final AtomicLong fencedWrites = new AtomicLong();
+
+	public TranslationLease(
+		StringRedisTemplate redisTemplate,
+		@Value("${lyrics.translation.lease.ttl-ms:30000}") long ttlMs,
+		@Value("${lyrics.translation.lease.safety-ms:2000}") long safetyMs,
+		@Value("${lyrics.translation.lease.renew-interval-ms:10000}") long renewIntervalMs) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofMillis(ttlMs);
+		this.safety = Duration.ofMillis(safetyMs);
+		this.renewInterval = Duration.ofMillis(renewIntervalMs);
+	}
+
+	@PostConstruct
+	void startRenewer() {
+		renewer.scheduleWithFixedDelay(this::renewHeld, renewInterval.toMillis(), renewInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stopRenewer() {
+		renewer.shutdownNow();
+	}
+
+	/**
+	 * 곡 번역 lease 획득 시도
+	 * @return 획득 시 Lease, 이미 보유자가 있으면 empty
+	 */
+	public Optional<Lease> tryAcquire(String songId) {
+		long requestedAt = System.nanoTime();
+		Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEASE_PREFIX + songId, FENCE_PREFIX + songId),
+			instanceId, String.valueOf(System.currentTimeMillis()), String.valueOf(ttl.toMillis()));
+		if (token == null || token <= 0L) {
+			contended.incrementAndGet();
+			log.info("Translation lease held elsewhere: songId={}, holder={}", songId, holder(songId).orElse("-"));
+			return Optional.empty();
+		}
+		Lease lease = new Lease(songId, token, instanceId + ":" + token);
+		lease.validUntilNanos = requestedAt + ttl.minus(safety).toNanos();
+		held.put(songId, lease);
+		acquired.incrementAndGet();
+		log.info("Translation lease acquired: songId={}, token={}", songId, token);
+		return Optional.of(lease);
+	}
+
+	/** 현재 보유자 ("인스턴스ID:토큰"), 없으면 empty */
+	public Optional<String> holder(String songId) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(LEASE_PREFIX + songId));
+	}
+
+	/**
+	 * lease 를 보유 중일 때만 번역 캐시 저장(SETEX) + 진행 이벤트 발행 (Lua 1회, 원자적)
+	 * @param cacheEntries 캐시 키 → 값 (비어 있으면 발행만)
+	 * @param message 발행할 메시지 (null 이면 캐시만)
+	 * @return false = lease 를 잃음 (아무것도 쓰지 않음, 이후 호출부는 중단)
+	 */
+	public boolean writeIfHeld(Lease lease, Map<String, String> cacheEntries, Duration cacheTtl, String channel,
+		String message) {
+		List<String> keys = new ArrayList<>(cacheEntries.size() + 1);
+		List<String> args = new ArrayList<>(cacheEntries.size() + 4);
+		keys.add(LEASE_PREFIX + lease.songId);
+		args.add(lease.value);
+		args.add(String.valueOf(cacheTtl.toSeconds()));
+		args.add(channel);
+		args.add(message != null ? message : "");
+		cacheEntries.forEach((key, value) -> {
+			keys.add(key);
+			args.add(value);
+		});
+		Long written = redisTemplate.execute(WRITE_SCRIPT, keys, args.toArray());
+		if (written != null && written == 1L) {
+			return true;
+		}
+		fencedWrites.incrementAndGet();
+		markLost(lease);
+		return false;
+	}
+
+	/** DB 펜스 등 다른 저장소에서 쓰기가 거부됨 (더 큰 토큰의 보유자가 있음) */
+	public void rejected(Lease lease) {
+		fencedWrites.incrementAndGet();
+		markLost(lease);
+	}
+
+	/** 보유 중인 lease 전체 갱신 (heartbeat, 전용 스레드) */
+	void renewHeld() {
+		for (Lease lease : held.values()) {
+			long requestedAt = System.nanoTime();
+			try {
+				Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_PREFIX + lease.songId),
+					lease.value, String.valueOf(ttl.toMillis()));
+				if (renewed != null && renewed == 1L) {
+					lease.validUntilNanos = requestedAt + ttl.minus(safety).toNanos();
+				} else {
+					markLost(lease);
+				}
+			} catch (Exception e) {
+				// 일시 오류: 유효 기한이 지나면 isValid() 가 false → 작업자가 중단
+				log.warn("Translation lease renew failed: songId={}, token={}, {}", lease.songId, lease.token,
+					e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public String statsName() {
+		return "translation.lease";
+	}
+
+	@Override
+	public Stats stats() {
+		return new Stats(acquired.get(), contended.get(), lost.get(), fencedWrites.get(), held.size());
+	}
+
+	private void markLost(Lease lease) {
+		if (!lease.lost) {
+			lease.lost = true;
+			held.remove(lease.songId, lease);
+			lost.incrementAndGet();
+			log.warn("Translation lease lost: songId={}, token={}", lease.songId, lease.token);
+		}
+	}
+
+	private void release(Lease lease) {
+		held.remove(lease.songId, lease);
+		if (lease.lost) {
+			return;
+		}
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + lease.songId), lease.value);
+		} catch (Exception e) {
+			// 해제 실패 시 ttl 만료로 정리됨
+			log.warn("Translation lease release failed: songId={}, token={}, {}", lease.songId, lease.token,
+				e.getMessage());
+		}
+	}
+
+	/** 보유 중인 곡 번역 lease (close = 해제) */
+	public final class Lease implements AutoCloseable {
+
+		private final String songId;
+		private final long token;
+		private final String value;
+		private volatile long validUntilNanos;
+		private volatile boolean lost;
+
+		private Lease(String songId, long token, String value) {
+			this.songId = songId;
+			this.token = token;
+			this.value = value;
+		}
+
+		public String songId() {
+			return songId;
+		}
+
+		/** 펜싱 토큰 (곡별 단조 증가, 나중에 획득한 보유자가 항상 더 큼) */
+		public long token() {
+			return token;
+		}
+
+		/** 쓰기 직전 확인용: 잃지 않았고 마지막 갱신 기준 유효 기한 이내 */
+		public boolean isValid() {
+			return !lost && System.nanoTime() - validUntilNanos < 0;
+		}
+
+		@Override
+		public void close() {
+			release(this);
+		}
+	}
+
+	/** lease 통계 (contended = 다른 보유자가 있어 follower 로 동작한 요청 수, fencedWrites = 저장소가 거부한 쓰기 수) */
+	public record Stats(long acquired, long contended, long lost, long fencedWrites, int held) {
+	}
+}
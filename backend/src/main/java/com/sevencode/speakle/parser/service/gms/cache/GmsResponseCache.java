@@ -0,0 +1,208 @@
+package com.sevencode.speakle.parser.service.gms.cache;
+
+import com.sevencode.speakle.support.StatsSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GmsResponseCache
+ * - 목적: 동일 프롬프트(재파싱, 반복 코러스 청크, 같은 situation/location 등)에 대한 LLM 재호출 방지.
+ * - 구조: 1차 in-process LRU(용량/TTL 제한) → 2차 Redis(TTL) → 미스 시 호출부가 원격 호출 후 put.
+ * - 키: SHA-256(version, model, schemaName, schema, developerPrompt, userContent) — 내용 주소 기반.
+ *   · gms.cache.version 을 올리면 기존 응답 전체가 무효화됨(프롬프트 포맷 변경 시).
+ * - 응답 크기가 max-entry-bytes를 넘으면 저장하지 않음(메모리/Redis 보호).
+ * - Redis 장애는 캐시 미스로 취급(호출 경로를 깨지 않음).
+ */
+@Slf4j
+@Component
+public class GmsResponseCache implements StatsSource {
+
+	private static final String REDIS_PREFIX = "gms:resp:";
+	private static final char SEP = '\u0000'; // 필드 경계(연결 모호성 방지)
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final boolean enabled;
+	private final boolean redisEnabled;
+	private final String version;
+	private final int maxEntries;
+	private final int maxEntryBytes;
+	private final Duration localTtl;
+	private final Duration redisTtl;
+
+	// 접근순 LinkedHashMap 기반 LRU (동기화는 this 모니터)
+	private final LinkedHashMap<String, LocalEntry> lru;
+
+	// 통계
+	private final AtomicLong localHits = new AtomicLong();
+	private final AtomicLong redisHits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong expirations = new AtomicLong();
+	private final AtomicLong oversized = new AtomicLong();
+	private final AtomicLong redisErrors = new AtomicLong();
+
+	public GmsResponseCache(StringRedisTemplate stringRedisTemplate,
+		@Value("${gms.cache.enabled:true}") boolean enabled,
+		@Value("${gms.cache.redis-enabled:true}") boolean redisEnabled,
+		@Value("${gms.cache.version:v1}") String version,
+		@Value("${gms.cache.local-max-entries:512}") int maxEntries,
+		@Value("${gms.cache.max-entry-bytes:262144}") int maxEntryBytes,
+		@Value("${gms.cache.local-ttl:PT1H}") Duration localTtl,
+		@Value("${gms.cache.redis-ttl:P7D}") Duration redisTtl) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.enabled = enabled;
+		this.redisEnabled = redisEnabled;
+		this.version = version;
+		this.maxEntries = Math.max(1, maxEntries);
+		this.maxEntryBytes = maxEntryBytes;
+		this.localTtl = localTtl;
+		this.redisTtl = redisTtl;
+		this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+				if (size() > GmsResponseCache.this.maxEntries) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+		log.info("GMS response cache => enabled={}, redis={}, version={}, localMax={}, maxEntryBytes={}, localTtl={}, redisTtl={}",
+			enabled, redisEnabled, version, this.maxEntries, maxEntryBytes, localTtl, redisTtl);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/** 요청 구성요소 → 내용 주소 키(SHA-256 hex). null 필드는 빈 문자열로 취급. */
+	public String key(String model, String schemaName, String schemaJson, String developerPrompt, String userContent) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			for (String part : new String[] {version, model, schemaName, schemaJson, developerPrompt, userContent}) {
+				md.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+				md.update((byte)SEP);
+			}
+			return HexFormat.of().formatHex(md.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e); // JDK 기본 제공 — 발생 불가
+		}
+	}
+
+	/** 1차 LRU → 2차 Redis 순 조회. Redis 히트는 LRU로 승격. 블로킹(Redis I/O) 호출. */
+	public String get(String key) {
+		if (!enabled)
+			return null;
+
+		String local = getLocal(key);
+		if (local != null) {
+			localHits.incrementAndGet();
+			return local;
+		}
+
+		if (redisEnabled) {
+			try {
+				String remote = stringRedisTemplate.opsForValue().get(REDIS_PREFIX + key);
+				if (remote != null) {
+					redisHits.incrementAndGet();
+					putLocal(key, remote);
+					return remote;
+				}
+			} catch (Exception e) {
+				redisErrors.incrementAndGet();
+				log.warn("GMS cache redis get failed (treated as miss): {}", e.toString());
+			}
+		}
+
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/** 양쪽 계층에 저장. 빈 값/상한 초과 값은 저장하지 않음. 블로킹(Redis I/O) 호출. */
+	public void put(String key, String value) {
+		if (!enabled || value == null || value.isBlank())
+			return;
+		if (value.getBytes(StandardCharsets.UTF_8).length > maxEntryBytes) {
+			oversized.incrementAndGet();
+			log.debug("GMS cache skip oversized entry ({} chars)", value.length());
+			return;
+		}
+
+		putLocal(key, value);
+
+		if (redisEnabled) {
+			try {
+				stringRedisTemplate.opsForValue().set(REDIS_PREFIX + key, value, redisTtl);
+			} catch (Exception e) {
+				redisErrors.incrementAndGet();
+				log.warn("GMS cache redis put failed: {}", e.toString());
+			}
+		}
+	}
+
+	@Override
+	public String statsName() {
+		return "gms.response-cache";
+	}
+
+	/** 현재 통계 스냅샷 */
+	@Override
+	public Stats stats() {
+		int size;
+		synchronized (this) {
+			size = lru.size();
+		}
+		return new Stats(localHits.get(), redisHits.get(), misses.get(), evictions.get(), expirations.get(),
+			oversized.get(), redisErrors.get(), size);
+	}
+
+	private synchronized String getLocal(String key) {
+		LocalEntry e = lru.get(key);
+		if (e == null)
+			return null;
+		if (e.expiresAtNanos - System.nanoTime() <= 0) {
+			lru.remove(key);
+			expirations.incrementAndGet();
+			return null;
+		}
+		return e.value;
+	}
+
+	private synchronized void putLocal(String key, String value) {
+		lru.put(key, new LocalEntry(value, System.nanoTime() + localTtl.toNanos()));
+	}
+
+	private record LocalEntry(String value, long expiresAtNanos) {
+	}
+
+	/** 캐시 통계(히트율 = (localHits + redisHits) / 전체 조회) */
+	public record Stats(long localHits, long redisHits, long misses, long evictions, long expirations,
+						long oversized, long redisErrors, int localSize) {
+
+		public double hitRate() {
+			long total = localHits + redisHits + misses;
+			return total == 0 ? 0.0 : (double)(localHits + redisHits) / total;
+		}
+
+		// 주기 로그(StatsReporter)에 히트율 포함
+		@Override
+		public String toString() {
+			return String.format("Stats[hitRate=%.3f, localHits=%d, redisHits=%d, misses=%d, evictions=%d, "
+				+ "expirations=%d, oversized=%d, redisErrors=%d, localSize=%d]", hitRate(), localHits, redisHits,
+				misses, evictions, expirations, oversized, redisErrors, localSize);
+		}
+	}
+}
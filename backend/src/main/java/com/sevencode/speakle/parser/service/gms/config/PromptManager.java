@@ -79,6 +79,33 @@ public class PromptManager {
             }
             """;
     }
+
+	/** 줄 번호 기반 일괄 번역 프롬프트 (BatchLyricTranslator): 입력 줄 번호(i)를 그대로 돌려받아 정렬 검증 */
+	public String lyricsIndexedTranslationPrompt() {
+		return """
+			You are a professional lyric translator (EN -> KO).
+
+			INPUT (JSON):
+			{
+			  "song": { "title": "...", "artists": "...", "album": "..." },
+			  "lines": [ { "i": <line number>, "en": "<english line>" }, ... ]
+			}
+
+			RULES:
+			- Translate EVERY input line. Output exactly one item per input line, with the SAME "i".
+			- Do NOT merge, split, add, skip, or renumber lines.
+			- Use the song info and neighbouring lines only as context for tone and meaning.
+			- Keep slang and proper nouns' intent. Natural, concise Korean colloquial style.
+
+			OUTPUT FORMAT (JSON):
+			{
+			  "lines": [
+			    { "i": <line number>, "ko": "<korean line>" },
+			    ...
+			  ]
+			}
+			""";
+	}
 	/** 로딩 실패 시 사용할 기본 프롬프트(안전망). 운영에선 외부 파일 사용 권장. */
 	private static final String DEFAULT_LYRICS_PROMPT = """
 		  You are an expert English linguistics parser for Korean ESL learners.
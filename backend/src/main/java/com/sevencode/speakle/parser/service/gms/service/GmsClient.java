@@ -2,6 +2,7 @@ package com.sevencode.speakle.parser.service.gms.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.parser.service.gms.cache.GmsResponseCache;
 import com.sevencode.speakle.parser.service.gms.config.GmsProperties;
 import com.sevencode.speakle.parser.service.gms.dto.request.GmsChatRequest;
 import com.sevencode.speakle.parser.service.gms.dto.request.Message;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 
@@ -22,6 +24,8 @@ import java.util.List;
  * - 역할: LLM 게이트웨이(WebClient) 호출 래퍼. 요청 생성, 전송, 응답 텍스트 추출.
  * - 포인트: 기본 파라미터(props.defaults) 적용, JSON 스키마 강제 옵션 지원, 표준 로그/에러 처리.
  * - 응답 파싱: output_text → choices[].message.content(문자열/배열) → output[].content[].text → 실패 시 raw 반환.
+ * - 응답 캐시: GmsResponseCache(LRU → Redis)로 동일 요청은 원격 호출 생략(파서/번역 호출부 변경 없음).
+ *   · 정상 추출된 응답만 저장: raw 폴백, 길이 제한으로 잘린 응답, 스키마 요청인데 JSON 이 아닌 응답은 저장하지 않음.
  */
 @Service
 public class GmsClient {
@@ -31,16 +35,19 @@ public class GmsClient {
 	private final WebClient gmsWebClient;     // WebClientConfig에서 타임아웃/버퍼 설정
 	private final ObjectMapper objectMapper;  // 응답 JSON 파싱
 	private final GmsProperties props;        // 엔드포인트/키/기본 파라미터
+	private final GmsResponseCache responseCache; // 내용 주소 기반 응답 캐시
 
 	// === DEBUG 로그 헬퍼 ===
 	private static final int TRACE_MAX = 2000; // 프리뷰 로그 길이 제한
 
 	public GmsClient(WebClient gmsWebClient,
 		ObjectMapper objectMapper,
-		GmsProperties props) {
+		GmsProperties props,
+		GmsResponseCache responseCache) {
 		this.gmsWebClient = gmsWebClient;
 		this.objectMapper = objectMapper;
 		this.props = props;
+		this.responseCache = responseCache;
 		// 기본값 바인딩 확인(운영에선 INFO 유지)
 		log.info("GMS defaults => model={}, maxTokens={}, temp={}, user={}",
 			props.defaults().model(), props.defaults().maxTokens(),
@@ -52,7 +59,7 @@ public class GmsClient {
 	 */
 	public Mono<String> chatSimple(String developerPrompt, String userContent) {
 		GmsChatRequest req = buildBaseRequest(developerPrompt, userContent);
-		return postAndExtractText(req);
+		return cachedOrPost(req, null, null);
 	}
 
 	/**
@@ -66,7 +73,54 @@ public class GmsClient {
 		ResponseFormat.JsonSchema js = new ResponseFormat.JsonSchema(schemaName, schemaJson);
 		ResponseFormat rf = new ResponseFormat("json_schema", js);
 		req.setResponse_format(rf);
-		return postAndExtractText(req);
+		return cachedOrPost(req, schemaName, schemaJson != null ? schemaJson.toString() : null);
+	}
+
+	/**
+	 * 캐시 조회 → 히트 시 즉시 반환, 미스 시 원격 호출 후 저장.
+	 * - 캐시 I/O(Redis)는 boundedElastic에서 수행.
+	 * - 키에는 모델/토큰/온도까지 포함해 파라미터 변경 시 자연 무효화.
+	 */
+	private Mono<String> cachedOrPost(GmsChatRequest req, String schemaName, String schemaJson) {
+		if (!responseCache.isEnabled())
+			return postAndExtractText(req).map(Reply::text);
+
+		String key = responseCache.key(
+			req.getModel() + "|" + req.getMax_tokens() + "|" + req.getTemperature(),
+			schemaName, schemaJson,
+			req.getMessages().get(0).getContent(),
+			req.getMessages().get(1).getContent());
+
+		return Mono.fromCallable(() -> responseCache.get(key))
+			.subscribeOn(Schedulers.boundedElastic())
+			.doOnNext(hit -> log.debug("GMS cache hit (key={}, {} chars)", key, hit.length()))
+			.switchIfEmpty(Mono.defer(() -> postAndExtractText(req)
+				.flatMap(reply -> {
+					if (!isCacheable(reply, schemaName)) {
+						log.debug("GMS response not cached (key={}, complete={})", key, reply.complete());
+						return Mono.just(reply.text());
+					}
+					return Mono.fromRunnable(() -> responseCache.put(key, reply.text()))
+						.subscribeOn(Schedulers.boundedElastic())
+						.thenReturn(reply.text());
+				})));
+	}
+
+	/**
+	 * 캐시 저장 가능 여부: 정상 추출(폴백/잘림 아님) + 스키마 요청이면 JSON 객체/배열로 파싱되는 텍스트만.
+	 * (잘못된 응답을 7일간 재사용하지 않도록)
+	 */
+	private boolean isCacheable(Reply reply, String schemaName) {
+		if (!reply.complete() || reply.text() == null || reply.text().isBlank())
+			return false;
+		if (schemaName == null)
+			return true;
+		try {
+			JsonNode node = objectMapper.readTree(reply.text());
+			return node != null && (node.isObject() || node.isArray());
+		} catch (Exception e) {
+			return false;
+		}
 	}
 
 	/**
@@ -94,7 +148,7 @@ public class GmsClient {
 	 * 요청 전송 → HTTP 에러 매핑 → 응답 원문 로깅(프리뷰) → assistant 텍스트 추출 → 지연시간 로깅.
 	 * - 운영 팁: TRACE로 dev/user preview 로그를 켜면 민감정보 노출 주의.
 	 */
-	private Mono<String> postAndExtractText(GmsChatRequest req) {
+	private Mono<Reply> postAndExtractText(GmsChatRequest req) {
 		// 요청 요약 로그(민감 본문 미노출)
 		if (log.isDebugEnabled()) {
 			String schemaName = null;
@@ -141,8 +195,8 @@ public class GmsClient {
 				raw -> log.debug("GMS resp.raw ({} chars) preview:\n{}", raw != null ? raw.length() : 0, clip(raw)))
 			// 모델별 포맷 차이를 흡수하여 텍스트 추출
 			.map(this::tryExtractAssistantText)
-			.doOnNext(txt -> log.debug("GMS resp.extracted ({} chars) preview:\n{}", txt != null ? txt.length() : 0,
-				clip(txt)))
+			.doOnNext(reply -> log.debug("GMS resp.extracted ({} chars, complete={}) preview:\n{}",
+				safeLenOf(reply.text()), reply.complete(), clip(reply.text())))
 			// 지연시간 측정
 			.doFinally(sig -> {
 				long ms = (System.nanoTime() - startedAt) / 1_000_000;
@@ -157,25 +211,28 @@ public class GmsClient {
 	/**
 	 * 응답 JSON에서 assistant 텍스트를 최대한 호환성 있게 추출.
 	 * 우선순위: output_text → choices[0].message.content(문자열/배열:text) → output[0].content[].text → 실패 시 raw.
+	 * - complete=false: raw 폴백이거나 finish_reason=length / status=incomplete(잘린 응답) → 캐시 대상 아님.
 	 */
-	private String tryExtractAssistantText(String rawJson) {
+	private Reply tryExtractAssistantText(String rawJson) {
 		try {
 			JsonNode root = objectMapper.readTree(rawJson);
+			boolean truncated = "incomplete".equals(root.path("status").asText(null));
 
 			if (root.hasNonNull("output_text")) {
 				String text = root.get("output_text").asText();
 				if (!text.isBlank())
-					return text;
+					return new Reply(text, !truncated);
 			}
 
 			if (root.has("choices") && root.get("choices").isArray() && root.get("choices").size() > 0) {
 				JsonNode first = root.get("choices").get(0);
+				truncated |= "length".equals(first.path("finish_reason").asText(null));
 				JsonNode msg = first.get("message");
 				if (msg != null) {
 					JsonNode content = msg.get("content");
 					// (a) 단일 문자열
 					if (content != null && content.isTextual() && !content.asText().isBlank()) {
-						return content.asText();
+						return new Reply(content.asText(), !truncated);
 					}
 					// (b) 배열 형태 (e.g. [{type:"text", text:"..."}])
 					if (content != null && content.isArray() && content.size() > 0) {
@@ -183,7 +240,7 @@ public class GmsClient {
 							if (c.has("text") && c.get("text").isTextual()) {
 								String t = c.get("text").asText();
 								if (!t.isBlank())
-									return t;
+									return new Reply(t, !truncated);
 							}
 						}
 					}
@@ -198,19 +255,23 @@ public class GmsClient {
 						if (c.has("text") && c.get("text").isTextual()) {
 							String t = c.get("text").asText();
 							if (!t.isBlank())
-								return t;
+								return new Reply(t, !truncated);
 						}
 					}
 				}
 			}
 
-			return rawJson; // 최후 수단: 원문 반환
+			return new Reply(rawJson, false); // 최후 수단: 원문 반환
 		} catch (Exception e) {
 			log.warn("Failed to parse GMS response JSON, returning raw", e);
-			return rawJson;
+			return new Reply(rawJson, false);
 		}
 	}
 
+	/** 추출 결과 (complete=false 면 폴백/잘린 응답) */
+	private record Reply(String text, boolean complete) {
+	}
+
 	// === 소형 헬퍼 ===
 
 	private String clip(String s) {
@@ -0,0 +1,157 @@
+package com.sevencode.speakle.playlist.entity;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import com.sevencode.speakle.song.domain.Song;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 플레이리스트 오디오 특성 누적 집계 (사용자당 1행)
+ * - 사용자 플레이리스트 전체의 고유 곡 기준, 특성별 합계(sum)와 값이 있는 곡 수(count)를 보관
+ * - 트랙 추가/삭제 시 증분 갱신(UserAudioProfileAccrualRepository), 주기적 재계산으로 드리프트 보정
+ * - 평균 = sum / count (count 가 0 이면 null)
+ */
+@Entity
+@Table(name = "user_audio_profiles")
+@Getter
+@NoArgsConstructor
+public class UserAudioProfile {
+
+	/** 집계 대상 오디오 특성 (컬럼 접두사 = column, 값 추출 = extractor) */
+	public enum Feature {
+		DANCEABILITY("danceability", Song::getDanceability),
+		ENERGY("energy", Song::getEnergy),
+		KEY("key", Song::getKey),
+		LOUDNESS("loudness", Song::getLoudness),
+		MODE("mode", Song::getMode),
+		SPEECHINESS("speechiness", Song::getSpeechiness),
+		ACOUSTICNESS("acousticness", Song::getAcousticness),
+		INSTRUMENTALNESS("instrumentalness", Song::getInstrumentalness),
+		LIVENESS("liveness", Song::getLiveness),
+		VALENCE("valence", Song::getValence),
+		TEMPO("tempo", Song::getTempo);
+
+		private final String column;
+		private final Function<Song, ? extends Number> extractor;
+
+		Feature(String column, Function<Song, ? extends Number> extractor) {
+			this.column = column;
+			this.extractor = extractor;
+		}
+
+		public String column() {
+			return column;
+		}
+
+		public Number valueOf(Song song) {
+			return extractor.apply(song);
+		}
+	}
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "song_count", nullable = false)
+	private int songCount;
+
+	@Column(name = "danceability_sum", nullable = false)
+	private double danceabilitySum;
+	@Column(name = "danceability_count", nullable = false)
+	private int danceabilityCount;
+
+	@Column(name = "energy_sum", nullable = false)
+	private double energySum;
+	@Column(name = "energy_count", nullable = false)
+	private int energyCount;
+
+	@Column(name = "key_sum", nullable = false)
+	private double keySum;
+	@Column(name = "key_count", nullable = false)
+	private int keyCount;
+
+	@Column(name = "loudness_sum", nullable = false)
+	private double loudnessSum;
+	@Column(name = "loudness_count", nullable = false)
+	private int loudnessCount;
+
+	@Column(name = "mode_sum", nullable = false)
+	private double modeSum;
+	@Column(name = "mode_count", nullable = false)
+	private int modeCount;
+
+	@Column(name = "speechiness_sum", nullable = false)
+	private double speechinessSum;
+	@Column(name = "speechiness_count", nullable = false)
+	private int speechinessCount;
+
+	@Column(name = "acousticness_sum", nullable = false)
+	private double acousticnessSum;
+	@Column(name = "acousticness_count", nullable = false)
+	private int acousticnessCount;
+
+	@Column(name = "instrumentalness_sum", nullable = false)
+	private double instrumentalnessSum;
+	@Column(name = "instrumentalness_count", nullable = false)
+	private int instrumentalnessCount;
+
+	@Column(name = "liveness_sum", nullable = false)
+	private double livenessSum;
+	@Column(name = "liveness_count", nullable = false)
+	private int livenessCount;
+
+	@Column(name = "valence_sum", nullable = false)
+	private double valenceSum;
+	@Column(name = "valence_count", nullable = false)
+	private int valenceCount;
+
+	@Column(name = "tempo_sum", nullable = false)
+	private double tempoSum;
+	@Column(name = "tempo_count", nullable = false)
+	private int tempoCount;
+
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	/** 특성 평균 (값이 있는 곡이 없으면 null) */
+	public Double average(Feature feature) {
+		int count = count(feature);
+		return count == 0 ? null : sum(feature) / count;
+	}
+
+	private double sum(Feature feature) {
+		return switch (feature) {
+			case DANCEABILITY -> danceabilitySum;
+			case ENERGY -> energySum;
+			case KEY -> keySum;
+			case LOUDNESS -> loudnessSum;
+			case MODE -> modeSum;
+			case SPEECHINESS -> speechinessSum;
+			case ACOUSTICNESS -> acousticnessSum;
+			case INSTRUMENTALNESS -> instrumentalnessSum;
+			case LIVENESS -> livenessSum;
+			case VALENCE -> valenceSum;
+			case TEMPO -> tempoSum;
+		};
+	}
+
+	private int count(Feature feature) {
+		return switch (feature) {
+			case DANCEABILITY -> danceabilityCount;
+			case ENERGY -> energyCount;
+			case KEY -> keyCount;
+			case LOUDNESS -> loudnessCount;
+			case MODE -> modeCount;
+			case SPEECHINESS -> speechinessCount;
+			case ACOUSTICNESS -> acousticnessCount;
+			case INSTRUMENTALNESS -> instrumentalnessCount;
+			case LIVENESS -> livenessCount;
+			case VALENCE -> valenceCount;
+			case TEMPO -> tempoCount;
+		};
+	}
+}
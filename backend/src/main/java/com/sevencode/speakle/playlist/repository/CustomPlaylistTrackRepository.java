@@ -68,8 +68,8 @@ public interface CustomPlaylistTrackRepository extends JpaRepository<CustomPlayl
 	@Query("SELECT COUNT(t) FROM CustomPlaylistTrack t WHERE t.playlistId = :playlistId")
 	long countByPlaylistId(@Param("playlistId") Long playlistId);
 
-	// 플레이리스트에서 트랙 삭제
-	void deleteByPlaylistIdAndSongId(Long playlistId, String songId);
+	// 플레이리스트에서 트랙 삭제 (삭제된 행 수 반환)
+	long deleteByPlaylistIdAndSongId(Long playlistId, String songId);
 
 	// 플레이리스트의 모든 트랙 삭제
 	void deleteByPlaylistId(Long playlistId);
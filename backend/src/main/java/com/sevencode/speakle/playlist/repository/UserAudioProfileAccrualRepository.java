@@ -0,0 +1,109 @@
+package com.sevencode.speakle.playlist.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sevencode.speakle.playlist.entity.UserAudioProfile.Feature;
+import com.sevencode.speakle.song.domain.Song;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 오디오 특성 집계 증분/재계산 저장소
+ * - 증분: 곡 1개 분량의 합계/개수 증감을 단일 문으로 반영 (O(1), 동시 갱신은 행 잠금으로 직렬화)
+ * - 재계산: playlist_songs(고유 곡) x songs 집계로 덮어쓰기 (사용자 1명 또는 전체)
+ * - 트랜잭션: JdbcTemplate은 호출부(@Transactional, JPA)의 커넥션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserAudioProfileAccrualRepository {
+
+	private static final List<Feature> FEATURES = Arrays.asList(Feature.values());
+
+	// INSERT 대상 컬럼 (user_id, song_count, <f>_sum, <f>_count ..., updated_at)
+	private static final String COLUMNS = "user_id, song_count, "
+		+ FEATURES.stream().map(f -> f.column() + "_sum, " + f.column() + "_count").collect(Collectors.joining(", "))
+		+ ", updated_at";
+
+	// 곡 추가: 행이 없으면 생성, 있으면 누적
+	private static final String ADD_SQL = "INSERT INTO user_audio_profiles (" + COLUMNS + ") VALUES (?, 1, "
+		+ FEATURES.stream().map(f -> "?, ?").collect(Collectors.joining(", ")) + ", now()) "
+		+ "ON CONFLICT (user_id) DO UPDATE SET song_count = user_audio_profiles.song_count + 1, "
+		+ FEATURES.stream()
+			.map(f -> f.column() + "_sum = user_audio_profiles." + f.column() + "_sum + EXCLUDED." + f.column() + "_sum, "
+				+ f.column() + "_count = user_audio_profiles." + f.column() + "_count + EXCLUDED." + f.column() + "_count")
+			.collect(Collectors.joining(", "))
+		+ ", updated_at = EXCLUDED.updated_at";
+
+	// 곡 제거: 행이 없으면 무시 (재계산에서 보정)
+	private static final String REMOVE_SQL = "UPDATE user_audio_profiles SET song_count = GREATEST(song_count - 1, 0), "
+		+ FEATURES.stream()
+			.map(f -> f.column() + "_sum = " + f.column() + "_sum - ?, "
+				+ f.column() + "_count = GREATEST(" + f.column() + "_count - ?, 0)")
+			.collect(Collectors.joining(", "))
+		+ ", updated_at = now() WHERE user_id = ?";
+
+	// 재계산: 사용자별 고유 곡 집계로 덮어쓰기 (%s = 사용자 조건)
+	private static final String REBUILD_SQL = "INSERT INTO user_audio_profiles (" + COLUMNS + ") "
+		+ "SELECT u.user_id, COUNT(*), "
+		+ FEATURES.stream()
+			.map(f -> "COALESCE(SUM(s." + f.column() + "), 0), COUNT(s." + f.column() + ")")
+			.collect(Collectors.joining(", "))
+		+ ", now() FROM (SELECT DISTINCT user_id, song_id FROM playlist_songs%s) u "
+		+ "JOIN songs s ON s.song_id = u.song_id GROUP BY u.user_id "
+		+ "ON CONFLICT (user_id) DO UPDATE SET song_count = EXCLUDED.song_count, "
+		+ FEATURES.stream()
+			.map(f -> f.column() + "_sum = EXCLUDED." + f.column() + "_sum, "
+				+ f.column() + "_count = EXCLUDED." + f.column() + "_count")
+			.collect(Collectors.joining(", "))
+		+ ", updated_at = EXCLUDED.updated_at";
+
+	// 재계산: 더 이상 곡이 없는 사용자의 집계 행 제거 (%s = 사용자 조건)
+	private static final String PRUNE_SQL = "DELETE FROM user_audio_profiles p "
+		+ "WHERE NOT EXISTS (SELECT 1 FROM playlist_songs t JOIN songs s ON s.song_id = t.song_id "
+		+ "WHERE t.user_id = p.user_id)%s";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/** 사용자 라이브러리에 곡이 새로 들어옴 */
+	public void add(Long userId, Song song) {
+		List<Object> args = new ArrayList<>(2 + FEATURES.size() * 2);
+		args.add(userId);
+		for (Feature f : FEATURES) {
+			Number v = f.valueOf(song);
+			args.add(v == null ? 0.0 : v.doubleValue());
+			args.add(v == null ? 0 : 1);
+		}
+		jdbcTemplate.update(ADD_SQL, args.toArray());
+	}
+
+	/** 사용자 라이브러리에서 곡이 완전히 빠짐 */
+	public void remove(Long userId, Song song) {
+		List<Object> args = new ArrayList<>(1 + FEATURES.size() * 2);
+		for (Feature f : FEATURES) {
+			Number v = f.valueOf(song);
+			args.add(v == null ? 0.0 : v.doubleValue());
+			args.add(v == null ? 0 : 1);
+		}
+		args.add(userId);
+		jdbcTemplate.update(REMOVE_SQL, args.toArray());
+	}
+
+	/** 사용자 1명 재계산 */
+	public void rebuild(Long userId) {
+		jdbcTemplate.update(REBUILD_SQL.formatted(" WHERE user_id = ?"), userId);
+		jdbcTemplate.update(PRUNE_SQL.formatted(" AND p.user_id = ?"), userId);
+	}
+
+	/** 전체 재계산 @return 갱신된 집계 행 수 */
+	public int rebuildAll() {
+		int updated = jdbcTemplate.update(REBUILD_SQL.formatted(""));
+		jdbcTemplate.update(PRUNE_SQL.formatted(""));
+		return updated;
+	}
+}
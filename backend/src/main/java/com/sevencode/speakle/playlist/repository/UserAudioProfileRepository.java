@@ -0,0 +1,9 @@
+package com.sevencode.speakle.playlist.repository;
+
+import com.sevencode.speakle.playlist.entity.UserAudioProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserAudioProfileRepository extends JpaRepository<UserAudioProfile, Long> {
+}
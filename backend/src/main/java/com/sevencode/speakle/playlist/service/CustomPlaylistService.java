@@ -39,6 +39,7 @@ public class CustomPlaylistService {
 	private final CustomPlaylistRepository playlistRepository;
 	private final CustomPlaylistTrackRepository trackRepository;
 	private final SongRepository songRepository;
+	private final UserAudioProfileService audioProfileService;
 
 	/**
 	 * 사용자가 기본 플레이리스트를 가지고 있는지 확인 (중복 방지용)
@@ -178,6 +179,9 @@ public class CustomPlaylistService {
 			.orElseThrow(() -> new IllegalArgumentException("플레이리스트를 찾을 수 없습니다."));
 
 		playlistRepository.delete(playlist);
+		// 트랙이 한꺼번에 빠지므로 오디오 특성 집계는 재계산 (cascade 삭제 반영 후)
+		playlistRepository.flush();
+		audioProfileService.rebuild(auth.userId());
 		log.info("플레이리스트 삭제 완료 - playlistId: {}", playlistId);
 	}
 
@@ -239,9 +243,7 @@ public class CustomPlaylistService {
 
 			if (!trackRepository.existsByPlaylistIdAndSongId(playlistId, songId)) {
 				// 트랙 추가
-				com.sevencode.speakle.playlist.entity.CustomPlaylistTrack track = new com.sevencode.speakle.playlist.entity.CustomPlaylistTrack(
-					playlistId, auth.userId(), songId);
-				trackRepository.save(track);
+				addTrack(playlistId, auth.userId(), songId);
 				addedCount++;
 			} else {
 				skippedCount++;
@@ -273,7 +275,7 @@ public class CustomPlaylistService {
 
 		for (RemoveTracksFromCustomPlaylistRequest.TrackToRemove trackToRemove : request.getTracks()) {
 			String songId = extractSongIdFromUri(trackToRemove.getUri());
-			trackRepository.deleteByPlaylistIdAndSongId(playlistId, songId);
+			removeTrack(playlistId, auth.userId(), songId);
 		}
 
 		return Map.of(
@@ -285,6 +287,30 @@ public class CustomPlaylistService {
 
 	// === Private Helper Methods ===
 
+	/**
+	 * 트랙 저장 + 오디오 특성 집계 증분 반영 (사용자 라이브러리에 처음 들어오는 곡일 때만)
+	 */
+	private com.sevencode.speakle.playlist.entity.CustomPlaylistTrack addTrack(Long playlistId, Long userId, String songId) {
+		boolean newToLibrary = !trackRepository.existsByUserIdAndSongId(userId, songId);
+		com.sevencode.speakle.playlist.entity.CustomPlaylistTrack track =
+			trackRepository.save(new com.sevencode.speakle.playlist.entity.CustomPlaylistTrack(playlistId, userId, songId));
+		if (newToLibrary) {
+			audioProfileService.songAdded(userId, songId);
+		}
+		return track;
+	}
+
+	/**
+	 * 트랙 삭제 + 오디오 특성 집계 증분 반영 (다른 플레이리스트에도 남아있지 않을 때만)
+	 */
+	private void removeTrack(Long playlistId, Long userId, String songId) {
+		long deleted = trackRepository.deleteByPlaylistIdAndSongId(playlistId, songId);
+		// exists 조회(JPQL) 전에 삭제가 flush 됨
+		if (deleted > 0 && !trackRepository.existsByUserIdAndSongId(userId, songId)) {
+			audioProfileService.songRemoved(userId, songId);
+		}
+	}
+
 	private CustomPlaylistResponse convertToResponse(CustomPlaylist playlist, UserPrincipal auth) {
 		CustomPlaylistResponse dto = new CustomPlaylistResponse();
 		dto.setId(playlist.getId().toString());
@@ -598,8 +624,7 @@ public class CustomPlaylistService {
 
 			// 트랙 추가
 			com.sevencode.speakle.playlist.entity.CustomPlaylistTrack track =
-				new com.sevencode.speakle.playlist.entity.CustomPlaylistTrack(playlistId, auth.userId(), songId);
-			trackRepository.save(track);
+				addTrack(playlistId, auth.userId(), songId);
 
 			log.info("노래를 플레이리스트에 추가 완료 - userId: {}, playlistId: {}, songId: {}",
 				auth.userId(), playlistId, songId);
@@ -685,8 +710,7 @@ public class CustomPlaylistService {
 
 			// 트랙 추가
 			com.sevencode.speakle.playlist.entity.CustomPlaylistTrack track =
-				new com.sevencode.speakle.playlist.entity.CustomPlaylistTrack(oldestPlaylist.getId(), auth.userId(), songId);
-			trackRepository.save(track);
+				addTrack(oldestPlaylist.getId(), auth.userId(), songId);
 
 			log.info("노래를 가장 오래된 플레이리스트에 추가 완료 - userId: {}, playlistId: {}, songId: {}",
 				auth.userId(), oldestPlaylist.getId(), songId);
@@ -749,7 +773,7 @@ public class CustomPlaylistService {
 			for (Long playlistId : playlistIds) {
 				CustomPlaylist playlist = playlistRepository.findById(playlistId).orElse(null);
 				if (playlist != null && playlist.getUserId().equals(auth.userId())) {
-					trackRepository.deleteByPlaylistIdAndSongId(playlistId, songId);
+					removeTrack(playlistId, auth.userId(), songId);
 					deletedFromPlaylists.add(playlist.getName());
 					deletedCount++;
 					log.info("플레이리스트에서 노래 삭제 완료 - playlistId: {}, playlistName: {}, songId: {}",
@@ -0,0 +1,72 @@
+package com.sevencode.speakle.playlist.service;
+
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sevencode.speakle.playlist.entity.UserAudioProfile;
+import com.sevencode.speakle.playlist.repository.UserAudioProfileAccrualRepository;
+import com.sevencode.speakle.playlist.repository.UserAudioProfileRepository;
+import com.sevencode.speakle.song.repository.SongRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 플레이리스트 오디오 특성 집계 관리
+ * - 트랙 추가/삭제 시 "사용자 라이브러리에 곡이 처음 들어옴/완전히 빠짐" 전이에서만 증분 반영
+ *   (여러 플레이리스트에 같은 곡이 있어도 1회만 집계 → 기존 고유 곡 평균과 동일)
+ * - 집계 행이 없는 사용자(기능 도입 이전 데이터)는 최초 조회 시 재계산
+ * - 동시 요청 경합 등으로 생긴 오차는 주기적 전체 재계산으로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAudioProfileService {
+
+	private final UserAudioProfileRepository profileRepository;
+	private final UserAudioProfileAccrualRepository accrualRepository;
+	private final SongRepository songRepository;
+
+	/** 곡이 사용자 라이브러리에 처음 추가됨 */
+	public void songAdded(Long userId, String songId) {
+		songRepository.findById(songId).ifPresent(song -> accrualRepository.add(userId, song));
+	}
+
+	/** 곡이 사용자의 모든 플레이리스트에서 빠짐 */
+	public void songRemoved(Long userId, String songId) {
+		songRepository.findById(songId).ifPresent(song -> accrualRepository.remove(userId, song));
+	}
+
+	/** 사용자 1명 재계산 (플레이리스트 통째 삭제 등 대량 변경 후) */
+	public void rebuild(Long userId) {
+		accrualRepository.rebuild(userId);
+	}
+
+	/** 사용자 집계 조회 (행이 없으면 재계산 후 조회, 곡이 없으면 empty) */
+	@Transactional
+	public Optional<UserAudioProfile> getProfile(Long userId) {
+		Optional<UserAudioProfile> profile = profileRepository.findById(userId);
+		if (profile.isPresent()) {
+			return profile;
+		}
+		accrualRepository.rebuild(userId);
+		return profileRepository.findById(userId);
+	}
+
+	/** 전체 재계산 (증분 누적 오차 보정) */
+	@Scheduled(cron = "${playlist.audio-profile.rebuild-cron:0 0 5 * * *}")
+	@Transactional
+	public void rebuildAll() {
+		long startedAt = System.nanoTime();
+		try {
+			int rows = accrualRepository.rebuildAll();
+			log.info("사용자 오디오 특성 집계 재계산 완료 - rows: {} ({} ms)", rows,
+				(System.nanoTime() - startedAt) / 1_000_000);
+		} catch (Exception e) {
+			log.error("사용자 오디오 특성 집계 재계산 실패: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.sevencode.speakle.recommend.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.parser.service.gms.cache.GmsResponseCache;
 import com.sevencode.speakle.recommend.dto.response.KeywordsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +10,11 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 
@@ -20,9 +25,24 @@ public class GMSAiClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final GmsResponseCache responseCache;
 
     private static final String RESPONSE_FORMAT_KEY = "response_format";
     private static final String RESPONSE_FORMAT_TYPE = "json_object";
+    private static final String SYSTEM_PROMPT = "You are a helpful assistant.";
+
+    private static final String KEYWORDS_PROMPT_TEMPLATE =
+            "**중요: 사용자가 입력한 '%s'와 '%s'를 영어로 번역한 단어는 반드시 words 배열의 맨 앞에 포함시켜야 합니다.**\n\n" +
+                    "%s에서 %s 상황에서 사용하는 가장 중요한 영어단어와 영어표현을 JSON 형식으로 출력해줘.\n\n" +
+                    "규칙:\n" +
+                    "1. **필수**: '%s'와 '%s'를 영어로 번역한 단어를 words 배열 맨 앞에 무조건 포함\n" +
+                    "2. 추가로 난이도 있는 단어 2개, 일상에서 자주 쓰는 단어 18개 포함 (총 20개 이상)\n" +
+                    "3. phrases는 한국인들이 꼭 배워야 하는 원어민 표현 20개\n" +
+                    "4. 반드시 아래 JSON 형식을 따를 것:\n\n" +
+                    "{ \"words\": [\"location 영어번역\", \"situation 영어번역\", \"word1\", ...], \"phrases\": [\"phrase1\", ...] }";
+
+    // 키워드 프롬프트 버전 (템플릿/시스템 프롬프트 내용 해시 → 프롬프트 변경 시 저장된 키워드 세트 자동 무효화)
+    public static final String KEYWORDS_PROMPT_VERSION = promptVersion(SYSTEM_PROMPT, KEYWORDS_PROMPT_TEMPLATE);
 
     @Value("${gms.url}")
     private String openaiApiUrl;
@@ -31,18 +51,23 @@ public class GMSAiClient {
      * situation + location을 받아서 LLMKeywords 생성
      */
     public KeywordsResponse generateKeywords(String situation, String location, String model) {
-        String prompt = String.format(
-                "**중요: 사용자가 입력한 '%s'와 '%s'를 영어로 번역한 단어는 반드시 words 배열의 맨 앞에 포함시켜야 합니다.**\n\n" +
-                        "%s에서 %s 상황에서 사용하는 가장 중요한 영어단어와 영어표현을 JSON 형식으로 출력해줘.\n\n" +
-                        "규칙:\n" +
-                        "1. **필수**: '%s'와 '%s'를 영어로 번역한 단어를 words 배열 맨 앞에 무조건 포함\n" +
-                        "2. 추가로 난이도 있는 단어 2개, 일상에서 자주 쓰는 단어 18개 포함 (총 20개 이상)\n" +
-                        "3. phrases는 한국인들이 꼭 배워야 하는 원어민 표현 20개\n" +
-                        "4. 반드시 아래 JSON 형식을 따를 것:\n\n" +
-                        "{ \"words\": [\"location 영어번역\", \"situation 영어번역\", \"word1\", ...], \"phrases\": [\"phrase1\", ...] }",
+        String prompt = String.format(KEYWORDS_PROMPT_TEMPLATE,
                 location, situation, location, situation, location, situation
         );
 
+        // 동일 (situation, location, model) 요청은 응답 캐시에서 재사용
+        String cacheKey = responseCache.key(model, RESPONSE_FORMAT_TYPE, null, SYSTEM_PROMPT, prompt);
+        String cached = responseCache.get(cacheKey);
+        if (cached != null) {
+            try {
+                KeywordsResponse keywords = objectMapper.readValue(cached, KeywordsResponse.class);
+                log.info("LLM 키워드 캐시 히트: situation={}, location={}", situation, location);
+                return keywords;
+            } catch (Exception e) {
+                log.warn("캐시된 키워드 응답 파싱 실패 → 원격 재호출: {}", e.getMessage());
+            }
+        }
+
         log.info("GMS(OpenAI) 요청: model={}, prompt={}", model, prompt);
 
         String rawJson = callOpenAI(model, prompt);
@@ -50,6 +75,7 @@ public class GMSAiClient {
             KeywordsResponse keywords = objectMapper.readValue(rawJson, KeywordsResponse.class);
             log.info("LLM 키워드 생성 성공: words={}, phrases={}",
                     keywords.getWords().size(), keywords.getPhrases().size());
+            responseCache.put(cacheKey, rawJson); // 파싱 성공한 응답만 캐시
             return keywords;
         } catch (Exception e) {
             log.error(" LLM 응답 파싱 실패: rawJson={}", rawJson, e);
@@ -57,6 +83,19 @@ public class GMSAiClient {
         }
     }
 
+    private static String promptVersion(String... parts) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                md.update(part.getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(md.digest()).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private String callOpenAI(String model, String prompt) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -65,7 +104,7 @@ public class GMSAiClient {
         Map<String, Object> body = new HashMap<>();
         body.put("model", model);
         body.put("messages", List.of(
-                Map.of("role", "system", "content", "You are a helpful assistant."),
+                Map.of("role", "system", "content", SYSTEM_PROMPT),
                 Map.of("role", "user", "content", prompt)
         ));
         // JSON 응답 강제
@@ -0,0 +1,51 @@
+package com.sevencode.speakle.recommend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화된 (situation, location) 별 키워드 세트 (LLM 생성 결과 영속 캐시)
+ * - prompt_version: 키워드 프롬프트 내용 해시 → 프롬프트 변경 시 이전 버전 행은 조회되지 않음
+ * - keywords_json: KeywordsResponse JSON 원문
+ */
+@Entity
+@Table(name = "recommend_keyword_sets",
+        uniqueConstraints = @UniqueConstraint(
+                name = "ux_recommend_keyword_sets_key",
+                columnNames = {"situation_key", "location_key", "model", "prompt_version"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendKeywordSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "situation_key", nullable = false)
+    private String situationKey;
+
+    @Column(name = "location_key", nullable = false)
+    private String locationKey;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "prompt_version", nullable = false)
+    private String promptVersion;
+
+    @Column(name = "keywords_json", columnDefinition = "jsonb", nullable = false)
+    @org.hibernate.annotations.JdbcTypeCode(org.hibernate.type.SqlTypes.JSON)
+    private String keywordsJson;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.sevencode.speakle.recommend.dto.request;
 
+import com.sevencode.speakle.recommend.service.RecommendationBackend;
 import lombok.*;
 
 @Getter
@@ -11,4 +12,7 @@ public class HybridRecommendRequest {
     private String situation;
     private String location;
     private int limit;
+
+    // 후보 검색 백엔드 (null 이면 recommend.backend.default)
+    private RecommendationBackend.Type backend;
 }
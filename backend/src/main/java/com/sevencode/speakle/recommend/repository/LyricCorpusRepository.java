@@ -0,0 +1,52 @@
+package com.sevencode.speakle.recommend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * BM25 가사 색인(Bm25LyricIndex) 적재용 코퍼스 조회
+ * - 곡(title, artists, popularity) + 영어 가사 청크(songs_lyrics.english)를 곡 ID → 시작 시간 순으로 스트리밍
+ * - 엔터티 로딩 없이 행 단위 콜백, 읽기 전용 트랜잭션 + fetch size 로 서버 커서 사용 (전체 결과 메모리 적재 방지)
+ * - 가사가 없는 곡도 1행(english = null)으로 포함 → 제목/아티스트 검색 대상
+ */
+@Repository
+@RequiredArgsConstructor
+public class LyricCorpusRepository {
+
+    private static final int FETCH_SIZE = 5000;
+
+    private static final String CORPUS_SQL = """
+            SELECT s.song_id, s.title, s.artists, s.popularity, l.english
+              FROM songs s
+              LEFT JOIN songs_lyrics l
+                ON l.song_id = s.song_id AND l.english IS NOT NULL AND l.english <> ''
+             ORDER BY s.song_id, l.start_time_ms, l.songs_lyrics_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 코퍼스 행 콜백 (같은 곡의 행은 연속으로 전달) */
+    @FunctionalInterface
+    public interface RowHandler {
+        void accept(String songId, String title, String artists, Integer popularity, String english);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamCorpus(RowHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CORPUS_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            int popularity = rs.getInt(4);
+            handler.accept(rs.getString(1), rs.getString(2), rs.getString(3),
+                    rs.wasNull() ? null : popularity, rs.getString(5));
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.sevencode.speakle.recommend.repository;
+
+import com.sevencode.speakle.recommend.domain.RecommendKeywordSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface RecommendKeywordSetRepository extends JpaRepository<RecommendKeywordSet, Long> {
+
+    Optional<RecommendKeywordSet> findBySituationKeyAndLocationKeyAndModelAndPromptVersion(
+            String situationKey, String locationKey, String model, String promptVersion);
+}
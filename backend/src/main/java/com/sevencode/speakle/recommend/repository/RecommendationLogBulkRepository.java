@@ -0,0 +1,101 @@
+package com.sevencode.speakle.recommend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추천 로그 일괄 저장소 (RecommendationLogSink 전용)
+ * - 배치 1건당 SQL 3회: id 선할당(nextval) → 로그 행 unnest INSERT → 후보 곡 unnest INSERT
+ *   (엔터티 저장 시 후보 곡마다 INSERT 1회씩 발생하던 @ElementCollection 경로 대체)
+ * - 각 컬럼 값을 배열(bigint[]/text[]/timestamp[]) 파라미터 1개로 전달
+ * - 스키마는 RecommendationLog 엔터티(recommendation_logs, recommendation_log_candidate_ids)와 동일
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationLogBulkRepository {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('recommendation_logs', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_LOGS_SQL = """
+            INSERT INTO recommendation_logs (id, user_id, query, algo_version, meta, created_at)
+            SELECT t.id, t.user_id, t.query, t.algo_version, CAST(t.meta AS jsonb), t.created_at
+              FROM unnest(CAST(? AS bigint[]), CAST(? AS bigint[]), CAST(? AS text[]), CAST(? AS text[]),
+                          CAST(? AS text[]), CAST(? AS timestamp[]))
+                   AS t(id, user_id, query, algo_version, meta, created_at)
+            """;
+
+    private static final String INSERT_CANDIDATES_SQL = """
+            INSERT INTO recommendation_log_candidate_ids (recommendation_log_id, song_id)
+            SELECT * FROM unnest(CAST(? AS bigint[]), CAST(? AS text[]))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return 저장된 로그 행 수 */
+    @Transactional
+    public int insertAll(List<Row> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, rows.size());
+
+        int n = rows.size();
+        Long[] logIds = ids.toArray(Long[]::new);
+        Long[] userIds = new Long[n];
+        String[] queries = new String[n];
+        String[] algoVersions = new String[n];
+        String[] metas = new String[n];
+        Timestamp[] createdAts = new Timestamp[n];
+        List<Long> candidateLogIds = new ArrayList<>();
+        List<String> candidateSongIds = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Row r = rows.get(i);
+            userIds[i] = r.userId();
+            queries[i] = r.query();
+            algoVersions[i] = r.algoVersion();
+            metas[i] = r.meta();
+            createdAts[i] = Timestamp.valueOf(r.createdAt());
+            if (r.candidateSongIds() != null) {
+                for (String songId : r.candidateSongIds()) {
+                    candidateLogIds.add(logIds[i]);
+                    candidateSongIds.add(songId);
+                }
+            }
+        }
+
+        int inserted = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_LOGS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", logIds));
+            ps.setArray(2, con.createArrayOf("bigint", userIds));
+            ps.setArray(3, con.createArrayOf("text", queries));
+            ps.setArray(4, con.createArrayOf("text", algoVersions));
+            ps.setArray(5, con.createArrayOf("text", metas));
+            ps.setArray(6, con.createArrayOf("timestamp", createdAts));
+            return ps;
+        });
+
+        if (!candidateSongIds.isEmpty()) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_CANDIDATES_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", candidateLogIds.toArray()));
+                ps.setArray(2, con.createArrayOf("text", candidateSongIds.toArray()));
+                return ps;
+            });
+        }
+        return inserted;
+    }
+
+    /** 추천 로그 1건 (RecommendationLog 엔터티와 동일 필드) */
+    public record Row(Long userId, String query, List<String> candidateSongIds, String algoVersion, String meta,
+                      LocalDateTime createdAt) {
+    }
+}
@@ -2,6 +2,16 @@ package com.sevencode.speakle.recommend.repository;
 
 import com.sevencode.speakle.recommend.domain.RecommendationLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RecommendationLogRepository extends JpaRepository<RecommendationLog, Long> {
+
+    // 최근 자주 요청된 추천 질의("situation @ location") 상위 N개 (키워드 세트 사전 생성용)
+    @Query(value = "SELECT query FROM recommendation_logs WHERE created_at >= :since AND query IS NOT NULL"
+            + " GROUP BY query ORDER BY COUNT(*) DESC LIMIT :limit", nativeQuery = true)
+    List<String> findTopQueriesSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
 }
@@ -0,0 +1,111 @@
+package com.sevencode.speakle.recommend.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 이유 일괄 저장소
+ * - 기본 경로: 다중 행 INSERT ... ON CONFLICT (user_id, song_id) DO UPDATE (요청당 SQL 1회)
+ *   · 충돌 대상 유니크 인덱스는 기동 시 CREATE UNIQUE INDEX IF NOT EXISTS 로 보장
+ * - 폴백 경로: 인덱스 생성 실패(기존 중복 데이터 등) 시 대상 곡 일괄 DELETE 1회 → JDBC batch INSERT
+ * - 트랜잭션: JdbcTemplate은 호출부(@Transactional, JPA)의 커넥션에 참여
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RecommendationSentenceBulkRepository {
+
+    private static final String INDEX_NAME = "ux_recommendation_sentence_user_song";
+
+    // PostgreSQL 바인드 파라미터 상한(32767) 대비 여유 있게 분할
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean conflictIndexReady = false;
+
+    /** 기동 시 (user_id, song_id) 유니크 인덱스 보장. 실패하면 폴백 경로로 동작. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureConflictIndex() {
+        try {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME
+                    + " ON recommendation_sentence (user_id, song_id)");
+            conflictIndexReady = true;
+        } catch (Exception e) {
+            conflictIndexReady = false;
+            log.warn("Unique index {} unavailable ({}). Reason upsert falls back to delete + JDBC batch.",
+                    INDEX_NAME, e.getMessage());
+        }
+        log.info("Recommendation reason bulk mode: {}",
+                conflictIndexReady ? "INSERT ... ON CONFLICT DO UPDATE" : "delete + JDBC batch fallback");
+    }
+
+    /**
+     * 사용자 추천 이유 일괄 저장 (곡별 기존 값은 교체, created_at 갱신)
+     * @param reasonsBySongId songId → 추천 이유 (키 중복 없음)
+     * @return 반영된 행 수
+     */
+    public int upsertAll(Long userId, Map<String, String> reasonsBySongId) {
+        if (reasonsBySongId == null || reasonsBySongId.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<String, String>> rows = new ArrayList<>(reasonsBySongId.entrySet());
+        return conflictIndexReady ? upsertOnConflict(userId, rows) : replaceBatchFallback(userId, rows);
+    }
+
+    // ===== 기본 경로: 다중 행 INSERT ... ON CONFLICT DO UPDATE =====
+
+    private int upsertOnConflict(Long userId, List<Map.Entry<String, String>> rows) {
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<String, String>> slice = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+
+            String sql = "INSERT INTO recommendation_sentence (user_id, song_id, reason_sentence, created_at) VALUES "
+                    + String.join(", ", Collections.nCopies(slice.size(), "(?, ?, ?, LOCALTIMESTAMP)"))
+                    + " ON CONFLICT (user_id, song_id) DO UPDATE"
+                    + " SET reason_sentence = EXCLUDED.reason_sentence, created_at = EXCLUDED.created_at";
+
+            List<Object> args = new ArrayList<>(slice.size() * 3);
+            for (Map.Entry<String, String> row : slice) {
+                args.add(userId);
+                args.add(row.getKey());
+                args.add(row.getValue());
+            }
+            affected += jdbcTemplate.update(sql, args.toArray());
+        }
+        log.debug("Bulk upsert recommendation_sentence userId={} rows={} affected={}", userId, rows.size(), affected);
+        return affected;
+    }
+
+    // ===== 폴백 경로: 대상 곡 일괄 삭제 → JDBC batch INSERT =====
+
+    private int replaceBatchFallback(Long userId, List<Map.Entry<String, String>> rows) {
+        String[] songIds = rows.stream().map(Map.Entry::getKey).toArray(String[]::new);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "DELETE FROM recommendation_sentence WHERE user_id = ? AND song_id = ANY (?)");
+            ps.setLong(1, userId);
+            ps.setArray(2, con.createArrayOf("varchar", songIds));
+            return ps;
+        });
+
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Map.Entry<String, String> row : rows) {
+            batch.add(new Object[] {userId, row.getKey(), row.getValue()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO recommendation_sentence (user_id, song_id, reason_sentence, created_at)"
+                + " VALUES (?, ?, ?, LOCALTIMESTAMP)", batch);
+        log.debug("Batch replace recommendation_sentence userId={} rows={}", userId, batch.size());
+        return batch.size();
+    }
+}
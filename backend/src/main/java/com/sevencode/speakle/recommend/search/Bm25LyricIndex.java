@@ -0,0 +1,308 @@
+package com.sevencode.speakle.recommend.search;
+
+import com.sevencode.speakle.recommend.domain.Recommendation;
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import com.sevencode.speakle.recommend.repository.LyricCorpusRepository;
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * JVM 내 BM25 가사 검색 색인 (로컬 추천 백엔드)
+ * - 코퍼스: songs_lyrics.english 청크 + songs.title/artists (LyricCorpusRepository 스트리밍)
+ * - 저장: delta + varint postings 세그먼트 파일(Bm25Segment 형식) → 읽기 전용 mmap, 힙 사용은 질의용 누적 배열 정도
+ * - 갱신: 기동 시 max-age 이내의 기존 세그먼트가 있으면 그대로 매핑(DB 미조회), 없으면 빌드.
+ *   주기적으로 전체 재빌드 후 새 파일로 원자적 교체, 이전 세그먼트 파일 삭제
+ * - 질의: QueryRequest(words, phrases, top_k) → FastAPI 와 같은 QueryResponse(source = "bm25", score 는 최고점 대비 0~1)
+ * - 비활성(recommend.bm25.enabled=false) 또는 빌드 전에는 Optional.empty()
+ */
+@Slf4j
+@Component
+public class Bm25LyricIndex implements StatsSource {
+
+    private static final String SEGMENT_PREFIX = "lyrics-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SOURCE = "bm25";
+
+    private final LyricCorpusRepository corpusRepository;
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration maxAge;
+    private final double phraseTermWeight;
+    private final Bm25Segment.Scoring scoring;
+
+    private volatile Bm25Segment segment;   // null = 아직 빌드 전
+    private final AtomicBoolean building = new AtomicBoolean(false);
+
+    // 통계
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryNanosTotal = new AtomicLong();
+    private final AtomicLong queryNanosMax = new AtomicLong();
+
+    public Bm25LyricIndex(
+        LyricCorpusRepository corpusRepository,
+        @Value("${recommend.bm25.enabled:true}") boolean enabled,
+        @Value("${recommend.bm25.dir:${java.io.tmpdir}/speakle-bm25}") String directory,
+        @Value("${recommend.bm25.max-age:P1D}") Duration maxAge,
+        @Value("${recommend.bm25.k1:1.2}") double k1,
+        @Value("${recommend.bm25.b:0.75}") double b,
+        @Value("${recommend.bm25.meta-weight:0.5}") double metaWeight,
+        @Value("${recommend.bm25.popularity-boost:0.3}") double popularityBoost,
+        @Value("${recommend.bm25.phrase-term-weight:0.5}") double phraseTermWeight,
+        @Value("${recommend.bm25.phrase-boost:0.5}") double phraseBoost) {
+        this.corpusRepository = corpusRepository;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.maxAge = maxAge;
+        this.phraseTermWeight = phraseTermWeight;
+        this.scoring = new Bm25Segment.Scoring(k1, b, metaWeight, popularityBoost, phraseBoost);
+    }
+
+    public boolean isReady() {
+        return enabled && segment != null;
+    }
+
+    // ===== 빌드/갱신 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void openOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Optional<Path> latest = latestSegmentFile();
+        if (latest.isPresent()) {
+            try {
+                Bm25Segment existing = Bm25Segment.open(latest.get());
+                if (System.currentTimeMillis() - existing.builtAt() <= maxAge.toMillis()) {
+                    segment = existing;
+                    log.info("[Bm25LyricIndex] 기존 세그먼트 매핑 - {}", describe(existing));
+                    return;
+                }
+                log.info("[Bm25LyricIndex] 기존 세그먼트 만료(max-age={}) - 재빌드", maxAge);
+            } catch (IOException e) {
+                log.warn("[Bm25LyricIndex] 기존 세그먼트 열기 실패 - 재빌드: {}", e.getMessage());
+            }
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "${recommend.bm25.rebuild-cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /** DB 코퍼스 전체로 새 세그먼트 작성 → 매핑 → 교체 (동시 빌드는 1회만) */
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            log.info("[Bm25LyricIndex] 빌드 진행 중 - 요청 무시");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Bm25SegmentWriter writer = new Bm25SegmentWriter();
+            CorpusCollector collector = new CorpusCollector(writer);
+            corpusRepository.streamCorpus(collector);
+            collector.flush();
+
+            long builtAt = System.currentTimeMillis();
+            Path target = directory.resolve(SEGMENT_PREFIX + builtAt + SEGMENT_SUFFIX);
+            writer.writeTo(target, builtAt);
+            Bm25Segment fresh = Bm25Segment.open(target);
+            Bm25Segment previous = segment;
+            segment = fresh;
+            deleteStaleSegments(target);
+            log.info("[Bm25LyricIndex] 빌드 완료 - {} ({} ms){}", describe(fresh),
+                (System.nanoTime() - startedAt) / 1_000_000, previous != null ? " - 이전 세그먼트 교체" : "");
+        } catch (Exception e) {
+            log.error("[Bm25LyricIndex] 빌드 실패 - 기존 세그먼트 유지: {}", e.getMessage(), e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 키워드 질의 (words 는 가중치 1, phrases 의 토큰은 phrase-term-weight, 구문 일치는 대표 청크에 가중)
+     * @return 색인 미준비 시 empty
+     */
+    public Optional<QueryResponse> search(QueryRequest query) {
+        Bm25Segment current = segment;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        long startedAt = System.nanoTime();
+
+        Map<String, Double> weights = new LinkedHashMap<>();
+        if (query.getWords() != null) {
+            for (String word : query.getWords()) {
+                for (String token : Bm25Tokenizer.tokenize(word)) {
+                    weights.merge(token, 1.0, Double::sum);
+                }
+            }
+        }
+        List<List<String>> phrases = new ArrayList<>();
+        if (query.getPhrases() != null) {
+            for (String phrase : query.getPhrases()) {
+                List<String> tokens = Bm25Tokenizer.tokenize(phrase);
+                if (tokens.isEmpty()) {
+                    continue;
+                }
+                phrases.add(tokens);
+                if (phraseTermWeight > 0) {
+                    for (String token : tokens) {
+                        weights.merge(token, phraseTermWeight, Double::sum);
+                    }
+                }
+            }
+        }
+
+        List<Bm25Segment.Hit> hits = current.search(weights, phrases, query.getTopK(), scoring);
+        double top = hits.stream().mapToDouble(Bm25Segment.Hit::score).max().orElse(1.0);
+        List<Recommendation> results = new ArrayList<>(hits.size());
+        for (Bm25Segment.Hit hit : hits) {
+            results.add(new Recommendation(hit.songId(), Math.max(hit.chunkIndex(), 0), hit.text(),
+                top > 0 ? hit.score() / top : 0.0, SOURCE));
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        queries.incrementAndGet();
+        queryNanosTotal.addAndGet(elapsed);
+        queryNanosMax.accumulateAndGet(elapsed, Math::max);
+        return Optional.of(new QueryResponse(results));
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.bm25";
+    }
+
+    @Override
+    public Stats stats() {
+        Bm25Segment current = segment;
+        long n = queries.get();
+        return new Stats(
+            current != null ? current.songCount() : 0,
+            current != null ? current.docCount() : 0,
+            current != null ? current.termCount() : 0,
+            current != null ? current.sizeBytes() : 0,
+            n,
+            n == 0 ? 0 : queryNanosTotal.get() / n / 1_000,
+            queryNanosMax.get() / 1_000);
+    }
+
+    // ===== 세그먼트 파일 =====
+
+    private Optional<Path> latestSegmentFile() {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Bm25LyricIndex::isSegmentFile)
+                .max(Comparator.comparingLong(Bm25LyricIndex::generation));
+        } catch (IOException e) {
+            log.warn("[Bm25LyricIndex] 세그먼트 디렉터리 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** 현재 세그먼트 외 파일 삭제 (이미 매핑된 이전 세그먼트는 참조가 사라질 때까지 유효) */
+    private void deleteStaleSegments(Path keep) {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Bm25LyricIndex::isSegmentFile)
+                .filter(p -> !p.equals(keep))
+                .forEach(p -> {
+                    try {
+                        Files.deleteIfExists(p);
+                    } catch (IOException e) {
+                        log.warn("[Bm25LyricIndex] 이전 세그먼트 삭제 실패 - {}: {}", p, e.getMessage());
+                    }
+                });
+        } catch (IOException e) {
+            log.warn("[Bm25LyricIndex] 세그먼트 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isSegmentFile(Path p) {
+        String name = p.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX) && generation(p) >= 0;
+    }
+
+    private static long generation(Path p) {
+        String name = p.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static String describe(Bm25Segment s) {
+        return String.format("songs=%d, chunks=%d, terms=%d, %.1f MB, file=%s",
+            s.songCount(), s.docCount(), s.termCount(), s.sizeBytes() / (1024.0 * 1024.0), s.path().getFileName());
+    }
+
+    /** 연속된 같은 곡의 행을 묶어 writer 에 전달 */
+    private static final class CorpusCollector implements LyricCorpusRepository.RowHandler {
+        private final Bm25SegmentWriter writer;
+        private String songId;
+        private String title;
+        private String artists;
+        private Integer popularity;
+        private final List<String> chunks = new ArrayList<>();
+
+        CorpusCollector(Bm25SegmentWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(String songId, String title, String artists, Integer popularity, String english) {
+            if (!songId.equals(this.songId)) {
+                flush();
+                this.songId = songId;
+                this.title = title;
+                this.artists = artists;
+                this.popularity = popularity;
+            }
+            if (english != null) {
+                chunks.add(english);
+            }
+        }
+
+        void flush() {
+            if (songId != null) {
+                writer.addSong(songId, title, artists, popularity, chunks);
+            }
+            chunks.clear();
+            songId = null;
+        }
+    }
+
+    /** 색인 통계 (질의 지연은 마이크로초) */
+    public record Stats(int songs, int chunks, int terms, long segmentBytes, long queries, long avgQueryMicros,
+                        long maxQueryMicros) {
+    }
+}
@@ -0,0 +1,369 @@
+package com.sevencode.speakle.recommend.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 읽기 전용 BM25 세그먼트 (파일 전체 MappedByteBuffer, 힙에는 헤더 값만 보관)
+ *
+ * 파일 형식 (big-endian)
+ * - header(80B): magic, version, builtAt, songs, docs, terms, avgDocLen, avgMetaLen, reserved, 섹션 오프셋 5개
+ * - songs(24B × 곡): songId 문자열 위치/길이, popularity(-1 = 없음), firstDoc, docCount, metaLen
+ * - docs(16B × 청크): song ordinal, 토큰 수, 본문 문자열 위치/길이
+ * - terms(28B × 용어, UTF-8 unsigned 정렬): 용어 문자열 위치/길이, lyricDf, metaDf, lyric postings 바이트 수, postings 위치
+ * - postings: 용어별 [lyric: varint(docId 델타) varint(tf)]* [meta: varint(song 델타) varint(tf)]*
+ * - strings: UTF-8 문자열 blob
+ *
+ * 점수: 청크 BM25 최댓값 + metaWeight × 제목/아티스트 BM25 → 인기도 가중 × (1 + popularityBoost × ln(1+pop)/ln(101))
+ *       → 상위 후보의 대표 청크에 질의 구문이 토큰 단위로 포함되면 구문마다 (1 + phraseBoost) 배
+ */
+final class Bm25Segment {
+
+    static final int MAGIC = 0x424D3235; // "BM25"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 80;
+    static final int SONG_BYTES = 24;
+    static final int DOC_BYTES = 16;
+    static final int TERM_BYTES = 28;
+
+    private static final double LN_101 = Math.log(101);
+
+    private final Path path;
+    private final ByteBuffer buf;
+    private final long builtAt;
+    private final int numSongs;
+    private final int numDocs;
+    private final int numTerms;
+    private final float avgDocLen;
+    private final float avgMetaLen;
+    private final int songsOffset;
+    private final int docsOffset;
+    private final int termsOffset;
+    private final int postingsOffset;
+    private final int stringsOffset;
+
+    // 질의별 누적 배열 재사용 (문서 수만큼의 배열을 매 질의 할당하지 않도록)
+    private final ConcurrentLinkedQueue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+    /** 점수 파라미터 */
+    record Scoring(double k1, double b, double metaWeight, double popularityBoost, double phraseBoost) {
+    }
+
+    /** 곡 단위 검색 결과 (chunkIndex = 곡 내 대표 청크 순번, 가사 매칭이 없으면 -1 / text null) */
+    record Hit(String songId, int chunkIndex, String text, double score) {
+    }
+
+    private Bm25Segment(Path path, ByteBuffer buf) throws IOException {
+        this.path = path;
+        this.buf = buf;
+        if (buf.capacity() < HEADER_BYTES || buf.getInt(0) != MAGIC) {
+            throw new IOException("Not a BM25 segment: " + path);
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IOException("Unsupported BM25 segment version " + buf.getInt(4) + ": " + path);
+        }
+        this.builtAt = buf.getLong(8);
+        this.numSongs = buf.getInt(16);
+        this.numDocs = buf.getInt(20);
+        this.numTerms = buf.getInt(24);
+        this.avgDocLen = buf.getFloat(28);
+        this.avgMetaLen = buf.getFloat(32);
+        this.songsOffset = (int)buf.getLong(40);
+        this.docsOffset = (int)buf.getLong(48);
+        this.termsOffset = (int)buf.getLong(56);
+        this.postingsOffset = (int)buf.getLong(64);
+        this.stringsOffset = (int)buf.getLong(72);
+    }
+
+    /** 세그먼트 파일을 읽기 전용으로 매핑 (채널은 매핑 후 닫아도 매핑 유지) */
+    static Bm25Segment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("BM25 segment too large to map: " + path);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Bm25Segment(path, mapped);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long builtAt() {
+        return builtAt;
+    }
+
+    int songCount() {
+        return numSongs;
+    }
+
+    int docCount() {
+        return numDocs;
+    }
+
+    int termCount() {
+        return numTerms;
+    }
+
+    long sizeBytes() {
+        return buf.capacity();
+    }
+
+    /**
+     * 질의 실행
+     * @param termWeights 토큰화된 질의 용어 → 가중치
+     * @param phrases 토큰화된 질의 구문 (구문 가중용, 2토큰 이상만 의미 있음)
+     */
+    List<Hit> search(Map<String, Double> termWeights, Collection<List<String>> phrases, int topK, Scoring scoring) {
+        if (topK <= 0 || termWeights.isEmpty() || numSongs == 0) {
+            return List.of();
+        }
+        Scratch s = scratchPool.poll();
+        if (s == null) {
+            s = new Scratch(numDocs, numSongs);
+        }
+        try {
+            for (Map.Entry<String, Double> e : termWeights.entrySet()) {
+                int term = findTerm(e.getKey().getBytes(StandardCharsets.UTF_8));
+                if (term >= 0) {
+                    accumulate(term, e.getValue(), scoring, s);
+                }
+            }
+            return rank(s, phrases, topK, scoring);
+        } finally {
+            s.reset();
+            scratchPool.offer(s);
+        }
+    }
+
+    // ===== 점수 누적 (term-at-a-time) =====
+
+    private void accumulate(int term, double weight, Scoring scoring, Scratch s) {
+        int entry = termsOffset + term * TERM_BYTES;
+        int lyricDf = buf.getInt(entry + 8);
+        int metaDf = buf.getInt(entry + 12);
+        int lyricBytes = buf.getInt(entry + 16);
+        int pos = postingsOffset + (int)buf.getLong(entry + 20);
+        double k1 = scoring.k1();
+        double b = scoring.b();
+
+        // lyric postings (docId)
+        double idf = idf(numDocs, lyricDf) * weight;
+        int[] cursor = {pos};
+        int doc = 0;
+        for (int i = 0; i < lyricDf; i++) {
+            doc += readVarint(cursor);
+            int tf = readVarint(cursor);
+            int len = buf.getInt(docsOffset + doc * DOC_BYTES + 4);
+            double norm = k1 * (1 - b + b * len / Math.max(avgDocLen, 1e-6f));
+            s.addDoc(doc, (float)(idf * tf * (k1 + 1) / (tf + norm)));
+        }
+
+        // meta postings (song ordinal)
+        cursor[0] = pos + lyricBytes;
+        double metaIdf = idf(numSongs, metaDf) * weight;
+        int song = 0;
+        for (int i = 0; i < metaDf; i++) {
+            song += readVarint(cursor);
+            int tf = readVarint(cursor);
+            int len = buf.getInt(songsOffset + song * SONG_BYTES + 20);
+            double norm = k1 * (1 - b + b * len / Math.max(avgMetaLen, 1e-6f));
+            s.addMeta(song, (float)(metaIdf * tf * (k1 + 1) / (tf + norm)));
+        }
+    }
+
+    private static double idf(int n, int df) {
+        return Math.log(1 + (n - df + 0.5) / (df + 0.5));
+    }
+
+    private int readVarint(int[] cursor) {
+        int pos = cursor[0];
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get(pos++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        cursor[0] = pos;
+        return value;
+    }
+
+    // ===== 곡 단위 집계 + 상위 K =====
+
+    private List<Hit> rank(Scratch s, Collection<List<String>> phrases, int topK, Scoring scoring) {
+        // 청크 점수 → 곡별 최고 청크
+        for (int i = 0; i < s.touchedDocs; i++) {
+            int doc = s.docs[i];
+            int song = buf.getInt(docsOffset + doc * DOC_BYTES);
+            s.touchSong(song);
+            if (s.bestDoc[song] < 0 || s.docScore[doc] > s.docScore[s.bestDoc[song]]) {
+                s.bestDoc[song] = doc;
+            }
+        }
+
+        // 구문 가중은 상위 후보에만 적용하므로 여유분 확보
+        boolean phraseStage = scoring.phraseBoost() > 0 && phrases.stream().anyMatch(p -> p.size() > 1);
+        int keep = phraseStage ? topK * 2 : topK;
+        PriorityQueue<double[]> heap = new PriorityQueue<>(keep + 1, (x, y) -> Double.compare(x[0], y[0]));
+        for (int i = 0; i < s.touchedSongs; i++) {
+            int song = s.songs[i];
+            double base = (s.bestDoc[song] >= 0 ? s.docScore[s.bestDoc[song]] : 0)
+                + scoring.metaWeight() * s.metaScore[song];
+            double score = base * popularityBoost(song, scoring);
+            if (heap.size() < keep) {
+                heap.add(new double[] {score, song});
+            } else if (score > heap.peek()[0]) {
+                heap.poll();
+                heap.add(new double[] {score, song});
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap.size());
+        for (double[] e : heap) {
+            int song = (int)e[1];
+            int doc = s.bestDoc[song];
+            int songEntry = songsOffset + song * SONG_BYTES;
+            String text = doc >= 0 ? string(docsOffset + doc * DOC_BYTES + 8) : null;
+            double score = e[0];
+            if (phraseStage && text != null) {
+                score *= 1 + scoring.phraseBoost() * phraseMatches(text, phrases);
+            }
+            hits.add(new Hit(string(songEntry), doc >= 0 ? doc - buf.getInt(songEntry + 12) : -1, text, score));
+        }
+        hits.sort((x, y) -> Double.compare(y.score(), x.score()));
+        return hits.size() > topK ? new ArrayList<>(hits.subList(0, topK)) : hits;
+    }
+
+    private double popularityBoost(int song, Scoring scoring) {
+        int popularity = buf.getInt(songsOffset + song * SONG_BYTES + 8);
+        if (popularity <= 0 || scoring.popularityBoost() <= 0) {
+            return 1.0;
+        }
+        return 1 + scoring.popularityBoost() * Math.log1p(Math.min(popularity, 100)) / LN_101;
+    }
+
+    private static int phraseMatches(String text, Collection<List<String>> phrases) {
+        String joined = " " + String.join(" ", Bm25Tokenizer.tokenize(text)) + " ";
+        int matches = 0;
+        for (List<String> phrase : phrases) {
+            if (phrase.size() > 1 && joined.contains(" " + String.join(" ", phrase) + " ")) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    // ===== 사전/문자열 =====
+
+    /** 용어 사전 이진 탐색 (매핑 영역의 UTF-8 바이트와 unsigned 비교) */
+    int findTerm(byte[] key) {
+        int lo = 0;
+        int hi = numTerms - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int entry = termsOffset + mid * TERM_BYTES;
+            int c = compare(stringsOffset + buf.getInt(entry), buf.getInt(entry + 4), key);
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int pos, int len, byte[] key) {
+        int n = Math.min(len, key.length);
+        for (int i = 0; i < n; i++) {
+            int c = Byte.toUnsignedInt(buf.get(pos + i)) - Byte.toUnsignedInt(key[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return len - key.length;
+    }
+
+    /** (위치, 길이) 쌍이 놓인 엔트리 위치 → 문자열 */
+    private String string(int refPos) {
+        int len = buf.getInt(refPos + 4);
+        byte[] bytes = new byte[len];
+        buf.get(stringsOffset + buf.getInt(refPos), bytes, 0, len);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** 질의 1회분 누적 상태 (건드린 항목만 되돌려 재사용) */
+    private static final class Scratch {
+        final float[] docScore;
+        final float[] metaScore;
+        final int[] bestDoc;
+        final boolean[] songSeen;
+        int[] docs = new int[1024];
+        int[] songs = new int[256];
+        int touchedDocs;
+        int touchedSongs;
+
+        Scratch(int numDocs, int numSongs) {
+            docScore = new float[numDocs];
+            metaScore = new float[numSongs];
+            bestDoc = new int[numSongs];
+            songSeen = new boolean[numSongs];
+            Arrays.fill(bestDoc, -1);
+        }
+
+        void addDoc(int doc, float score) {
+            if (docScore[doc] == 0f) {
+                if (touchedDocs == docs.length) {
+                    docs = Arrays.copyOf(docs, touchedDocs * 2);
+                }
+                docs[touchedDocs++] = doc;
+            }
+            docScore[doc] += score;
+        }
+
+        void addMeta(int song, float score) {
+            touchSong(song);
+            metaScore[song] += score;
+        }
+
+        void touchSong(int song) {
+            if (!songSeen[song]) {
+                songSeen[song] = true;
+                if (touchedSongs == songs.length) {
+                    songs = Arrays.copyOf(songs, touchedSongs * 2);
+                }
+                songs[touchedSongs++] = song;
+            }
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedDocs; i++) {
+                docScore[docs[i]] = 0f;
+            }
+            for (int i = 0; i < touchedSongs; i++) {
+                int song = songs[i];
+                metaScore[song] = 0f;
+                bestDoc[song] = -1;
+                songSeen[song] = false;
+            }
+            touchedDocs = 0;
+            touchedSongs = 0;
+        }
+    }
+}
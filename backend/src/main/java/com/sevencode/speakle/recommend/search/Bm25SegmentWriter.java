@@ -0,0 +1,259 @@
+package com.sevencode.speakle.recommend.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BM25 세그먼트 빌더 (메모리 누적 → 단일 파일 기록)
+ * - 문서 = 가사 청크 1개(english), 곡마다 제목+아티스트 메타 필드 1개
+ * - 곡은 addSong 순서대로 ordinal 부여, 청크 docId 는 전역 증가 → postings 가 자연 정렬되어 정렬 비용 없음
+ * - 기록 형식은 Bm25Segment 참고 (임시 파일에 쓴 뒤 원자적 이동)
+ */
+final class Bm25SegmentWriter {
+
+    private final List<SongEntry> songs = new ArrayList<>();
+    private final Map<String, TermPostings> terms = new HashMap<>();
+    private final IntList docSong = new IntList();
+    private final IntList docLen = new IntList();
+    private final List<String> docText = new ArrayList<>();
+    private long totalDocLen;
+    private long totalMetaLen;
+
+    private record SongEntry(String songId, int popularity, int firstDoc, int docCount, int metaLen) {
+    }
+
+    private record TermEntry(byte[] bytes, TermPostings postings) {
+    }
+
+    /** (docId 또는 song ordinal, tf) 쌍 누적 */
+    private static final class TermPostings {
+        final IntList lyric = new IntList();
+        final IntList meta = new IntList();
+    }
+
+    /**
+     * 곡 1건 추가
+     * @param chunks 시작 시간 순 영어 가사 청크 (빈 청크는 건너뜀, chunkIndex 는 남은 청크 기준)
+     */
+    void addSong(String songId, String title, String artists, Integer popularity, List<String> chunks) {
+        int ordinal = songs.size();
+        int firstDoc = docSong.size();
+
+        for (String chunk : chunks) {
+            if (chunk == null || chunk.isBlank()) {
+                continue;
+            }
+            int docId = docSong.size();
+            int len = accumulate(Bm25Tokenizer.tokenize(chunk), docId, false);
+            docSong.add(ordinal);
+            docLen.add(len);
+            docText.add(chunk);
+            totalDocLen += len;
+        }
+
+        List<String> metaTokens = new ArrayList<>(Bm25Tokenizer.tokenize(title));
+        metaTokens.addAll(Bm25Tokenizer.tokenize(artists));
+        int metaLen = accumulate(metaTokens, ordinal, true);
+        totalMetaLen += metaLen;
+
+        songs.add(new SongEntry(songId, popularity != null ? popularity : -1, firstDoc,
+            docSong.size() - firstDoc, metaLen));
+    }
+
+    int songCount() {
+        return songs.size();
+    }
+
+    int docCount() {
+        return docSong.size();
+    }
+
+    private int accumulate(List<String> tokens, int id, boolean meta) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : tokens) {
+            tf.merge(t, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> e : tf.entrySet()) {
+            TermPostings p = terms.computeIfAbsent(e.getKey(), k -> new TermPostings());
+            IntList list = meta ? p.meta : p.lyric;
+            list.add(id);
+            list.add(e.getValue());
+        }
+        return tokens.size();
+    }
+
+    /** 세그먼트 파일 기록 (target 옆 임시 파일 → ATOMIC_MOVE) */
+    void writeTo(Path target, long builtAtMillis) throws IOException {
+        // 1) 문자열/postings 인코딩 + 상대 오프셋 계산
+        byte[][] songIds = new byte[songs.size()][];
+        byte[][] texts = new byte[docText.size()][];
+        long stringsSize = 0;
+        for (int i = 0; i < songIds.length; i++) {
+            songIds[i] = songs.get(i).songId().getBytes(StandardCharsets.UTF_8);
+            stringsSize += songIds[i].length;
+        }
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = docText.get(i).getBytes(StandardCharsets.UTF_8);
+            stringsSize += texts[i].length;
+        }
+
+        // 용어 사전은 UTF-8 바이트 unsigned 순 정렬 → 조회 시 매핑 영역에서 바로 이진 탐색
+        List<TermEntry> sorted = new ArrayList<>(terms.size());
+        for (Map.Entry<String, TermPostings> e : terms.entrySet()) {
+            byte[] b = e.getKey().getBytes(StandardCharsets.UTF_8);
+            sorted.add(new TermEntry(b, e.getValue()));
+            stringsSize += b.length;
+        }
+        sorted.sort((x, y) -> Arrays.compareUnsigned(x.bytes(), y.bytes()));
+
+        byte[][] lyricPostings = new byte[sorted.size()][];
+        byte[][] metaPostings = new byte[sorted.size()][];
+        long postingsSize = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            TermPostings p = sorted.get(i).postings();
+            lyricPostings[i] = encode(p.lyric);
+            metaPostings[i] = encode(p.meta);
+            postingsSize += lyricPostings[i].length + metaPostings[i].length;
+        }
+
+        long songsOffset = Bm25Segment.HEADER_BYTES;
+        long docsOffset = songsOffset + (long)songs.size() * Bm25Segment.SONG_BYTES;
+        long termsOffset = docsOffset + (long)docSong.size() * Bm25Segment.DOC_BYTES;
+        long postingsOffset = termsOffset + (long)sorted.size() * Bm25Segment.TERM_BYTES;
+        long stringsOffset = postingsOffset + postingsSize;
+        if (stringsOffset + stringsSize > Integer.MAX_VALUE) {
+            throw new IOException("BM25 segment exceeds 2GB mapping limit: " + (stringsOffset + stringsSize));
+        }
+
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream fos = Files.newOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, 1 << 16))) {
+            // header
+            out.writeInt(Bm25Segment.MAGIC);
+            out.writeInt(Bm25Segment.VERSION);
+            out.writeLong(builtAtMillis);
+            out.writeInt(songs.size());
+            out.writeInt(docSong.size());
+            out.writeInt(sorted.size());
+            out.writeFloat(docSong.size() == 0 ? 0f : (float)totalDocLen / docSong.size());
+            out.writeFloat(songs.isEmpty() ? 0f : (float)totalMetaLen / songs.size());
+            out.writeInt(0);
+            out.writeLong(songsOffset);
+            out.writeLong(docsOffset);
+            out.writeLong(termsOffset);
+            out.writeLong(postingsOffset);
+            out.writeLong(stringsOffset);
+
+            // 문자열 배치 순서: 곡 ID → 청크 본문 → 용어 (아래 섹션들이 같은 순서로 오프셋 누적)
+            int stringPos = 0;
+
+            // songs
+            for (int i = 0; i < songs.size(); i++) {
+                SongEntry s = songs.get(i);
+                out.writeInt(stringPos);
+                out.writeInt(songIds[i].length);
+                out.writeInt(s.popularity());
+                out.writeInt(s.firstDoc());
+                out.writeInt(s.docCount());
+                out.writeInt(s.metaLen());
+                stringPos += songIds[i].length;
+            }
+
+            // docs
+            for (int d = 0; d < docSong.size(); d++) {
+                out.writeInt(docSong.get(d));
+                out.writeInt(docLen.get(d));
+                out.writeInt(stringPos);
+                out.writeInt(texts[d].length);
+                stringPos += texts[d].length;
+            }
+
+            // terms
+            long postingPos = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                TermEntry t = sorted.get(i);
+                TermPostings p = t.postings();
+                out.writeInt(stringPos);
+                out.writeInt(t.bytes().length);
+                out.writeInt(p.lyric.size() / 2);
+                out.writeInt(p.meta.size() / 2);
+                out.writeInt(lyricPostings[i].length);
+                out.writeLong(postingPos);
+                stringPos += t.bytes().length;
+                postingPos += lyricPostings[i].length + metaPostings[i].length;
+            }
+
+            // postings
+            for (int i = 0; i < sorted.size(); i++) {
+                out.write(lyricPostings[i]);
+                out.write(metaPostings[i]);
+            }
+
+            // strings
+            for (byte[] b : songIds) {
+                out.write(b);
+            }
+            for (byte[] b : texts) {
+                out.write(b);
+            }
+            for (TermEntry t : sorted) {
+                out.write(t.bytes());
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** (id, tf) 쌍 → varint(id 델타) varint(tf) 반복 */
+    private static byte[] encode(IntList pairs) {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(pairs.size() * 2);
+        int prev = 0;
+        for (int i = 0; i < pairs.size(); i += 2) {
+            int id = pairs.get(i);
+            writeVarint(buf, id - prev);
+            writeVarint(buf, pairs.get(i + 1));
+            prev = id;
+        }
+        return buf.toByteArray();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.write(value);
+    }
+
+    /** 박싱 없는 int 가변 배열 */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
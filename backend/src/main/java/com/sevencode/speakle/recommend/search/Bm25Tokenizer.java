@@ -0,0 +1,57 @@
+package com.sevencode.speakle.recommend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * BM25 색인/질의 공용 토크나이저
+ * - NFKC + Locale.ROOT 소문자 → 문자/숫자 외 구분자로 분할, 단어 내부 아포스트로피 제거 (don't → dont)
+ * - 1자 토큰과 영어 불용어 제외 (한글 등 비라틴 토큰은 그대로 유지)
+ * - 색인과 질의가 반드시 같은 규칙을 써야 하므로 이 클래스만 사용
+ */
+final class Bm25Tokenizer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+        "no", "not", "of", "on", "or", "so", "such", "that", "the", "their", "then", "there", "these",
+        "they", "this", "to", "was", "will", "with", "oh", "ah", "uh", "yeah", "na", "la", "ooh");
+
+    private Bm25Tokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return out;
+        }
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < s.length(); ) {
+            int cp = s.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isLetterOrDigit(cp)) {
+                token.appendCodePoint(cp);
+            } else if ((cp == '\'' || cp == '’') && token.length() > 0) {
+                // 단어 내부 아포스트로피는 건너뜀
+                continue;
+            } else {
+                emit(token, out);
+            }
+        }
+        emit(token, out);
+        return out;
+    }
+
+    private static void emit(StringBuilder token, List<String> out) {
+        if (token.length() > 1) {
+            String t = token.toString();
+            if (!STOPWORDS.contains(t)) {
+                out.add(t);
+            }
+        }
+        token.setLength(0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import com.sevencode.speakle.recommend.search.Bm25LyricIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** JVM 내 BM25 가사 색인 백엔드 (외부 호출 없음) */
+@Component
+@RequiredArgsConstructor
+public class Bm25RecommendationBackend implements RecommendationBackend {
+
+    private final Bm25LyricIndex index;
+
+    @Override
+    public Type type() {
+        return Type.BM25;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return index.isReady();
+    }
+
+    @Override
+    public QueryResponse search(QueryRequest query) {
+        return index.search(query)
+                .orElseThrow(() -> new IllegalStateException("BM25 가사 색인이 준비되지 않았습니다."));
+    }
+}
@@ -0,0 +1,30 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.client.FastApiClient;
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 외부 FastAPI/Weaviate 하이브리드 검색 백엔드 */
+@Component
+@RequiredArgsConstructor
+public class FastApiRecommendationBackend implements RecommendationBackend {
+
+    private final FastApiClient fastApiClient;
+
+    @Override
+    public Type type() {
+        return Type.FASTAPI;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public QueryResponse search(QueryRequest query) {
+        return fastApiClient.getRecommendations(query);
+    }
+}
@@ -0,0 +1,223 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 후보 캐시 (FastAPI 하이브리드 검색 결과)
+ * - 목적: 같은 질의로 페이지만 바꿔 요청할 때 Weaviate 하이브리드 검색(top_k 후보) 재실행 방지.
+ *   페이지 2..N 은 캐시된 후보 목록에서 필터/정렬/페이징만 수행.
+ * - 키: 정규화된 (situation, location, words, phrases, topK) + 백엔드 — 공백/대소문자/순서 차이 무시.
+ * - 짧은 TTL + 용량 상한(접근순 LRU). 동일 키 동시 요청은 단일 호출로 합침(single-flight).
+ * - 통계: 히트율, 합류(coalesced) 수, 제공된 히트의 경과 시간(staleness) 평균/최대.
+ * - 캐시된 QueryResponse 는 호출부에서 읽기 전용으로만 사용해야 함.
+ */
+@Slf4j
+@Component
+public class RecommendCandidateCache implements StatsSource {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    // 접근순 LinkedHashMap 기반 LRU (동기화는 this 모니터)
+    private final LinkedHashMap<Key, Entry> lru;
+    private final ConcurrentHashMap<Key, CompletableFuture<QueryResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 통계
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong servedAgeMillisTotal = new AtomicLong();
+    private final AtomicLong servedAgeMillisMax = new AtomicLong();
+
+    public RecommendCandidateCache(
+        @Value("${recommend.candidate-cache.enabled:true}") boolean enabled,
+        @Value("${recommend.candidate-cache.ttl:PT2M}") Duration ttl,
+        @Value("${recommend.candidate-cache.max-entries:256}") int maxEntries) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RecommendCandidateCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        log.info("Recommend candidate cache => enabled={}, ttl={}, maxEntries={}", enabled, ttl, this.maxEntries);
+    }
+
+    /**
+     * 캐시 조회, 미스 시 loader 호출(동일 키 동시 요청은 한 번만 호출).
+     * loader 예외는 대기 중인 호출부 모두에 그대로 전파되며 캐시되지 않음.
+     */
+    public QueryResponse getOrLoad(Key key, Supplier<QueryResponse> loader) {
+        return getOrLoadIfCacheable(key, () -> new Loaded(loader.get(), true));
+    }
+
+    /**
+     * getOrLoad 와 같되 loader 가 cacheable=false 를 돌려주면 응답만 전달하고 캐시하지 않음
+     * (키의 백엔드 대신 대체 백엔드가 응답한 경우 등 → 장애 중 결과가 TTL 동안 고정되지 않도록)
+     */
+    public QueryResponse getOrLoadIfCacheable(Key key, Supplier<Loaded> loader) {
+        if (!enabled) {
+            return loader.get().response();
+        }
+
+        QueryResponse cached = getFresh(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<QueryResponse> mine = new CompletableFuture<>();
+        CompletableFuture<QueryResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            return join(running);
+        }
+
+        misses.incrementAndGet();
+        try {
+            Loaded loaded = loader.get();
+            QueryResponse response = loaded.response();
+            if (loaded.cacheable() && response != null && response.getResults() != null) {
+                synchronized (this) {
+                    lru.put(key, new Entry(response, System.nanoTime()));
+                }
+            }
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.candidate-cache";
+    }
+
+    /** 현재 통계 스냅샷 */
+    @Override
+    public Stats stats() {
+        int size;
+        synchronized (this) {
+            size = lru.size();
+        }
+        long h = hits.get();
+        return new Stats(h, misses.get(), coalesced.get(), evictions.get(), expirations.get(), size,
+            h == 0 ? 0 : servedAgeMillisTotal.get() / h, servedAgeMillisMax.get());
+    }
+
+    private QueryResponse getFresh(Key key) {
+        Entry e;
+        synchronized (this) {
+            e = lru.get(key);
+            if (e == null) {
+                return null;
+            }
+            if (System.nanoTime() - e.loadedAtNanos >= ttl.toNanos()) {
+                lru.remove(key);
+                expirations.incrementAndGet();
+                return null;
+            }
+        }
+        long ageMillis = (System.nanoTime() - e.loadedAtNanos) / 1_000_000;
+        hits.incrementAndGet();
+        servedAgeMillisTotal.addAndGet(ageMillis);
+        servedAgeMillisMax.accumulateAndGet(ageMillis, Math::max);
+        return e.response;
+    }
+
+    private static QueryResponse join(CompletableFuture<QueryResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(QueryResponse response, long loadedAtNanos) {
+    }
+
+    /** loader 결과 + 캐시 허용 여부 */
+    public record Loaded(QueryResponse response, boolean cacheable) {
+    }
+
+    /** 정규화된 추천 질의 키 */
+    public record Key(String situation, String location, List<String> words, List<String> phrases, int topK,
+                      RecommendationBackend.Type backend) {
+
+        /** 백엔드별로 후보가 다르므로 백엔드 구분 포함 */
+        public static Key of(String situation, String location, QueryRequest query,
+                             RecommendationBackend.Type backend) {
+            return new Key(norm(situation), norm(location), normAll(query.getWords()), normAll(query.getPhrases()),
+                query.getTopK(), backend);
+        }
+
+        private static String norm(String s) {
+            return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+
+        private static List<String> normAll(Collection<String> values) {
+            if (values == null) {
+                return List.of();
+            }
+            return values.stream()
+                .filter(Objects::nonNull)
+                .map(Key::norm)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /** 캐시 통계 (히트율 = hits / (hits + misses + coalesced)) */
+    public record Stats(long hits, long misses, long coalesced, long evictions, long expirations, int size,
+                        long avgServedAgeMillis, long maxServedAgeMillis) {
+
+        public double hitRate() {
+            long total = hits + misses + coalesced;
+            return total == 0 ? 0.0 : (double)hits / total;
+        }
+
+        // 주기 로그(StatsReporter)에 히트율 포함
+        @Override
+        public String toString() {
+            return String.format("Stats[hitRate=%.3f, hits=%d, misses=%d, coalesced=%d, evictions=%d, expirations=%d, "
+                    + "size=%d, avgServedAgeMillis=%d, maxServedAgeMillis=%d]", hitRate(), hits, misses, coalesced,
+                evictions, expirations, size, avgServedAgeMillis, maxServedAgeMillis);
+        }
+    }
+}
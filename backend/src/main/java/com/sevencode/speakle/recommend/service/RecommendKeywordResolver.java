@@ -0,0 +1,239 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.recommend.client.GMSAiClient;
+import com.sevencode.speakle.recommend.domain.RecommendKeywordSet;
+import com.sevencode.speakle.recommend.dto.response.KeywordsResponse;
+import com.sevencode.speakle.recommend.repository.RecommendKeywordSetRepository;
+import com.sevencode.speakle.recommend.repository.RecommendationLogRepository;
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 키워드 해석기 (situation, location → 검색 키워드)
+ * - 1단계: 결정적 정규화 (NFKC, 공백 정리, 소문자, 앞뒤 따옴표/끝 문장부호 제거)
+ * - 2단계: 영속 키워드 세트 조회 (recommend_keyword_sets, 키 = 정규화 값 + model + 프롬프트 버전)
+ * - 3단계: 미스 시에만 LLM 호출 후 결과 저장 (동일 키 동시 미스는 single-flight 로 1회 호출)
+ * - 사전 생성: 최근 추천 로그의 상위 질의 조합을 주기적으로 미리 생성 → 일반적인 요청은 LLM 없이 응답
+ * - 프롬프트 버전은 GMSAiClient.KEYWORDS_PROMPT_VERSION (프롬프트 내용 해시) → 프롬프트 변경 시 자동 무효화
+ */
+@Slf4j
+@Component
+public class RecommendKeywordResolver implements StatsSource {
+
+    // 추천 경로에서 사용하는 키워드 생성 모델 (사전 생성 대상)
+    private static final String DEFAULT_MODEL = "gpt-4o-mini";
+
+    private final GMSAiClient gmsAiClient;
+    private final RecommendKeywordSetRepository keywordSetRepository;
+    private final RecommendationLogRepository logRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean warmEnabled;
+    private final Duration warmLookback;
+    private final int warmTopN;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<KeywordsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 통계
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong warmed = new AtomicLong();
+
+    public RecommendKeywordResolver(
+        GMSAiClient gmsAiClient,
+        RecommendKeywordSetRepository keywordSetRepository,
+        RecommendationLogRepository logRepository,
+        ObjectMapper objectMapper,
+        @Value("${recommend.keywords.store.enabled:true}") boolean enabled,
+        @Value("${recommend.keywords.warm.enabled:true}") boolean warmEnabled,
+        @Value("${recommend.keywords.warm.lookback:P30D}") Duration warmLookback,
+        @Value("${recommend.keywords.warm.top-n:200}") int warmTopN) {
+        this.gmsAiClient = gmsAiClient;
+        this.keywordSetRepository = keywordSetRepository;
+        this.logRepository = logRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.warmEnabled = warmEnabled;
+        this.warmLookback = warmLookback;
+        this.warmTopN = warmTopN;
+    }
+
+    /** 키워드 해석 (저장된 세트 우선, 미스 시 LLM 호출 후 저장) */
+    public KeywordsResponse resolve(String situation, String location, String model) {
+        if (!enabled) {
+            return gmsAiClient.generateKeywords(situation, location, model);
+        }
+        Key key = Key.of(situation, location, model);
+
+        Optional<KeywordsResponse> stored = find(key);
+        if (stored.isPresent()) {
+            hits.incrementAndGet();
+            return stored.get();
+        }
+
+        CompletableFuture<KeywordsResponse> mine = new CompletableFuture<>();
+        CompletableFuture<KeywordsResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            return join(running);
+        }
+
+        misses.incrementAndGet();
+        try {
+            KeywordsResponse generated = generateAndStore(key);
+            mine.complete(generated);
+            return generated;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 최근 추천 로그 상위 질의 조합의 키워드 세트 사전 생성 (현재 프롬프트 버전 기준, 이미 있으면 건너뜀) */
+    @Scheduled(cron = "${recommend.keywords.warm.cron:0 0 3 * * *}")
+    public void warmFrequentQueries() {
+        if (!enabled || !warmEnabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        int generated = 0;
+        try {
+            List<String> queries = logRepository.findTopQueriesSince(LocalDateTime.now().minus(warmLookback), warmTopN);
+            Set<Key> keys = new LinkedHashSet<>();
+            for (String query : queries) {
+                int sep = query.lastIndexOf(" @ ");
+                if (sep >= 0) {
+                    keys.add(Key.of(query.substring(0, sep), query.substring(sep + 3), DEFAULT_MODEL));
+                }
+            }
+            for (Key key : keys) {
+                if (find(key).isPresent()) {
+                    continue;
+                }
+                try {
+                    generateAndStore(key);
+                    generated++;
+                } catch (Exception e) {
+                    log.warn("[RecommendKeywordResolver] 키워드 사전 생성 실패 - {}: {}", key, e.getMessage());
+                }
+            }
+            warmed.addAndGet(generated);
+            log.info("[RecommendKeywordResolver] 키워드 사전 생성 완료 - candidates={}, generated={}, version={} ({} ms)",
+                keys.size(), generated, GMSAiClient.KEYWORDS_PROMPT_VERSION, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("[RecommendKeywordResolver] 키워드 사전 생성 중단: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.keywords";
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), coalesced.get(), warmed.get());
+    }
+
+    private Optional<KeywordsResponse> find(Key key) {
+        return keywordSetRepository.findBySituationKeyAndLocationKeyAndModelAndPromptVersion(
+                key.situation(), key.location(), key.model(), GMSAiClient.KEYWORDS_PROMPT_VERSION)
+            .flatMap(this::parse);
+    }
+
+    private KeywordsResponse generateAndStore(Key key) {
+        // 정규화된 값으로 호출 → 같은 키는 항상 같은 프롬프트
+        KeywordsResponse generated = gmsAiClient.generateKeywords(key.situation(), key.location(), key.model());
+        try {
+            keywordSetRepository.save(RecommendKeywordSet.builder()
+                .situationKey(key.situation())
+                .locationKey(key.location())
+                .model(key.model())
+                .promptVersion(GMSAiClient.KEYWORDS_PROMPT_VERSION)
+                .keywordsJson(objectMapper.writeValueAsString(generated))
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장 → 무시
+            log.debug("[RecommendKeywordResolver] 키워드 세트 동시 저장 - {}", key);
+        } catch (Exception e) {
+            log.warn("[RecommendKeywordResolver] 키워드 세트 저장 실패 - {}: {}", key, e.getMessage());
+        }
+        return generated;
+    }
+
+    private Optional<KeywordsResponse> parse(RecommendKeywordSet set) {
+        try {
+            return Optional.of(objectMapper.readValue(set.getKeywordsJson(), KeywordsResponse.class));
+        } catch (Exception e) {
+            log.warn("[RecommendKeywordResolver] 저장된 키워드 세트 파싱 실패 - id={}: {}", set.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static KeywordsResponse join(CompletableFuture<KeywordsResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    /** 정규화된 키워드 세트 키 */
+    record Key(String situation, String location, String model) {
+
+        static Key of(String situation, String location, String model) {
+            return new Key(normalize(situation), normalize(location), model);
+        }
+    }
+
+    /** 결정적 정규화: NFKC → 앞뒤 따옴표/끝 문장부호 제거 → 공백 1칸 → 소문자 */
+    static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        String n = Normalizer.normalize(s, Normalizer.Form.NFKC)
+            .replaceAll("^[\\s\"'“”‘’]+|[\\s\"'“”‘’.!?~…]+$", "")
+            .replaceAll("\\s+", " ");
+        return n.toLowerCase(Locale.ROOT);
+    }
+
+    /** 해석 통계 (hit = 저장된 세트 사용, miss = LLM 호출) */
+    public record Stats(long hits, long misses, long coalesced, long warmed) {
+
+        public double hitRate() {
+            long total = hits + misses + coalesced;
+            return total == 0 ? 0.0 : (double)hits / total;
+        }
+
+        // 주기 로그(StatsReporter)에 히트율 포함
+        @Override
+        public String toString() {
+            return String.format("Stats[hitRate=%.3f, hits=%d, misses=%d, coalesced=%d, warmed=%d]",
+                hitRate(), hits, misses, coalesced, warmed);
+        }
+    }
+}
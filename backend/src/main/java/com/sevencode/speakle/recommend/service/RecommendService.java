@@ -3,7 +3,6 @@ package com.sevencode.speakle.recommend.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sevencode.speakle.recommend.client.FastApiClient;
-import com.sevencode.speakle.recommend.client.GMSAiClient;
 import com.sevencode.speakle.recommend.domain.Recommendation;
 import com.sevencode.speakle.recommend.domain.RecommendationLog;
 import com.sevencode.speakle.recommend.dto.request.HybridRecommendRequest;
@@ -16,23 +15,27 @@ import com.sevencode.speakle.recommend.dto.response.EnhancedRecommendResponse;
 import com.sevencode.speakle.recommend.dto.response.RandomSongResponse;
 import com.sevencode.speakle.recommend.dto.response.SongMetaResponse;
 import com.sevencode.speakle.recommend.dto.request.FilterRequest;
-import com.sevencode.speakle.recommend.repository.RecommendationLogRepository;
-import com.sevencode.speakle.playlist.repository.CustomPlaylistTrackRepository;
+import com.sevencode.speakle.playlist.entity.UserAudioProfile;
+import com.sevencode.speakle.playlist.service.UserAudioProfileService;
 import com.sevencode.speakle.weather.WeatherClient;
 import com.sevencode.speakle.song.domain.Song;
 import com.sevencode.speakle.song.repository.SongRepository;
 import com.sevencode.speakle.learn.repository.LearnHistoryRepository;
+import com.sevencode.speakle.learn.service.LearnCountStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 @Service
 @RequiredArgsConstructor
@@ -40,14 +43,32 @@ import java.util.function.Function;
 public class RecommendService {
 
     private final FastApiClient fastApiClient;
-    private final GMSAiClient gmsAiClient;
-    private final RecommendationLogRepository logRepository;
+    private final RecommendationBackendSelector backendSelector;
+    private final RecommendKeywordResolver keywordResolver;
+    private final RecommendationLogSink logSink;
     private final SongRepository songRepository;
     private final LearnHistoryRepository learnHistoryRepository;
+    private final LearnCountStore learnCountStore;
     private final RecommendationSentenceService recommendationSentenceService;
     private final ObjectMapper objectMapper;
-    private final CustomPlaylistTrackRepository customPlaylistTrackRepository;
+    private final UserAudioProfileService userAudioProfileService;
     private final WeatherClient weatherClient;
+    private final RecommendCandidateCache candidateCache;
+    private final RecommendStagePlanner stagePlanner;
+
+    // 단계별 마감 (초과 시 필수 단계는 예외, 선택 단계는 기본값으로 저하)
+    @Value("${recommend.stage.songs-deadline:PT5S}")
+    private Duration songsDeadline;
+    @Value("${recommend.stage.learn-counts-deadline:PT2S}")
+    private Duration learnCountsDeadline;
+    @Value("${recommend.stage.audio-features-deadline:PT3S}")
+    private Duration audioFeaturesDeadline;
+    @Value("${recommend.stage.weather-deadline:PT2S}")
+    private Duration weatherDeadline;
+
+    // 추천 이유 저장을 요청 스레드 밖(eventExecutor)에서 수행
+    @Value("${recommend.reason.async-write:false}")
+    private boolean reasonAsyncWrite;
 
     /* 향상된 상황 + 장소 기반 추천 with 메타데이터 */
     public EnhancedRecommendResponse recommendHybridEnhanced(Long userId, HybridRecommendRequest request, FilterRequest filter) {
@@ -55,7 +76,7 @@ public class RecommendService {
         filter = filter != null ? filter.withDefaults() : new FilterRequest().withDefaults();
 
         // 1. LLM에서 keywords + phrases + top_k 생성
-        KeywordsResponse keywords = gmsAiClient.generateKeywords(
+        KeywordsResponse keywords = keywordResolver.resolve(
                 request.getSituation(),
                 request.getLocation(),
                 "gpt-4o-mini"
@@ -68,7 +89,8 @@ public class RecommendService {
                 .topK(Math.max(request.getLimit() * 3, 100))  // 필터링을 위해 더 많이 가져옴
                 .build();
 
-        QueryResponse queryResponse = fastApiClient.getRecommendations(queryRequest);
+        // 같은 질의의 다음 페이지 요청은 캐시된 후보 목록 재사용 (짧은 TTL)
+        QueryResponse queryResponse = fetchCandidates(request, queryRequest);
 
         // 3. 추천 결과를 점수와 함께 Map으로 변환
         Map<String, Double> recommendScores = queryResponse.getResults().stream()
@@ -78,20 +100,34 @@ public class RecommendService {
                         (existing, replacement) -> existing
                 ));
 
-        // 4. Song 정보 조회
+        // 4~6. 서로 독립적인 조회(Song 정보, 학습 조회수, 시연용 곡)를 동시에 실행
         List<String> songIds = new ArrayList<>(recommendScores.keySet());
-        List<Song> songs = songRepository.findAllById(songIds);
+        List<String> candidateIds = List.copyOf(songIds);
+        final String FIX_YOU_ID = "7LVHVU3tWfcxj5aiPFEW4Q";
+        boolean comfort = request.getSituation() != null && request.getSituation().contains("위로");
+
+        // 곡 정보는 필수 단계 → 마감 초과/DB 실패는 예외로 전파 (빈 추천으로 200 응답하지 않음)
+        RecommendStagePlanner.Stage<List<Song>> songsStage = stagePlanner.fork("songs", songsDeadline,
+                () -> songRepository.findAllById(candidateIds), null);
+        // 학습 조회수는 정렬 보조 지표 → 지연/실패 시 0으로 저하
+        RecommendStagePlanner.Stage<Map<String, Integer>> learnCountsStage = stagePlanner.fork("learnCounts",
+                learnCountsDeadline, () -> getLearnCountsForSongs(candidateIds), Map::of);
+        RecommendStagePlanner.Stage<Optional<Song>> fixYouStage = comfort
+                ? stagePlanner.fork("fixYou", songsDeadline, () -> songRepository.findById(FIX_YOU_ID), Optional::empty)
+                : null;
+
+        // 4. Song 정보 조회
+        List<Song> songs = new ArrayList<>(songsStage.join());
 
         // 5. 학습 조회수 조회 (그룹화하여 count)
-        Map<String, Integer> learnCounts = getLearnCountsForSongs(songIds);
+        Map<String, Integer> learnCounts = learnCountsStage.join();
 
         // 6. 시연용: "위로" 상황이면 Fix You를 첫 번째로 추가
-        if (request.getSituation() != null && request.getSituation().contains("위로")) {
-            final String FIX_YOU_ID = "7LVHVU3tWfcxj5aiPFEW4Q";
+        if (comfort) {
             log.info("=== 시연용: 위로 상황 감지, Fix You 추가 ===");
 
             // Fix You 곡 정보 조회
-            Optional<Song> fixYouSong = songRepository.findById(FIX_YOU_ID);
+            Optional<Song> fixYouSong = fixYouStage.join();
             if (fixYouSong.isPresent()) {
                 // Fix You를 songIds 맨 앞에 추가 (중복 제거)
                 songIds.remove(FIX_YOU_ID);
@@ -108,34 +144,10 @@ public class RecommendService {
             }
         }
 
-        // 7. SongMetaResponse 리스트 생성
-        List<SongMetaResponse> songMetas = songs.stream()
-                .map(song -> SongMetaResponse.from(
-                        song,
-                        recommendScores.get(song.getSongId()),
-                        learnCounts.getOrDefault(song.getSongId(), 0)
-                ))
-                .collect(Collectors.toList());
-
-        // 8. 필터링 적용
-        if (filter.getDifficulties() != null && !filter.getDifficulties().isEmpty()) {
-            List<Song.Level> difficulties = filter.getDifficulties();
-            songMetas = songMetas.stream()
-                    .filter(song -> difficulties.contains(song.getDifficulty()))
-                    .collect(Collectors.toList());
-        }
-
-        // 9. 정렬 적용
-        songMetas = applySorting(songMetas, filter);
-
-        // 10. 페이징 적용
-        int totalElements = songMetas.size();
-        int start = filter.getPage() * filter.getSize();
-        int end = Math.min(start + filter.getSize(), totalElements);
-        List<SongMetaResponse> pagedSongs = songMetas.subList(
-                Math.min(start, totalElements),
-                Math.min(end, totalElements)
-        );
+        // 7~10. 필터링 + 정렬 + 페이징 (상위 offset+limit 만 선택, 페이지 곡만 SongMetaResponse 생성)
+        RecommendTopK.Selection selection = selectPage(songs, recommendScores, learnCounts, filter);
+        int totalElements = selection.total();
+        List<SongMetaResponse> pagedSongs = toSongMetas(songs, selection, recommendScores, learnCounts);
 
         // 11. 추천 이유 저장 (songId별 대표 문장)
         saveRecommendationReasons(userId, queryResponse);
@@ -156,7 +168,7 @@ public class RecommendService {
     /* 기존 상황 + 장소 기반 추천 (하위 호환성) */
     public RecommendResponse recommendHybrid(Long userId, HybridRecommendRequest request) {
         // 1. LLM에서 keywords + phrases + top_k 생성
-        KeywordsResponse keywords = gmsAiClient.generateKeywords(
+        KeywordsResponse keywords = keywordResolver.resolve(
                 request.getSituation(),
                 request.getLocation(),
                 "gpt-4o"
@@ -169,7 +181,7 @@ public class RecommendService {
                 .topK(request.getLimit() > 0 ? request.getLimit() : 50)  // limit 사용 또는 기본값 50
                 .build();
 
-        QueryResponse queryResponse = fastApiClient.getRecommendations(queryRequest);
+        QueryResponse queryResponse = fetchCandidates(request, queryRequest);
 
         // 3. 시연용: "위로" 상황이면 Fix You를 첫 번째로 추가
         List<String> songIds = queryResponse.getResults()
@@ -197,14 +209,31 @@ public class RecommendService {
                 .meta(toJson(queryResponse))
                 .build();
 
-        logRepository.save(log);
+        logSink.submit(log);
 
         // 5. 최종 응답 반환
         return new RecommendResponse(songIds, keywords);
     }
 
+    /* 후보 조회 (요청별 백엔드 선택 + 정규화 질의 키 캐시 + 동일 요청 single-flight) */
+    private QueryResponse fetchCandidates(HybridRecommendRequest request, QueryRequest queryRequest) {
+        RecommendationBackend.Type backend = backendSelector.resolve(request.getBackend());
+        return candidateCache.getOrLoadIfCacheable(
+                RecommendCandidateCache.Key.of(request.getSituation(), request.getLocation(), queryRequest, backend),
+                () -> {
+                    // 대체 백엔드(미준비 → 기본값, FastAPI 실패 → BM25)가 응답했으면 요청 백엔드 키로 캐시하지 않음
+                    RecommendationBackendSelector.Result result = backendSelector.search(backend, queryRequest);
+                    return new RecommendCandidateCache.Loaded(result.response(), result.answeredBy() == backend);
+                }
+        );
+    }
+
     private Map<String, Integer> getLearnCountsForSongs(List<String> songIds) {
-        // LearnHistory에서 각 songId의 학습 횟수를 조회
+        // 곡별 학습 횟수 카운터(Redis HMGET 1회) 우선, 미구축/장애 시 LearnHistory 집계
+        Optional<Map<String, Integer>> counted = learnCountStore.counts(songIds);
+        if (counted.isPresent()) {
+            return counted.get();
+        }
         return learnHistoryRepository.countBySongIdIn(songIds).stream()
                 .collect(Collectors.toMap(
                         result -> (String) result[0],  // songId
@@ -212,25 +241,31 @@ public class RecommendService {
                 ));
     }
 
-    private List<SongMetaResponse> applySorting(List<SongMetaResponse> songs, FilterRequest filter) {
-        Comparator<SongMetaResponse> comparator = switch (filter.getSortBy()) {
-            case RECOMMEND_SCORE -> Comparator.comparing(SongMetaResponse::getRecommendScore,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-            case POPULARITY -> Comparator.comparing(SongMetaResponse::getPopularity,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-            case LEARN_COUNT -> Comparator.comparing(SongMetaResponse::getLearnCount,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-            case DURATION -> Comparator.comparing(SongMetaResponse::getDurationMs,
-                    Comparator.nullsLast(Comparator.naturalOrder()));
-        };
-
-        if (filter.getSortOrder() == FilterRequest.SortOrder.DESC) {
-            comparator = comparator.reversed();
+    /* 난이도 필터 + 정렬 기준 상위 K 선택 (전체 정렬/중간 DTO 생성 없이) */
+    private RecommendTopK.Selection selectPage(List<Song> songs, Map<String, Double> scores,
+                                               Map<String, Integer> learnCounts, FilterRequest filter) {
+        double[] keys = RecommendTopK.sortKeys(songs, filter.getSortBy(), scores, learnCounts);
+        IntPredicate include = i -> true;
+        if (filter.getDifficulties() != null && !filter.getDifficulties().isEmpty()) {
+            Set<Song.Level> difficulties = new HashSet<>(filter.getDifficulties());
+            include = i -> difficulties.contains(songs.get(i).getLevel());
         }
+        return RecommendTopK.select(keys, filter.getSortOrder() == FilterRequest.SortOrder.DESC, include,
+                filter.getPage() * filter.getSize(), filter.getSize());
+    }
 
-        return songs.stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
+    private List<SongMetaResponse> toSongMetas(List<Song> songs, RecommendTopK.Selection selection,
+                                               Map<String, Double> scores, Map<String, Integer> learnCounts) {
+        List<SongMetaResponse> page = new ArrayList<>(selection.indices().length);
+        for (int i : selection.indices()) {
+            Song song = songs.get(i);
+            page.add(SongMetaResponse.from(
+                    song,
+                    scores != null ? scores.get(song.getSongId()) : null,
+                    learnCounts.getOrDefault(song.getSongId(), 0)
+            ));
+        }
+        return page;
     }
 
     /**
@@ -245,35 +280,10 @@ public class RecommendService {
         // 학습 조회수 조회
         Map<String, Integer> learnCounts = getLearnCountsForSongs(songIds);
 
-        // SongMetaResponse 리스트 생성 (추천 점수는 null로 설정)
-        List<SongMetaResponse> songMetas = songs.stream()
-                .map(song -> SongMetaResponse.from(
-                        song,
-                        null,  // 추천 점수 없음
-                        learnCounts.getOrDefault(song.getSongId(), 0)
-                ))
-                .collect(Collectors.toList());
-
-        // 필터링 적용
-        if (filter.getDifficulties() != null && !filter.getDifficulties().isEmpty()) {
-            List<Song.Level> difficulties = filter.getDifficulties(); // enum 리스트
-            songMetas = songMetas.stream()
-                    .filter(song -> difficulties.contains(song.getDifficulty()))
-                    .collect(Collectors.toList());
-        }
-
-
-        // 정렬 적용
-        songMetas = applySorting(songMetas, filter);
-
-        // 페이징 적용
-        int totalElements = songMetas.size();
-        int start = filter.getPage() * filter.getSize();
-        int end = Math.min(start + filter.getSize(), totalElements);
-        List<SongMetaResponse> pagedSongs = songMetas.subList(
-                Math.min(start, totalElements),
-                Math.min(end, totalElements)
-        );
+        // 필터링 + 정렬 + 페이징 (추천 점수 없음, 페이지 곡만 SongMetaResponse 생성)
+        RecommendTopK.Selection selection = selectPage(songs, null, learnCounts, filter);
+        int totalElements = selection.total();
+        List<SongMetaResponse> pagedSongs = toSongMetas(songs, selection, null, learnCounts);
 
         return EnhancedRecommendResponse.builder()
                 .recommendedSongs(pagedSongs)
@@ -296,7 +306,7 @@ public class RecommendService {
                 .meta(toJson(queryResponse))
                 .build();
 
-        logRepository.save(log);
+        logSink.submit(log);
     }
 
     private void saveRecommendationReasons(Long userId, QueryResponse queryResponse) {
@@ -314,25 +324,42 @@ public class RecommendService {
                             entry -> entry.getValue().get()
                     ));
 
+            Map<String, String> reasons = new LinkedHashMap<>();
             for (Map.Entry<String, Recommendation> entry : songReasonMap.entrySet()) {
                 String songId = entry.getKey();
                 String reasonSentence = entry.getValue().getWords();
 
                 if (reasonSentence != null && !reasonSentence.trim().isEmpty()) {
-                    recommendationSentenceService.saveRecommendationReason(userId, songId, reasonSentence);
+                    reasons.put(songId, reasonSentence);
                 }
             }
+
+            // 곡별 저장 반복 대신 일괄 upsert 1회 (옵션: 요청 스레드 밖에서 실행)
+            if (reasonAsyncWrite) {
+                recommendationSentenceService.saveRecommendationReasonsAsync(userId, reasons);
+            } else {
+                recommendationSentenceService.saveRecommendationReasons(userId, reasons);
+            }
         } catch (Exception e) {
             log.error("[RecommendService] 추천 이유 저장 실패: {}", e.getMessage());
         }
     }
 
     public RandomSongResponse recommendRandomSong(Long userId) {
+        // 1~2. 플레이리스트 오디오 특성(DB)과 날씨(외부 API)는 서로 독립적 → 동시에 실행,
+        //      마감 초과/실패 시 기본값으로 저하 (날씨 신호 생략)
+        RecommendStagePlanner.Stage<RandomSongRequest.AudioFeatures> audioStage = stagePlanner.fork(
+                "audioFeatures", audioFeaturesDeadline,
+                () -> calculateUserPlaylistAudioFeatures(userId), this::defaultAudioFeatures);
+        RecommendStagePlanner.Stage<WeatherClient.WeatherData> weatherStage = stagePlanner.fork(
+                "weather", weatherDeadline,
+                () -> weatherClient.getCurrentWeather("Seoul"), weatherClient::getDefaultWeather);
+
         // 1. 사용자 플레이리스트에서 오디오 특성 계산
-        RandomSongRequest.AudioFeatures audioFeatures = calculateUserPlaylistAudioFeatures(userId);
+        RandomSongRequest.AudioFeatures audioFeatures = audioStage.join();
 
         // 2. 날씨 API에서 현재 날씨 데이터 가져오기
-        WeatherClient.WeatherData weatherData = weatherClient.getCurrentWeather("Seoul");
+        WeatherClient.WeatherData weatherData = weatherStage.join();
 
         RandomSongRequest.WeatherData weatherDataDto = RandomSongRequest.WeatherData.builder()
                 .condition(weatherData.getCondition())
@@ -366,53 +393,20 @@ public class RecommendService {
     }
 
     private RandomSongRequest.AudioFeatures calculateUserPlaylistAudioFeatures(Long userId) {
-        // 사용자 플레이리스트의 모든 곡 ID 가져오기
-        List<String> songIds = customPlaylistTrackRepository.findAllSongIdsByUserId(userId);
+        // 사용자 오디오 특성 누적 집계(1행) 조회 - 플레이리스트 전체 곡 조회/평균 계산 대체
+        Optional<UserAudioProfile> profile = userAudioProfileService.getProfile(userId);
 
-        if (songIds.isEmpty()) {
+        if (profile.isEmpty() || profile.get().getSongCount() == 0) {
             log.info("User {} has no playlist songs. Using default audio features.", userId);
-            return RandomSongRequest.AudioFeatures.builder()
-                    .acousticness(0.5)
-                    .energy(0.5)
-                    .loudness(-10.0)
-                    .valence(0.5)
-                    .tempo(120.0)
-                    .build();
+            return defaultAudioFeatures();
         }
 
-        // 곡 정보 조회
-        List<Song> songs = songRepository.findAllById(songIds);
-
-        // 오디오 특성 평균 계산
-        double avgAcousticness = songs.stream()
-                .filter(s -> s.getAcousticness() != null)
-                .mapToDouble(Song::getAcousticness)
-                .average()
-                .orElse(0.5);
-
-        double avgEnergy = songs.stream()
-                .filter(s -> s.getEnergy() != null)
-                .mapToDouble(Song::getEnergy)
-                .average()
-                .orElse(0.5);
-
-        double avgLoudness = songs.stream()
-                .filter(s -> s.getLoudness() != null)
-                .mapToDouble(Song::getLoudness)
-                .average()
-                .orElse(-10.0);
-
-        double avgValence = songs.stream()
-                .filter(s -> s.getValence() != null)
-                .mapToDouble(Song::getValence)
-                .average()
-                .orElse(0.5);
-
-        double avgTempo = songs.stream()
-                .filter(s -> s.getTempo() != null)
-                .mapToDouble(Song::getTempo)
-                .average()
-                .orElse(120.0);
+        UserAudioProfile p = profile.get();
+        double avgAcousticness = averageOrDefault(p, UserAudioProfile.Feature.ACOUSTICNESS, 0.5);
+        double avgEnergy = averageOrDefault(p, UserAudioProfile.Feature.ENERGY, 0.5);
+        double avgLoudness = averageOrDefault(p, UserAudioProfile.Feature.LOUDNESS, -10.0);
+        double avgValence = averageOrDefault(p, UserAudioProfile.Feature.VALENCE, 0.5);
+        double avgTempo = averageOrDefault(p, UserAudioProfile.Feature.TEMPO, 120.0);
 
         log.info("User {} playlist audio features - Acousticness: {}, Energy: {}, Loudness: {}, Valence: {}, Tempo: {}",
                 userId, avgAcousticness, avgEnergy, avgLoudness, avgValence, avgTempo);
@@ -426,6 +420,21 @@ public class RecommendService {
                 .build();
     }
 
+    private static double averageOrDefault(UserAudioProfile profile, UserAudioProfile.Feature feature, double defaultValue) {
+        Double avg = profile.average(feature);
+        return avg != null ? avg : defaultValue;
+    }
+
+    private RandomSongRequest.AudioFeatures defaultAudioFeatures() {
+        return RandomSongRequest.AudioFeatures.builder()
+                .acousticness(0.5)
+                .energy(0.5)
+                .loudness(-10.0)
+                .valence(0.5)
+                .tempo(120.0)
+                .build();
+    }
+
     private String toJson(Object obj) {
         try {
             return objectMapper.writeValueAsString(obj);
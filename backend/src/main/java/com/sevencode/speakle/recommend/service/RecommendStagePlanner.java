@@ -0,0 +1,147 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 추천 파이프라인 단계 실행기
+ * - 서로 독립적인 단계(날씨 조회, 플레이리스트 오디오 특성 집계, 학습 횟수 조회 등)를
+ *   전용 bounded executor(recommendStageExecutor)에서 동시에 실행 → 전체 지연 ≈ 가장 느린 단계.
+ * - 단계별 마감(deadline, fork 시점 기준): 초과/실패 시 fallback 이 있으면 그 값으로 대체(우아한 저하),
+ *   fallback 이 없으면 예외 전파(필수 단계).
+ * - 마감 초과 단계는 FutureTask.cancel(true) 로 실행 스레드를 인터럽트 → 인터럽트에 반응하는 대기
+ *   (HTTP 호출, sleep, 락 대기 등)는 즉시 중단. 블로킹 JDBC 호출은 인터럽트로 멈추지 않아 쿼리 종료까지 스레드 점유.
+ *   (CompletableFuture.cancel 은 실행 중인 작업을 인터럽트하지 않으므로 사용하지 않음)
+ * - 단계별 누적 통계(호출 수, 평균/최대 소요, 타임아웃/실패/저하 수)를 stats() 로 노출 (StatsReporter 주기 로그).
+ */
+@Slf4j
+@Component
+public class RecommendStagePlanner implements StatsSource {
+
+    private final Executor executor;
+    private final ConcurrentHashMap<String, StageMetrics> metrics = new ConcurrentHashMap<>();
+
+    public RecommendStagePlanner(@Qualifier("recommendStageExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 단계 시작(비동기).
+     * @param fallback 마감 초과/실패 시 대체값 공급자, null 이면 필수 단계(예외 전파)
+     */
+    public <T> Stage<T> fork(String name, Duration deadline, Supplier<T> task, Supplier<T> fallback) {
+        StageMetrics m = metrics.computeIfAbsent(name, k -> new StageMetrics());
+        long forkedAt = System.nanoTime();
+        FutureTask<T> future = new FutureTask<>(() -> {
+            long t0 = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                m.record(System.nanoTime() - t0);
+            }
+        });
+        executor.execute(future);
+        return new Stage<>(name, forkedAt + deadline.toNanos(), future, fallback, m);
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.stages";
+    }
+
+    /** 단계별 누적 통계 스냅샷 (이름순) */
+    @Override
+    public Map<String, StageStats> stats() {
+        Map<String, StageStats> out = new TreeMap<>();
+        metrics.forEach((name, m) -> out.put(name, m.snapshot()));
+        return out;
+    }
+
+    /** 실행 중인 단계 핸들 */
+    public static final class Stage<T> {
+        private final String name;
+        private final long deadlineNanos;
+        private final FutureTask<T> future;
+        private final Supplier<T> fallback;
+        private final StageMetrics metrics;
+
+        private Stage(String name, long deadlineNanos, FutureTask<T> future, Supplier<T> fallback,
+                      StageMetrics metrics) {
+            this.name = name;
+            this.deadlineNanos = deadlineNanos;
+            this.future = future;
+            this.fallback = fallback;
+            this.metrics = metrics;
+        }
+
+        /** 마감까지 대기 후 결과 반환 (초과/실패 시 fallback 또는 예외) */
+        public T join() {
+            long remaining = deadlineNanos - System.nanoTime();
+            try {
+                return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 실행 중이면 인터럽트, 대기열에 있으면 실행되지 않음
+                future.cancel(true);
+                metrics.timeouts.incrementAndGet();
+                return degrade(new IllegalStateException("추천 단계 시간 초과: " + name));
+            } catch (ExecutionException e) {
+                metrics.failures.incrementAndGet();
+                Throwable cause = e.getCause();
+                return degrade(cause instanceof RuntimeException re ? re
+                        : new IllegalStateException("추천 단계 실패: " + name, cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return degrade(new IllegalStateException("추천 단계 대기 중단: " + name, e));
+            }
+        }
+
+        private T degrade(RuntimeException cause) {
+            if (fallback == null) {
+                throw cause;
+            }
+            metrics.degraded.incrementAndGet();
+            log.warn("[RecommendStage] {} 저하 처리(fallback 사용): {}", name, cause.getMessage());
+            return fallback.get();
+        }
+    }
+
+    private static final class StageMetrics {
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final AtomicLong maxNanos = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        final AtomicLong degraded = new AtomicLong();
+
+        void record(long nanos) {
+            calls.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        StageStats snapshot() {
+            long c = calls.get();
+            return new StageStats(c, c == 0 ? 0 : totalNanos.get() / c / 1_000_000, maxNanos.get() / 1_000_000,
+                    timeouts.get(), failures.get(), degraded.get());
+        }
+    }
+
+    /** 단계 통계 (소요 시간은 작업 실행 기준, ms) */
+    public record StageStats(long calls, long avgMillis, long maxMillis, long timeouts, long failures,
+                             long degraded) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.FilterRequest;
+import com.sevencode.speakle.song.domain.Song;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 추천 후보 정렬 + 페이징용 상위 K 선택
+ * - 정렬 키를 double[] 로 한 번만 추출(null = NaN) → 박싱 비교자 없이 비교
+ * - 필터 조건을 같은 순회에서 적용하며 전체 건수 집계
+ * - 크기 offset+limit 의 bounded max-heap 으로 페이지 끝까지만 선택 (O(n log k)), 선택분만 정렬
+ * - 순서는 기존 전체 정렬과 동일: ASC 는 null 마지막, DESC 는 (역순 비교자와 같이) null 처음, 동률은 입력 순서
+ */
+final class RecommendTopK {
+
+    private RecommendTopK() {
+    }
+
+    /** 선택 결과: 페이지에 해당하는 입력 인덱스(정렬 순) + 필터 통과 전체 건수 */
+    record Selection(int[] indices, int total) {
+    }
+
+    /** 정렬 기준별 키 추출 (값이 없으면 NaN) */
+    static double[] sortKeys(List<Song> songs, FilterRequest.SortType sortBy, Map<String, Double> scores,
+                             Map<String, Integer> learnCounts) {
+        double[] keys = new double[songs.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Song song = songs.get(i);
+            Number v = switch (sortBy) {
+                case RECOMMEND_SCORE -> scores != null ? scores.get(song.getSongId()) : null;
+                case POPULARITY -> song.getPopularity();
+                case LEARN_COUNT -> learnCounts.getOrDefault(song.getSongId(), 0);
+                case DURATION -> song.getDurationMs();
+            };
+            keys[i] = v != null ? v.doubleValue() : Double.NaN;
+        }
+        return keys;
+    }
+
+    /**
+     * 필터 통과 항목 중 정렬 순서상 [offset, offset + limit) 구간 선택
+     * @param include 포함 여부 (입력 인덱스 기준)
+     */
+    static Selection select(double[] keys, boolean descending, IntPredicate include, int offset, int limit) {
+        int k = (int)Math.min((long)Math.max(offset, 0) + Math.max(limit, 0), keys.length);
+        int[] heap = new int[k];  // 루트 = 현재 선택분 중 가장 뒤 순위
+        int size = 0;
+        int total = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (!include.test(i)) {
+                continue;
+            }
+            total++;
+            if (k == 0) {
+                continue;
+            }
+            if (size < k) {
+                heap[size] = i;
+                siftUp(heap, size++, keys, descending);
+            } else if (before(i, heap[0], keys, descending)) {
+                heap[0] = i;
+                siftDown(heap, size, keys, descending);
+            }
+        }
+
+        // 힙 → 정렬 순서 (루트를 뒤에서부터 채움)
+        int[] ordered = new int[size];
+        for (int n = size; n > 0; n--) {
+            ordered[n - 1] = heap[0];
+            heap[0] = heap[n - 1];
+            siftDown(heap, n - 1, keys, descending);
+        }
+
+        int from = Math.min(Math.max(offset, 0), size);
+        int[] page = new int[size - from];
+        System.arraycopy(ordered, from, page, 0, page.length);
+        return new Selection(page, total);
+    }
+
+    /** a 가 b 보다 앞 순위인지 */
+    private static boolean before(int a, int b, double[] keys, boolean descending) {
+        int c = compareNullsLast(keys[a], keys[b]);
+        if (descending) {
+            c = -c;
+        }
+        return c != 0 ? c < 0 : a < b;
+    }
+
+    private static int compareNullsLast(double x, double y) {
+        boolean xNull = Double.isNaN(x);
+        boolean yNull = Double.isNaN(y);
+        if (xNull || yNull) {
+            return xNull == yNull ? 0 : (xNull ? 1 : -1);
+        }
+        return Double.compare(x, y);
+    }
+
+    // max-heap (루트 = 가장 뒤 순위)
+    private static void siftUp(int[] heap, int pos, double[] keys, boolean descending) {
+        int item = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!before(heap[parent], item, keys, descending)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] keys, boolean descending) {
+        if (size == 0) {
+            return;
+        }
+        int pos = 0;
+        int item = heap[0];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && before(heap[child], heap[right], keys, descending)) {
+                child = right;
+            }
+            if (!before(item, heap[child], keys, descending)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = item;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+
+/**
+ * 추천 후보 검색 백엔드 (키워드 질의 → 곡/대표 청크 후보)
+ * - FASTAPI: 외부 FastAPI/Weaviate 하이브리드 검색
+ * - BM25: JVM 내 BM25 가사 색인 (Bm25LyricIndex)
+ * - 요청별 선택은 RecommendationBackendSelector 가 담당
+ */
+public interface RecommendationBackend {
+
+    enum Type {
+        FASTAPI, BM25
+    }
+
+    Type type();
+
+    /** 지금 질의를 받을 수 있는지 (색인 미준비 등) */
+    boolean isAvailable();
+
+    QueryResponse search(QueryRequest query);
+}
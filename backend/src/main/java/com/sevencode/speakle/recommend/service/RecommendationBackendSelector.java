@@ -0,0 +1,94 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청별 추천 백엔드 선택
+ * - 요청에 backend 가 없으면 recommend.backend.default 사용
+ * - 선택한 백엔드가 준비되지 않았으면(BM25 색인 빌드 전 등) 기본 백엔드로 대체
+ * - fallback-on-error=true 면 FastAPI 호출 실패 시 BM25 색인(준비된 경우)으로 응답 → 외부 서비스 장애가 추천 실패로 이어지지 않음
+ * - 대체 여부는 Result.answeredBy 로 알림 → 호출부가 요청 백엔드 키로 대체 결과를 캐시하지 않도록
+ */
+@Slf4j
+@Component
+public class RecommendationBackendSelector implements StatsSource {
+
+    private final Map<RecommendationBackend.Type, RecommendationBackend> backends =
+            new EnumMap<>(RecommendationBackend.Type.class);
+    private final RecommendationBackend.Type defaultType;
+    private final boolean fallbackOnError;
+
+    // 통계
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong substitutions = new AtomicLong();
+
+    public RecommendationBackendSelector(
+            List<RecommendationBackend> backends,
+            @Value("${recommend.backend.default:FASTAPI}") RecommendationBackend.Type defaultType,
+            @Value("${recommend.backend.fallback-on-error:true}") boolean fallbackOnError) {
+        for (RecommendationBackend backend : backends) {
+            this.backends.put(backend.type(), backend);
+        }
+        this.defaultType = defaultType;
+        this.fallbackOnError = fallbackOnError;
+    }
+
+    /** 요청에 지정된 백엔드 (미지정 시 기본값) */
+    public RecommendationBackend.Type resolve(RecommendationBackend.Type requested) {
+        return requested != null ? requested : defaultType;
+    }
+
+    /** 후보 검색 + 실제로 응답한 백엔드 (요청 백엔드 미준비/실패 시 대체 백엔드일 수 있음) */
+    public Result search(RecommendationBackend.Type requested, QueryRequest query) {
+        RecommendationBackend backend = backends.get(resolve(requested));
+        if (backend == null || !backend.isAvailable()) {
+            substitutions.incrementAndGet();
+            log.info("추천 백엔드 {} 사용 불가 - 기본 백엔드 {} 사용", resolve(requested), defaultType);
+            backend = backends.get(defaultType);
+        }
+        try {
+            return new Result(backend.search(query), backend.type());
+        } catch (RuntimeException e) {
+            RecommendationBackend local = backends.get(RecommendationBackend.Type.BM25);
+            if (!fallbackOnError || backend.type() == RecommendationBackend.Type.BM25
+                    || local == null || !local.isAvailable()) {
+                throw e;
+            }
+            fallbacks.incrementAndGet();
+            log.warn("추천 백엔드 {} 실패 - BM25 색인으로 대체: {}", backend.type(), e.getMessage());
+            return new Result(local.search(query), local.type());
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.backend";
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(defaultType, fallbacks.get(), substitutions.get());
+    }
+
+    /** 검색 결과와 실제로 응답한 백엔드 */
+    public record Result(QueryResponse response, RecommendationBackend.Type answeredBy) {
+    }
+
+    /**
+     * 백엔드 선택 통계
+     * - fallbacks: FastAPI 실패로 BM25 색인이 응답한 수
+     * - substitutions: 요청 백엔드가 준비되지 않아 기본 백엔드가 응답한 수
+     */
+    public record Stats(RecommendationBackend.Type defaultType, long fallbacks, long substitutions) {
+    }
+}
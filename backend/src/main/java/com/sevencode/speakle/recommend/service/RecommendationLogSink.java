@@ -0,0 +1,202 @@
+package com.sevencode.speakle.recommend.service;
+
+import com.sevencode.speakle.recommend.domain.RecommendationLog;
+import com.sevencode.speakle.recommend.repository.RecommendationLogBulkRepository;
+import com.sevencode.speakle.recommend.repository.RecommendationLogRepository;
+import com.sevencode.speakle.support.StatsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 로그 write-behind 싱크
+ * - 요청 스레드는 bounded 큐에 적재만 하고 반환 → 분석용 로그 저장이 추천 지연에 포함되지 않음
+ * - 백그라운드 flusher 가 batch-size 건 또는 flush-interval 경과 시 일괄 저장(RecommendationLogBulkRepository)
+ * - 큐 포화 시 정책: DROP(즉시 버림) / BLOCK(block-timeout 까지 대기 후 버림)
+ * - 종료 시 큐에 남은 로그 모두 저장
+ * - 비활성(enabled=false) 시 기존과 같이 엔터티 동기 저장
+ */
+@Slf4j
+@Component
+public class RecommendationLogSink implements StatsSource {
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private final RecommendationLogBulkRepository bulkRepository;
+    private final RecommendationLogRepository logRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final BlockingQueue<RecommendationLogBulkRepository.Row> queue;
+
+    private volatile boolean running = false;
+    private Thread flusherThread;
+
+    // 통계
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    public RecommendationLogSink(
+        RecommendationLogBulkRepository bulkRepository,
+        RecommendationLogRepository logRepository,
+        @Value("${recommend.log-sink.enabled:true}") boolean enabled,
+        @Value("${recommend.log-sink.capacity:10000}") int capacity,
+        @Value("${recommend.log-sink.batch-size:200}") int batchSize,
+        @Value("${recommend.log-sink.flush-interval:PT1S}") Duration flushInterval,
+        @Value("${recommend.log-sink.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+        @Value("${recommend.log-sink.block-timeout:PT0.05S}") Duration blockTimeout) {
+        this.bulkRepository = bulkRepository;
+        this.logRepository = logRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusherThread = new Thread(this::flushLoop, "RecLogSink-flusher");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+        log.info("Recommendation log sink started => capacity={}, batchSize={}, flushInterval={}, overflow={}",
+            queue.remainingCapacity() + queue.size(), batchSize, flushInterval, overflowPolicy);
+    }
+
+    /** 종료 시 flusher 정지 후 잔여 로그 저장 */
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusherThread.interrupt();
+        try {
+            flusherThread.join(flushInterval.toMillis() + 5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = drainAll();
+        log.info("Recommendation log sink stopped => flushed {} remaining logs, stats={}", remaining, stats());
+    }
+
+    /** 추천 로그 적재 (요청 스레드) */
+    public void submit(RecommendationLog entry) {
+        if (!enabled) {
+            logRepository.save(entry);
+            return;
+        }
+        RecommendationLogBulkRepository.Row row = new RecommendationLogBulkRepository.Row(
+            entry.getUserId(), entry.getQuery(), List.copyOf(entry.getCandidateSongIds()),
+            entry.getAlgoVersion(), entry.getMeta(), LocalDateTime.now());
+
+        boolean accepted;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(row, blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(row);
+        }
+
+        if (accepted) {
+            enqueued.incrementAndGet();
+        } else if (dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("Recommendation log sink overflow => dropped={} (policy={})", dropped.get(), overflowPolicy);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.log-sink";
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(enqueued.get(), dropped.get(), written.get(), failedBatches.get(), queue.size());
+    }
+
+    private void flushLoop() {
+        List<RecommendationLogBulkRepository.Row> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 첫 건을 flush-interval 까지 대기 → 이후 batch-size 까지 즉시 채움
+                RecommendationLogBulkRepository.Row first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    long waitNanos = deadline - System.nanoTime();
+                    RecommendationLogBulkRepository.Row next = waitNanos > 0
+                        ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() 에서 깨움 → 현재 배치 저장 후 종료, 잔여분은 stop() 이 처리
+                write(batch);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int drainAll() {
+        int total = 0;
+        List<RecommendationLogBulkRepository.Row> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            total += batch.size();
+            write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    private void write(List<RecommendationLogBulkRepository.Row> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            written.addAndGet(bulkRepository.insertAll(batch));
+        } catch (Exception e) {
+            failedBatches.incrementAndGet();
+            log.error("Recommendation log batch write failed => rows={}: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /** 싱크 통계 */
+    public record Stats(long enqueued, long dropped, long written, long failedBatches, int queued) {
+    }
+}
@@ -1,13 +1,16 @@
 package com.sevencode.speakle.recommend.service;
 
 import com.sevencode.speakle.recommend.domain.RecommendationSentence;
+import com.sevencode.speakle.recommend.repository.RecommendationSentenceBulkRepository;
 import com.sevencode.speakle.recommend.repository.RecommendationSentenceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -16,6 +19,7 @@ import java.util.Optional;
 public class RecommendationSentenceService {
 
     private final RecommendationSentenceRepository recommendationSentenceRepository;
+    private final RecommendationSentenceBulkRepository recommendationSentenceBulkRepository;
 
     @Transactional
     public void saveRecommendationReason(Long userId, String songId, String reasonSentence) {
@@ -39,6 +43,28 @@ public class RecommendationSentenceService {
         log.info("[RecommendationSentenceService] 추천 이유 저장 완료 - songId={}", songId);
     }
 
+    /**
+     * 요청 1건의 추천 이유 일괄 저장 (곡별 조회/삭제/저장 반복 대신 upsert 1회)
+     * @param reasonsBySongId songId → 추천 이유
+     */
+    @Transactional
+    public void saveRecommendationReasons(Long userId, Map<String, String> reasonsBySongId) {
+        int affected = recommendationSentenceBulkRepository.upsertAll(userId, reasonsBySongId);
+        log.info("[RecommendationSentenceService] 추천 이유 일괄 저장 완료 - userId={}, count={}", userId, affected);
+    }
+
+    /** 요청 스레드 밖(eventExecutor)에서 일괄 저장 (트랜잭션은 실행 스레드에서 시작) */
+    @Async("eventExecutor")
+    @Transactional
+    public void saveRecommendationReasonsAsync(Long userId, Map<String, String> reasonsBySongId) {
+        try {
+            int affected = recommendationSentenceBulkRepository.upsertAll(userId, reasonsBySongId);
+            log.info("[RecommendationSentenceService] 추천 이유 비동기 일괄 저장 완료 - userId={}, count={}", userId, affected);
+        } catch (Exception e) {
+            log.error("[RecommendationSentenceService] 추천 이유 비동기 저장 실패 - userId={}: {}", userId, e.getMessage());
+        }
+    }
+
     public Optional<RecommendationSentence> getRecommendationReason(Long userId, String songId) {
         return recommendationSentenceRepository.findByUserIdAndSongId(userId, songId);
     }
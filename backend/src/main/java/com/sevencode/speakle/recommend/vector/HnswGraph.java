@@ -0,0 +1,375 @@
+package com.sevencode.speakle.recommend.vector;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HNSW 근사 최근접 이웃 그래프 (Malkov & Yashunin, 내적 유사도 기준)
+ * - 벡터는 LyricVectorFile(mmap)에서 읽고, 그래프(노드별 층별 이웃 배열)만 힙에 보관
+ * - 이웃 수: 상위 층 M, 0층 2M. 이웃 선택은 다양성 휴리스틱 후 부족분을 가까운 순으로 채움
+ * - 빌드는 단일 스레드(build 완료 후 공개), 검색은 읽기 전용이라 동시 호출 가능
+ * - 후보/결과 큐는 (정렬 가능 float 비트 << 32 | 노드) long 힙 → 객체 할당 없음
+ */
+final class HnswGraph {
+
+    private final LyricVectorFile vectors;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMult;
+
+    // neighbors[node][level] = [count, n1, n2, ...]
+    private final int[][][] neighbors;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private final ConcurrentLinkedQueue<Visited> visitedPool = new ConcurrentLinkedQueue<>();
+
+    /** 검색 결과 (유사도 내림차순) */
+    record Result(int[] nodes, float[] scores) {
+    }
+
+    @FunctionalInterface
+    private interface Similarity {
+        float to(int node);
+    }
+
+    private HnswGraph(LyricVectorFile vectors, int m, int efConstruction) {
+        this.vectors = vectors;
+        this.m = Math.max(2, m);
+        this.maxM0 = this.m * 2;
+        this.efConstruction = Math.max(efConstruction, this.m);
+        this.levelMult = 1 / Math.log(this.m);
+        this.neighbors = new int[vectors.size()][][];
+    }
+
+    /** 파일의 전체 청크로 그래프 빌드 (seed 고정 → 같은 입력이면 같은 그래프) */
+    static HnswGraph build(LyricVectorFile vectors, int m, int efConstruction, long seed) {
+        HnswGraph graph = new HnswGraph(vectors, m, efConstruction);
+        Random rnd = new Random(seed);
+        for (int node = 0; node < vectors.size(); node++) {
+            graph.insert(node, (int)(-Math.log(1 - rnd.nextDouble()) * graph.levelMult));
+        }
+        return graph;
+    }
+
+    int size() {
+        return neighbors.length;
+    }
+
+    int maxLevel() {
+        return maxLevel;
+    }
+
+    /** 그래프 이웃 배열 근사 크기 (바이트) */
+    long memoryBytes() {
+        long bytes = 0;
+        for (int[][] levels : neighbors) {
+            bytes += 16 + levels.length * 8L;
+            for (int[] list : levels) {
+                bytes += 16 + list.length * 4L;
+            }
+        }
+        return bytes;
+    }
+
+    /** 질의 벡터 기준 상위 k (ef = 탐색 후보 폭, k 이상) */
+    Result search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return new Result(new int[0], new float[0]);
+        }
+        Similarity sim = node -> vectors.dot(query, node);
+        Visited visited = borrowVisited();
+        try {
+            int ep = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                ep = greedy(sim, ep, level);
+            }
+            LongHeap found = searchLayer(sim, ep, Math.max(ef, k), 0, visited);
+            while (found.size() > k) {
+                found.poll();
+            }
+            int n = found.size();
+            int[] nodes = new int[n];
+            float[] scores = new float[n];
+            for (int i = n - 1; i >= 0; i--) {
+                long e = found.poll();
+                nodes[i] = node(e);
+                scores[i] = score(e);
+            }
+            return new Result(nodes, scores);
+        } finally {
+            visitedPool.offer(visited);
+        }
+    }
+
+    // ===== 빌드 =====
+
+    private void insert(int node, int level) {
+        neighbors[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            neighbors[node][l] = new int[(l == 0 ? maxM0 : m) + 1];
+        }
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        Similarity sim = other -> vectors.dot(node, other);
+        Visited visited = borrowVisited();
+        try {
+            int ep = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                ep = greedy(sim, ep, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                LongHeap candidates = searchLayer(sim, ep, efConstruction, l, visited);
+                long[] sorted = candidates.drainDescending();
+                ep = node(sorted[0]);
+                int[] selected = selectNeighbors(sorted, m);
+                for (int neighbor : selected) {
+                    append(node, l, neighbor);
+                    link(neighbor, node, l);
+                }
+            }
+        } finally {
+            visitedPool.offer(visited);
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /** neighbor 의 l 층 이웃에 node 추가, 초과 시 휴리스틱으로 재선택 */
+    private void link(int neighbor, int node, int level) {
+        int[] list = neighbors[neighbor][level];
+        int cap = list.length - 1;
+        if (list[0] < cap) {
+            list[++list[0]] = node;
+            return;
+        }
+        LongHeap pool = new LongHeap(cap + 1, false);
+        pool.add(encode(vectors.dot(neighbor, node), node));
+        for (int i = 1; i <= list[0]; i++) {
+            pool.add(encode(vectors.dot(neighbor, list[i]), list[i]));
+        }
+        int[] kept = selectNeighbors(pool.drainDescending(), cap);
+        list[0] = kept.length;
+        System.arraycopy(kept, 0, list, 1, kept.length);
+    }
+
+    private void append(int node, int level, int neighbor) {
+        int[] list = neighbors[node][level];
+        list[++list[0]] = neighbor;
+    }
+
+    /**
+     * 다양성 휴리스틱: 후보(기준 노드와 유사도 내림차순)를 차례로 보며 이미 고른 이웃보다 기준 노드에 더 가까운 것만 선택,
+     * 부족하면 건너뛴 후보를 가까운 순으로 채움
+     */
+    private int[] selectNeighbors(long[] sortedDesc, int limit) {
+        int[] out = new int[Math.min(limit, sortedDesc.length)];
+        boolean[] taken = new boolean[sortedDesc.length];
+        int n = 0;
+        for (int i = 0; i < sortedDesc.length && n < out.length; i++) {
+            int c = node(sortedDesc[i]);
+            float toBase = score(sortedDesc[i]);
+            boolean good = true;
+            for (int j = 0; j < n; j++) {
+                if (vectors.dot(c, out[j]) > toBase) {
+                    good = false;
+                    break;
+                }
+            }
+            if (good) {
+                out[n++] = c;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < sortedDesc.length && n < out.length; i++) {
+            if (!taken[i]) {
+                out[n++] = node(sortedDesc[i]);
+            }
+        }
+        return out;
+    }
+
+    // ===== 층 탐색 =====
+
+    private int greedy(Similarity sim, int ep, int level) {
+        int current = ep;
+        float best = sim.to(current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] list = neighbors[current][level];
+            for (int i = 1; i <= list[0]; i++) {
+                float s = sim.to(list[i]);
+                if (s > best) {
+                    best = s;
+                    current = list[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /** @return 결과 min-heap (루트 = 결과 중 가장 먼 노드), 크기 ≤ ef */
+    private LongHeap searchLayer(Similarity sim, int ep, int ef, int level, Visited visited) {
+        visited.next();
+        LongHeap candidates = new LongHeap(ef * 2, true);
+        LongHeap results = new LongHeap(ef + 1, false);
+        long start = encode(sim.to(ep), ep);
+        candidates.add(start);
+        results.add(start);
+        visited.mark(ep);
+
+        while (candidates.size() > 0) {
+            long c = candidates.poll();
+            if (results.size() >= ef && score(c) < score(results.peek())) {
+                break;
+            }
+            int[] list = neighbors[node(c)][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int n = list[i];
+                if (!visited.mark(n)) {
+                    continue;
+                }
+                float s = sim.to(n);
+                if (results.size() < ef || s > score(results.peek())) {
+                    long e = encode(s, n);
+                    candidates.add(e);
+                    results.add(e);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private Visited borrowVisited() {
+        Visited v = visitedPool.poll();
+        return v != null ? v : new Visited(neighbors.length);
+    }
+
+    // ===== (score, node) long 인코딩 =====
+
+    private static long encode(float score, int node) {
+        int bits = Float.floatToIntBits(score);
+        bits ^= (bits >> 31) & 0x7FFFFFFF;   // 음수도 정수 비교 순서 = 실수 순서
+        return ((long)bits << 32) | (node & 0xFFFFFFFFL);
+    }
+
+    private static int node(long e) {
+        return (int)e;
+    }
+
+    private static float score(long e) {
+        int bits = (int)(e >> 32);
+        bits ^= (bits >> 31) & 0x7FFFFFFF;
+        return Float.intBitsToFloat(bits);
+    }
+
+    /** 방문 표시 (세대 번호로 초기화 비용 제거) */
+    private static final class Visited {
+        private final int[] marks;
+        private int generation;
+
+        Visited(int size) {
+            marks = new int[size];
+        }
+
+        void next() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        /** @return 처음 방문이면 true */
+        boolean mark(int node) {
+            if (marks[node] == generation) {
+                return false;
+            }
+            marks[node] = generation;
+            return true;
+        }
+    }
+
+    /** long 이진 힙 (max = true 면 최대 힙) */
+    private static final class LongHeap {
+        private long[] heap;
+        private int size;
+        private final boolean max;
+
+        LongHeap(int capacity, boolean max) {
+            this.heap = new long[Math.max(capacity, 4)];
+            this.max = max;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long peek() {
+            return heap[0];
+        }
+
+        void add(long v) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            int pos = size++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (!above(v, heap[parent])) {
+                    break;
+                }
+                heap[pos] = heap[parent];
+                pos = parent;
+            }
+            heap[pos] = v;
+        }
+
+        long poll() {
+            long top = heap[0];
+            long last = heap[--size];
+            int pos = 0;
+            int half = size >>> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                if (child + 1 < size && above(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!above(heap[child], last)) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                pos = child;
+            }
+            if (size > 0) {
+                heap[pos] = last;
+            }
+            return top;
+        }
+
+        /** 비우면서 점수 내림차순 배열 반환 */
+        long[] drainDescending() {
+            long[] out = new long[size];
+            for (int i = max ? 0 : size - 1; size > 0; i += max ? 1 : -1) {
+                out[i] = poll();
+            }
+            return out;
+        }
+
+        private boolean above(long a, long b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.sevencode.speakle.recommend.vector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 가사 청크 임베딩 파일 (읽기 전용 MappedByteBuffer, 벡터 본문은 힙에 올리지 않음)
+ *
+ * 파일 형식 (little-endian, 임베딩 추출 파이프라인에서 numpy 로 그대로 기록 가능)
+ * - header(32B): magic "LVEC", version, encoding(0 = float32, 1 = int8), dim, count, songCount, reserved × 2
+ * - chunkSong(int × count): 청크 → 곡 ordinal
+ * - vectors: float32 는 dim × 4B, int8 은 scale(float32) + dim × 1B (값 = q × scale, 대칭 양자화)
+ * - songIds: 곡마다 UTF-8 길이(short) + 바이트 (열 때 String[] 로 적재)
+ *
+ * 유사도는 내적 (벡터는 L2 정규화되어 있다고 가정 → 코사인 유사도)
+ * 파일 전체가 2GB 이하여야 함 (대규모 코퍼스는 int8 사용)
+ */
+final class LyricVectorFile {
+
+    static final int MAGIC = 0x4345564C; // "LVEC" (little-endian)
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    enum Encoding {
+        FLOAT32, INT8
+    }
+
+    private final Path path;
+    private final ByteBuffer buf;
+    private final Encoding encoding;
+    private final int dim;
+    private final int count;
+    private final int chunkSongOffset;
+    private final int vectorsOffset;
+    private final int recordBytes;
+    private final String[] songIds;
+
+    private LyricVectorFile(Path path, ByteBuffer buf) throws IOException {
+        this.path = path;
+        this.buf = buf.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.capacity() < HEADER_BYTES || buf.getInt(0) != MAGIC) {
+            throw new IOException("Not a lyric vector file: " + path);
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IOException("Unsupported lyric vector file version " + buf.getInt(4) + ": " + path);
+        }
+        int enc = buf.getInt(8);
+        if (enc < 0 || enc >= Encoding.values().length) {
+            throw new IOException("Unknown vector encoding " + enc + ": " + path);
+        }
+        this.encoding = Encoding.values()[enc];
+        this.dim = buf.getInt(12);
+        this.count = buf.getInt(16);
+        int songCount = buf.getInt(20);
+        this.chunkSongOffset = HEADER_BYTES;
+        this.vectorsOffset = chunkSongOffset + count * 4;
+        this.recordBytes = encoding == Encoding.FLOAT32 ? dim * 4 : 4 + dim;
+        if (dim <= 0 || count < 0 || songCount < 0
+            || HEADER_BYTES + count * 4L + count * (long)recordBytes > buf.capacity()) {
+            throw new IOException("Corrupt lyric vector file header: " + path);
+        }
+
+        int pos = vectorsOffset + count * recordBytes;
+        this.songIds = new String[songCount];
+        for (int i = 0; i < songCount; i++) {
+            int len = Short.toUnsignedInt(buf.getShort(pos));
+            byte[] bytes = new byte[len];
+            buf.get(pos + 2, bytes, 0, len);
+            songIds[i] = new String(bytes, StandardCharsets.UTF_8);
+            pos += 2 + len;
+        }
+        if (pos > buf.capacity()) {
+            throw new IOException("Truncated lyric vector file: " + path);
+        }
+    }
+
+    static LyricVectorFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Lyric vector file too large to map (use int8): " + path);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new LyricVectorFile(path, mapped);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    Encoding encoding() {
+        return encoding;
+    }
+
+    int dim() {
+        return dim;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int songCount() {
+        return songIds.length;
+    }
+
+    long sizeBytes() {
+        return buf.capacity();
+    }
+
+    int songOrdinal(int node) {
+        return buf.getInt(chunkSongOffset + node * 4);
+    }
+
+    String songId(int ordinal) {
+        return songIds[ordinal];
+    }
+
+    /** 질의 벡터와 청크 벡터의 내적 */
+    float dot(float[] query, int node) {
+        int pos = vectorsOffset + node * recordBytes;
+        float sum = 0f;
+        if (encoding == Encoding.FLOAT32) {
+            for (int i = 0; i < dim; i++) {
+                sum += query[i] * buf.getFloat(pos + i * 4);
+            }
+            return sum;
+        }
+        float scale = buf.getFloat(pos);
+        pos += 4;
+        for (int i = 0; i < dim; i++) {
+            sum += query[i] * buf.get(pos + i);
+        }
+        return sum * scale;
+    }
+
+    /** 청크 벡터 간 내적 (그래프 빌드용) */
+    float dot(int a, int b) {
+        int pa = vectorsOffset + a * recordBytes;
+        int pb = vectorsOffset + b * recordBytes;
+        if (encoding == Encoding.FLOAT32) {
+            float sum = 0f;
+            for (int i = 0; i < dim; i++) {
+                sum += buf.getFloat(pa + i * 4) * buf.getFloat(pb + i * 4);
+            }
+            return sum;
+        }
+        int sum = 0;
+        for (int i = 0; i < dim; i++) {
+            sum += buf.get(pa + 4 + i) * buf.get(pb + 4 + i);
+        }
+        return sum * buf.getFloat(pa) * buf.getFloat(pb);
+    }
+}
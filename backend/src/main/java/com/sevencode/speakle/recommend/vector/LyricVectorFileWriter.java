@@ -0,0 +1,80 @@
+package com.sevencode.speakle.recommend.vector;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * 가사 청크 임베딩 파일 기록 (LyricVectorFile 형식, 벤치마크/추출 도구용)
+ * - int8 은 벡터별 대칭 양자화: scale = max|x| / 127, q = round(x / scale)
+ */
+final class LyricVectorFileWriter {
+
+    private LyricVectorFileWriter() {
+    }
+
+    /**
+     * @param vectors 청크 벡터 (모두 같은 차원, L2 정규화 권장)
+     * @param chunkSong 청크별 곡 ordinal (songIds 인덱스)
+     */
+    static void write(Path target, LyricVectorFile.Encoding encoding, float[][] vectors, int[] chunkSong,
+                      List<String> songIds) throws IOException {
+        int dim = vectors.length == 0 ? 0 : vectors[0].length;
+        int recordBytes = encoding == LyricVectorFile.Encoding.FLOAT32 ? dim * 4 : 4 + dim;
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+            ByteBuffer header = ByteBuffer.allocate(LyricVectorFile.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(LyricVectorFile.MAGIC)
+                .putInt(LyricVectorFile.VERSION)
+                .putInt(encoding.ordinal())
+                .putInt(dim)
+                .putInt(vectors.length)
+                .putInt(songIds.size())
+                .putInt(0)
+                .putInt(0);
+            out.write(header.array());
+
+            ByteBuffer ints = ByteBuffer.allocate(chunkSong.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+            for (int song : chunkSong) {
+                ints.putInt(song);
+            }
+            out.write(ints.array());
+
+            ByteBuffer record = ByteBuffer.allocate(recordBytes).order(ByteOrder.LITTLE_ENDIAN);
+            for (float[] v : vectors) {
+                record.clear();
+                if (encoding == LyricVectorFile.Encoding.FLOAT32) {
+                    for (float x : v) {
+                        record.putFloat(x);
+                    }
+                } else {
+                    float maxAbs = 0f;
+                    for (float x : v) {
+                        maxAbs = Math.max(maxAbs, Math.abs(x));
+                    }
+                    float scale = maxAbs == 0f ? 1f : maxAbs / 127f;
+                    record.putFloat(scale);
+                    for (float x : v) {
+                        record.put((byte)Math.round(x / scale));
+                    }
+                }
+                out.write(record.array());
+            }
+
+            for (String songId : songIds) {
+                byte[] bytes = songId.getBytes(StandardCharsets.UTF_8);
+                out.write(bytes.length & 0xFF);
+                out.write((bytes.length >>> 8) & 0xFF);
+                out.write(bytes);
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,181 @@
+package com.sevencode.speakle.recommend.vector;
+
+import com.sevencode.speakle.support.StatsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 내 가사 청크 벡터 검색 (HNSW, Weaviate 네트워크 왕복 없이 의미 검색)
+ * - 입력: 임베딩 추출 파이프라인이 기록한 LyricVectorFile(float32 또는 int8) → mmap
+ * - 기동 시 백그라운드 스레드에서 HNSW 그래프 빌드(M, ef-construction) 후 공개, 빌드 전/비활성/파일 없음이면 Optional.empty()
+ * - 질의: 청크 상위 (topK × chunk-oversample) 를 efSearch 폭으로 찾고 곡별 최고 청크 점수로 집계 → 상위 topK 곡
+ * - 질의 벡터는 파일과 같은 임베딩 모델로 만든 L2 정규화 벡터여야 함 (JVM 내 임베딩 모델은 없음)
+ */
+@Slf4j
+@Component
+public class LyricVectorIndex implements StatsSource {
+
+    private final boolean enabled;
+    private final String file;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int chunkOversample;
+
+    private volatile Loaded loaded;   // null = 빌드 전
+    private final AtomicBoolean building = new AtomicBoolean(false);
+
+    // 통계
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryNanosTotal = new AtomicLong();
+    private volatile long buildMillis;
+
+    private record Loaded(LyricVectorFile vectors, HnswGraph graph) {
+    }
+
+    /** 곡 단위 결과 (chunk = 곡 내 최고 점수 청크의 파일 내 번호) */
+    public record SongHit(String songId, int chunk, float score) {
+    }
+
+    public LyricVectorIndex(
+        @Value("${recommend.vector.enabled:false}") boolean enabled,
+        @Value("${recommend.vector.file:}") String file,
+        @Value("${recommend.vector.m:16}") int m,
+        @Value("${recommend.vector.ef-construction:100}") int efConstruction,
+        @Value("${recommend.vector.ef-search:64}") int efSearch,
+        @Value("${recommend.vector.chunk-oversample:4}") int chunkOversample) {
+        this.enabled = enabled;
+        this.file = file;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.chunkOversample = Math.max(1, chunkOversample);
+    }
+
+    public boolean isReady() {
+        return enabled && loaded != null;
+    }
+
+    /** 벡터 차원 (빌드 전이면 0) */
+    public int dimension() {
+        Loaded current = loaded;
+        return current != null ? current.vectors().dim() : 0;
+    }
+
+    // ===== 적재 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        if (file == null || file.isBlank() || !Files.isRegularFile(Paths.get(file))) {
+            log.warn("[LyricVectorIndex] 벡터 파일 없음 - 비활성: {}", file);
+            return;
+        }
+        Thread loader = new Thread(() -> load(Paths.get(file)), "LyricVectorIndex-build");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /** 파일 매핑 + 그래프 빌드 후 교체 (동시 빌드는 1회만) */
+    public void load(Path path) {
+        if (!building.compareAndSet(false, true)) {
+            log.info("[LyricVectorIndex] 빌드 진행 중 - 요청 무시");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            LyricVectorFile vectors = LyricVectorFile.open(path);
+            HnswGraph graph = HnswGraph.build(vectors, m, efConstruction, 42L);
+            loaded = new Loaded(vectors, graph);
+            buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("[LyricVectorIndex] 빌드 완료 - chunks={}, songs={}, dim={}, encoding={}, M={}, efC={}, "
+                    + "levels={}, file={} MB, graph≈{} MB ({} ms)",
+                vectors.size(), vectors.songCount(), vectors.dim(), vectors.encoding(), m, efConstruction,
+                graph.maxLevel() + 1, vectors.sizeBytes() / (1024 * 1024), graph.memoryBytes() / (1024 * 1024),
+                buildMillis);
+        } catch (Exception e) {
+            log.error("[LyricVectorIndex] 빌드 실패 - 기존 색인 유지: {}", e.getMessage(), e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 질의 벡터 → 상위 topK 곡
+     * @return 색인 미준비 시 empty
+     * @throws IllegalArgumentException 차원 불일치
+     */
+    public Optional<List<SongHit>> search(float[] query, int topK) {
+        Loaded current = loaded;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        if (query.length != current.vectors().dim()) {
+            throw new IllegalArgumentException(
+                "질의 벡터 차원 불일치: " + query.length + " != " + current.vectors().dim());
+        }
+        long startedAt = System.nanoTime();
+        int chunkK = topK * chunkOversample;
+        HnswGraph.Result result = current.graph().search(query, chunkK, Math.max(efSearch, chunkK));
+        List<SongHit> hits = aggregate(current.vectors(), result, topK);
+
+        queries.incrementAndGet();
+        queryNanosTotal.addAndGet(System.nanoTime() - startedAt);
+        return Optional.of(hits);
+    }
+
+    /** 청크 결과(점수 내림차순) → 곡별 첫(=최고) 청크만 남겨 topK */
+    static List<SongHit> aggregate(LyricVectorFile vectors, HnswGraph.Result result, int topK) {
+        Set<Integer> seen = new HashSet<>();
+        List<SongHit> hits = new ArrayList<>(topK);
+        for (int i = 0; i < result.nodes().length && hits.size() < topK; i++) {
+            int node = result.nodes()[i];
+            int song = vectors.songOrdinal(node);
+            if (seen.add(song)) {
+                hits.add(new SongHit(vectors.songId(song), node, result.scores()[i]));
+            }
+        }
+        return hits;
+    }
+
+    @Override
+    public String statsName() {
+        return "recommend.vector";
+    }
+
+    @Override
+    public Stats stats() {
+        Loaded current = loaded;
+        long n = queries.get();
+        return new Stats(
+            current != null ? current.vectors().size() : 0,
+            current != null ? current.vectors().songCount() : 0,
+            current != null ? current.graph().memoryBytes() : 0,
+            buildMillis,
+            n,
+            n == 0 ? 0 : queryNanosTotal.get() / n / 1_000);
+    }
+
+    /** 색인 통계 (질의 지연은 마이크로초) */
+    public record Stats(int chunks, int songs, long graphBytes, long buildMillis, long queries,
+                        long avgQueryMicros) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.sevencode.speakle.reward.repository;
+
+import com.sevencode.speakle.reward.domain.enums.PointLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원자적 적립 저장소
+ * - 잔액 증감 + 레벨 재계산 + 이력 기록을 CTE 단일 SQL로 처리 (SELECT ... FOR UPDATE 후 엔터티 저장 대체)
+ * - 행 잠금은 UPDATE 시점에 잡혀 호출부 트랜잭션 커밋까지 유지됨(문 단위 아님)
+ *   → 잠금 보유 중 왕복이 존재 확인/FOR UPDATE 조회/저장/이력 INSERT 여러 번에서 이 문 1회 + 커밋으로 줄어
+ *     동일 사용자 동시 적립의 직렬 구간이 짧아짐
+ * - 잔액이 음수가 되는 요청/계정 미존재 시 갱신 행이 없으므로 Optional.empty()
+ * - 트랜잭션: JdbcTemplate은 호출부(@Transactional, JPA)의 커넥션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointsAccrualRepository {
+
+    // PointLevel 구간을 SQL CASE로 변환 (minPoints 내림차순, 신규 잔액 = balance + p.delta)
+    private static final String LEVEL_CASE = buildLevelCase("balance + p.delta");
+
+    private static final String ACCRUE_SQL = """
+        WITH p AS (
+            SELECT CAST(? AS integer) AS delta
+        ), upd AS (
+            UPDATE points_accounts
+               SET balance = balance + p.delta,
+                   level = %s,
+                   updated_at = LOCALTIMESTAMP
+              FROM p
+             WHERE user_id = ? AND balance + p.delta >= 0
+         RETURNING user_id, balance, level, updated_at, p.delta
+        ), led AS (
+            INSERT INTO points_ledger (user_id, occurred_at, source, delta, ref_type, ref_id, meta)
+            SELECT user_id, LOCALTIMESTAMP, ?, delta, CAST(? AS varchar), CAST(? AS bigint),
+                   jsonb_build_object('source', CAST(? AS text), 'refType', CAST(? AS text), 'refId', CAST(? AS bigint))
+              FROM upd
+        )
+        SELECT user_id, balance, level, updated_at FROM upd
+        """.formatted(LEVEL_CASE);
+
+    private static final String INSERT_ACCOUNT_SQL = """
+        INSERT INTO points_accounts (user_id, balance, level, updated_at)
+        VALUES (?, 0, ?, LOCALTIMESTAMP)
+        ON CONFLICT (user_id) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잔액 증감 + 이력 기록 (단일 문)
+     * - metaSource/metaRefType: 이력 meta(JSON)에 원본 요청 값 그대로 기록 (기존 경로와 동일)
+     * @return 갱신 결과, 계정 없음 또는 잔액 부족 시 empty
+     */
+    public Optional<AccrualResult> accrue(Long userId, int delta, String source, String refType, Long refId,
+                                          String metaSource, String metaRefType) {
+        List<AccrualResult> rows = jdbcTemplate.query(ACCRUE_SQL,
+            (rs, i) -> new AccrualResult(
+                rs.getLong("user_id"),
+                rs.getInt("balance"),
+                PointLevel.valueOf(rs.getString("level")),
+                rs.getObject("updated_at", LocalDateTime.class)),
+            delta, userId,
+            source, refType, refId,
+            metaSource, metaRefType, refId);
+        return rows.stream().findFirst();
+    }
+
+    /** 최초 계정 생성 (동시 생성 경합은 ON CONFLICT 로 무시) */
+    public void insertAccountIfAbsent(Long userId) {
+        jdbcTemplate.update(INSERT_ACCOUNT_SQL, userId, PointLevel.BRONZE.name());
+    }
+
+    private static String buildLevelCase(String newBalance) {
+        StringBuilder sb = new StringBuilder("CASE");
+        Arrays.stream(PointLevel.values())
+            .sorted(Comparator.comparingInt(PointLevel::getMinPoints).reversed())
+            .forEach(l -> sb.append(" WHEN ").append(newBalance).append(" >= ").append(l.getMinPoints())
+                .append(" THEN '").append(l.name()).append("'"));
+        return sb.append(" ELSE '").append(PointLevel.BRONZE.name()).append("' END").toString();
+    }
+
+    public record AccrualResult(Long userId, Integer balance, PointLevel level, LocalDateTime updatedAt) {
+    }
+}
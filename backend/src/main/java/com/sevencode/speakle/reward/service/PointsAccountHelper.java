@@ -6,6 +6,7 @@ import com.sevencode.speakle.reward.domain.enums.PointLevel;
 import com.sevencode.speakle.reward.exception.PointsAccountNotFoundException;
 import com.sevencode.speakle.reward.exception.UserNotFoundException;
 import com.sevencode.speakle.reward.repository.PointsAccountRepository;
+import com.sevencode.speakle.reward.repository.PointsAccrualRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class PointsAccountHelper {
     private final PointsAccountRepository pointsAccountRepository;
     private final SpringDataMemberJpa memberRepository;
+    private final PointsAccrualRepository pointsAccrualRepository;
 
     /**
      * 포인트 계정 확보 (없으면 생성)
@@ -56,6 +58,16 @@ public class PointsAccountHelper {
                 .orElseThrow(() -> new PointsAccountNotFoundException("포인트 계정을 찾을 수 없습니다."));
     }
 
+    /**
+     * 포인트 계정 생성 (원자적 적립 경로용, 동시 생성 경합은 ON CONFLICT로 무시)
+     */
+    @Transactional
+    public void createPointsAccountIfAbsent(Long userId) {
+        validateUserId(userId);
+        validateUserExists(userId);
+        pointsAccrualRepository.insertAccountIfAbsent(userId);
+    }
+
     // === Private Helper Methods ===
 
     /**
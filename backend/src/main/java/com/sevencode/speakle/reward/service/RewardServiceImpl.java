@@ -12,9 +12,11 @@ import com.sevencode.speakle.reward.dto.response.RewardRankingResponse;
 import com.sevencode.speakle.reward.dto.response.RewardUpdateResponse;
 import com.sevencode.speakle.reward.exception.*;
 import com.sevencode.speakle.reward.repository.PointsAccountRepository;
+import com.sevencode.speakle.reward.repository.PointsAccrualRepository;
 import com.sevencode.speakle.reward.repository.PointsLedgerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -37,6 +40,12 @@ public class RewardServiceImpl implements RewardService{
     private final PointsLedgerRepository pointsLedgerRepository;
     private final PointsAccountHelper pointsAccountHelper;
     private final SpringDataMemberJpa userRepository;
+    private final PointsAccrualRepository pointsAccrualRepository;
+
+    // true: UPDATE ... RETURNING + 이력 INSERT 단일 CTE, false(기본): 비관적 락 조회 후 저장
+    // 행 잠금은 두 경로 모두 트랜잭션 커밋까지 유지됨 (atomic 은 잠금을 쥔 채 오가는 왕복을 1회로 줄임)
+    @Value("${reward.accrual.atomic:false}")
+    private boolean atomicAccrual;
 
     /**
      * 포인트 업데이트
@@ -53,6 +62,10 @@ public class RewardServiceImpl implements RewardService{
         PointsLedgerEntity.SourceType sourceType = parseSourceType(request.getSource());
         PointsLedgerEntity.RefType refType = parseRefType(request.getRefType());
 
+        if (atomicAccrual) {
+            return accrueAtomically(request, userId, sourceType, refType);
+        }
+
         // 3. 사용자 포인트 계정 조회 또는 생성 (비관적 락 적용)
         PointsAccountEntity account = pointsAccountHelper.getPointsAccountWithLock(request.getUserId());
 
@@ -100,6 +113,47 @@ public class RewardServiceImpl implements RewardService{
                 .build();
     }
 
+    // ------------------------------------------------------------
+    // 원자적 적립: 잔액/레벨 갱신 + 이력 기록을 단일 SQL로 처리
+    // 갱신 행이 없으면 계정 미존재(→ 생성 후 1회 재시도) 또는 잔액 부족
+    // ------------------------------------------------------------
+    private RewardUpdateResponse accrueAtomically(RewardUpdateRequest request, Long userId,
+                                                  PointsLedgerEntity.SourceType sourceType,
+                                                  PointsLedgerEntity.RefType refType) {
+        Optional<PointsAccrualRepository.AccrualResult> result = accrue(request, userId, sourceType, refType);
+
+        if (result.isEmpty()) {
+            if (pointsAccountRepository.existsByUserId(userId)) {
+                throw new InsufficientPointsException("포인트 잔액이 부족합니다.");
+            }
+            pointsAccountHelper.createPointsAccountIfAbsent(userId);
+            result = accrue(request, userId, sourceType, refType);
+        }
+
+        PointsAccrualRepository.AccrualResult accrued = result
+                .orElseThrow(() -> new InsufficientPointsException("포인트 잔액이 부족합니다."));
+
+        return RewardUpdateResponse.builder()
+                .userId(accrued.userId())
+                .balance(accrued.balance())
+                .level(accrued.level())
+                .updatedAt(accrued.updatedAt())
+                .build();
+    }
+
+    private Optional<PointsAccrualRepository.AccrualResult> accrue(RewardUpdateRequest request, Long userId,
+                                                                   PointsLedgerEntity.SourceType sourceType,
+                                                                   PointsLedgerEntity.RefType refType) {
+        return pointsAccrualRepository.accrue(
+                userId,
+                request.getDelta(),
+                sourceType.name(),
+                refType != null ? refType.name() : null,
+                request.getRefId(),
+                request.getSource(),
+                request.getRefType());
+    }
+
     // ------------------------------------------------------------
     // SourceType으로 파싱
     // ------------------------------------------------------------
@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -66,6 +67,12 @@ public class SongController {
                 "노래 상세 정보를 성공적으로 조회했습니다.",
                 songDetail
         );
+        // 번역 대기열 포화: 상세 정보는 그대로 반환, 번역 재요청 시점만 Retry-After 로 안내
+        if (songDetail.getTranslationRetryAfterSeconds() != null) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(songDetail.getTranslationRetryAfterSeconds()))
+                    .body(response);
+        }
         return ResponseEntity.ok(response);
     }
 
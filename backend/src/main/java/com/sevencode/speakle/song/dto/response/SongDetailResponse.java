@@ -19,4 +19,10 @@ public class SongDetailResponse {
     private Long durationMs;
     private String lyrics;
     private List<LyricChunkResponse> lyricChunks;
+
+    // 실시간 번역 접수 결과 (ACCEPTED / DUPLICATE / REJECTED, 번역 불필요·비활성 시 null)
+    private String translationStatus;
+
+    // REJECTED 일 때 재요청 권장 대기 시간(초), 응답 헤더 Retry-After 와 같은 값
+    private Long translationRetryAfterSeconds;
 }
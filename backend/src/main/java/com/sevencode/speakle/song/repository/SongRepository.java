@@ -20,6 +20,10 @@ public interface SongRepository extends JpaRepository<Song, String> {
            "LOWER(s.artists) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Song> findByTitleOrArtistsContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
 
+    // 검색 색인(SongSearchIndex) 적재용 projection: songId, title, artists, popularity
+    @Query("SELECT s.songId, s.title, s.artists, s.popularity FROM Song s")
+    List<Object[]> findSearchIndexRows();
+
     // 앨범 이미지가 없거나 특정 패턴이 아닌 곡들 찾기 (수정(소연))
     @Query("SELECT s FROM Song s WHERE s.albumImgUrl IS NULL OR s.albumImgUrl NOT LIKE :pattern")
     Page<Song> findByAlbumImgUrlIsNullOrAlbumImgUrlNotLike(@Param("pattern") String pattern, Pageable pageable);
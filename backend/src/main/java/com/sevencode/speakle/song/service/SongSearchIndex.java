@@ -0,0 +1,280 @@
+package com.sevencode.speakle.song.service;
+
+import com.sevencode.speakle.song.repository.SongRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * SongSearchIndex
+ * - 목적: SongRepository.findByTitleOrArtistsContainingIgnoreCase(LIKE %kw%, 풀스캔) 대체용 JVM 내 트라이그램 역색인.
+ * - 구성:
+ *   · 문서: songId/정규화 title/정규화 artists/popularity (projection 쿼리로 적재, 엔터티 전체 로딩 없음)
+ *   · 색인: 필드별 트라이그램 → 정렬된 docId postings
+ *   · 정규화: NFKC + Locale.ROOT 소문자 + 공백 축약 (한글/라틴/전각 문자 통합)
+ * - 질의: 3자 이상은 postings 교집합 후 부분문자열 검증, 1~2자는 문서 선형 스캔.
+ *   랭킹은 매칭 위치(제목 접두 > 단어 접두 > 부분) × 인기도 가중, 상위 K(offset+limit)만 힙으로 선택.
+ * - 갱신: 기동 시 전체 빌드 + 주기적 전체 재빌드(rebuild-interval-ms)로만 반영. 곡 적재/수정은 외부 배치가 담당하고
+ *   앱의 곡 저장 경로는 앨범 이미지 URL(색인 외 필드)만 바꾸므로 건별 갱신 없음 → 새 곡/제목 변경은 다음 재빌드까지 미반영.
+ * - 세그먼트는 빌드 후 불변, volatile 교체로 공개 → 검색에 락 불필요.
+ * - 비활성(song.search.index.enabled=false) 또는 빌드 전에는 Optional.empty() → 호출부가 DB 쿼리로 폴백.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongSearchIndex {
+
+	private final SongRepository songRepository;
+
+	@Value("${song.search.index.enabled:true}")
+	private boolean enabled;
+
+	private volatile Segment segment;   // null = 아직 빌드 전
+
+	public boolean isReady() {
+		return enabled && segment != null;
+	}
+
+	// ===== 빌드/갱신 =====
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		if (enabled)
+			rebuild();
+	}
+
+	@Scheduled(fixedDelayString = "${song.search.index.rebuild-interval-ms:1800000}",
+		initialDelayString = "${song.search.index.rebuild-interval-ms:1800000}")
+	public void scheduledRebuild() {
+		if (enabled)
+			rebuild();
+	}
+
+	/** projection 쿼리로 전체 재빌드 후 원자적 교체 */
+	public void rebuild() {
+		long startedAt = System.nanoTime();
+		try {
+			List<Object[]> rows = songRepository.findSearchIndexRows();
+			Segment fresh = new Segment(rows.size());
+			for (Object[] r : rows) {
+				fresh.add((String)r[0], (String)r[1], (String)r[2], (Integer)r[3]);
+			}
+			segment = fresh;
+			log.info("[SongSearchIndex] 빌드 완료 - {} ({} ms)", memoryReport(),
+				(System.nanoTime() - startedAt) / 1_000_000);
+		} catch (Exception e) {
+			log.error("[SongSearchIndex] 빌드 실패 - 기존 색인 유지(없으면 DB 검색 폴백): {}", e.getMessage(), e);
+		}
+	}
+
+	// ===== 검색 =====
+
+	/**
+	 * 제목/아티스트 부분·접두 검색.
+	 * @param byPopularity true면 인기도 내림차순(매칭 위치는 동점 처리용), false면 관련도×인기도
+	 * @return 색인 사용 불가 시 empty (호출부 DB 폴백)
+	 */
+	public Optional<Hits> search(String keyword, boolean byPopularity, int offset, int limit) {
+		if (!isReady())
+			return Optional.empty();
+		String q = fold(keyword);
+		if (q.isEmpty())
+			return Optional.empty();
+
+		Segment seg = segment;
+		int k = Math.max(0, offset) + Math.max(0, limit);
+		// min-heap(점수 오름차순, 동점은 먼저 적재된 문서 우선) — 상위 k개만 유지
+		Comparator<double[]> byScore = Comparator.<double[]>comparingDouble(a -> a[1])
+			.thenComparingDouble(a -> -a[0]);
+		PriorityQueue<double[]> heap = new PriorityQueue<>(Math.max(1, k + 1), byScore);
+		long total = 0;
+
+		int[] candidates = q.length() >= 3 ? seg.candidates(q) : null;
+		int n = candidates != null ? candidates.length : seg.size();
+		for (int i = 0; i < n; i++) {
+			int doc = candidates != null ? candidates[i] : i;
+			double tier = matchTier(seg.titles.get(doc), seg.artists.get(doc), q);
+			if (tier == 0)
+				continue;
+			total++;
+			if (k == 0)
+				continue;
+			int pop = seg.popularity[doc];
+			double score = byPopularity ? pop + tier * 1e-3 : tier * (1.0 + pop / 100.0);
+			heap.offer(new double[] {doc, score});
+			if (heap.size() > k)
+				heap.poll();
+		}
+
+		List<double[]> top = new ArrayList<>(heap);
+		top.sort(byScore.reversed());
+		List<String> ids = new ArrayList<>(Math.max(0, top.size() - offset));
+		for (int i = Math.max(0, offset); i < top.size(); i++) {
+			ids.add(seg.songIds.get((int)top.get(i)[0]));
+		}
+		return Optional.of(new Hits(ids, total));
+	}
+
+	/** 매칭 위치 가중치: 제목 접두 4, 제목 단어 접두 3, 제목 부분 2, 아티스트 접두/단어 접두 1.5, 아티스트 부분 1, 미매칭 0 */
+	private static double matchTier(String title, String artists, String q) {
+		int t = title.indexOf(q);
+		if (t == 0)
+			return 4;
+		if (t > 0)
+			return title.charAt(t - 1) == ' ' ? 3 : 2;
+		int a = artists.indexOf(q);
+		if (a == 0 || (a > 0 && (artists.charAt(a - 1) == ' ' || artists.charAt(a - 1) == ',')))
+			return 1.5;
+		return a > 0 ? 1 : 0;
+	}
+
+	/** NFKC + 소문자 + 공백 축약 */
+	static String fold(String s) {
+		if (s == null)
+			return "";
+		String n = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		return n.replaceAll("\\s+", " ").trim();
+	}
+
+	// ===== 메모리 리포트 =====
+
+	/** 문서/트라이그램/postings 수와 대략적 힙 점유량(바이트) */
+	public MemoryReport memoryReport() {
+		Segment seg = segment;
+		if (seg == null)
+			return new MemoryReport(0, 0, 0, 0);
+		long postings = 0;
+		long bytes = 0;
+		for (IntList l : seg.postings.values()) {
+			postings += l.size;
+			bytes += 16 + 4L * l.data.length + 16; // int[] + IntList 헤더
+		}
+		bytes += seg.postings.size() * 64L;        // HashMap 엔트리 + Long 키
+		for (int i = 0; i < seg.size(); i++) {
+			bytes += 40 + seg.titles.get(i).length() + seg.artists.get(i).length(); // Latin1 압축 문자열 가정
+			bytes += 40 + seg.songIds.get(i).length();                               // id
+		}
+		bytes += 4L * seg.popularity.length;
+		return new MemoryReport(seg.size(), seg.postings.size(), postings, bytes);
+	}
+
+	public record Hits(List<String> songIds, long total) {
+	}
+
+	public record MemoryReport(int docs, int trigrams, long postings, long estimatedBytes) {
+		@Override
+		public String toString() {
+			return String.format("docs=%d, trigrams=%d, postings=%d, est=%.1fMB",
+				docs, trigrams, postings, estimatedBytes / (1024.0 * 1024.0));
+		}
+	}
+
+	// ===== 내부 구조 =====
+
+	/** 단일 세그먼트: 문서 저장소 + 트라이그램 postings (docId는 추가 순 증가 → postings 정렬 유지) */
+	private static final class Segment {
+		final List<String> songIds;
+		final List<String> titles;
+		final List<String> artists;
+		int[] popularity;
+		final Map<Long, IntList> postings = new HashMap<>();
+
+		Segment(int expected) {
+			songIds = new ArrayList<>(expected);
+			titles = new ArrayList<>(expected);
+			artists = new ArrayList<>(expected);
+			popularity = new int[Math.max(16, expected)];
+		}
+
+		int size() {
+			return songIds.size();
+		}
+
+		void add(String songId, String title, String artist, Integer pop) {
+			String t = fold(title);
+			String a = fold(artist);
+			int doc = songIds.size();
+			songIds.add(songId);
+			titles.add(t);
+			artists.add(a);
+			if (doc >= popularity.length)
+				popularity = Arrays.copyOf(popularity, popularity.length * 2);
+			popularity[doc] = pop != null ? pop : 0;
+			indexField(doc, t);
+			indexField(doc, a);
+		}
+
+		private void indexField(int doc, String folded) {
+			for (int i = 0; i + 3 <= folded.length(); i++) {
+				postings.computeIfAbsent(gram(folded, i), g -> new IntList()).addIfLast(doc);
+			}
+		}
+
+		/** 질의 트라이그램 postings 교집합(작은 리스트부터). 하나라도 없으면 빈 배열. */
+		int[] candidates(String q) {
+			List<IntList> lists = new ArrayList<>(q.length());
+			for (int i = 0; i + 3 <= q.length(); i++) {
+				IntList l = postings.get(gram(q, i));
+				if (l == null)
+					return new int[0];
+				lists.add(l);
+			}
+			lists.sort(Comparator.comparingInt(l -> l.size));
+			int[] acc = Arrays.copyOf(lists.get(0).data, lists.get(0).size);
+			int len = acc.length;
+			for (int li = 1; li < lists.size() && len > 0; li++) {
+				IntList other = lists.get(li);
+				int w = 0, j = 0;
+				for (int i = 0; i < len && j < other.size; ) {
+					int x = acc[i], y = other.data[j];
+					if (x == y) {
+						acc[w++] = x;
+						i++;
+						j++;
+					} else if (x < y) {
+						i++;
+					} else {
+						j++;
+					}
+				}
+				len = w;
+			}
+			return Arrays.copyOf(acc, len);
+		}
+
+		private static long gram(String s, int i) {
+			return ((long)s.charAt(i) << 32) | ((long)s.charAt(i + 1) << 16) | s.charAt(i + 2);
+		}
+	}
+
+	/** 정렬된 docId 리스트(증가 순 append 전용) */
+	private static final class IntList {
+		int[] data = new int[4];
+		int size;
+
+		void addIfLast(int v) {
+			if (size > 0 && data[size - 1] == v)
+				return;
+			if (size == data.length)
+				data = Arrays.copyOf(data, size * 2);
+			data[size++] = v;
+		}
+	}
+}
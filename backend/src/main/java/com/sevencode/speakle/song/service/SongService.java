@@ -11,11 +11,13 @@ import com.sevencode.speakle.song.dto.response.SongDetailResponse;
 import com.sevencode.speakle.song.dto.response.SongResponse;
 // 수정(소연) - learn 패키지의 LearnedSongRepository 사용
 import com.sevencode.speakle.learn.repository.LearnedSongRepository;
+import com.sevencode.speakle.learn.service.LearnCountStore;
 import com.sevencode.speakle.learn.service.LearningSentenceService;
 import com.sevencode.speakle.learn.repository.LearningSentenceRepository;
 import com.sevencode.speakle.learn.domain.entity.LearningSentence;
 import com.sevencode.speakle.parser.service.LyricsParsingService;
 import com.sevencode.speakle.parser.service.ContextAwareLyricTranslationService;
+import com.sevencode.speakle.parser.service.TranslationJobScheduler;
 import com.sevencode.speakle.parser.repository.SentenceRepository;
 import com.sevencode.speakle.parser.entity.SentenceEntity;
 import com.sevencode.speakle.playlist.service.CustomPlaylistService;
@@ -29,7 +31,9 @@ import com.sevencode.speakle.song.repository.LyricChunkRepository;
 import com.sevencode.speakle.song.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -52,6 +56,11 @@ public class SongService {
     private final SpotifyService spotifyService;
     private final SentenceRepository sentenceRepository;
     private final CustomPlaylistService customPlaylistService;
+    private final SongSearchIndex songSearchIndex;
+    private final LearnCountStore learnCountStore;
+
+    @Value("${lyrics.translation.realtime.enabled:false}")
+    private boolean realtimeTranslationEnabled;
 
     // 노래 리스트 (페이징)
     public Page<SongResponse> getSongs(Pageable pageable) {
@@ -80,6 +89,16 @@ public class SongService {
         // Pageable 생성
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
+        // 키워드 검색은 메모리 색인 우선 (비활성/미빌드/미지원 정렬이면 DB LIKE 쿼리로 폴백)
+        if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
+            Optional<Page<SongResponse>> indexed = searchSongsFromIndex(request.getKeyword().trim(), sort, pageable);
+            if (indexed.isPresent()) {
+                log.info("[SongService] POST 노래 검색 성공 (색인, 키워드: '{}') - 조회된 개수: {}",
+                        request.getKeyword(), indexed.get().getTotalElements());
+                return indexed.get();
+            }
+        }
+
         // 키워드가 있으면 제목/아티스트로 검색, 없으면 전체 조회
         Page<Song> songs;
         if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
@@ -94,6 +113,38 @@ public class SongService {
         return songs.map(this::toSongResponse);
     }
 
+    /**
+     * 색인 검색: 정렬 미지정(관련도×인기도) 또는 popularity,desc 만 지원.
+     * 결과 페이지의 songId로만 엔터티를 조회하고 색인 순서를 유지한다.
+     */
+    private Optional<Page<SongResponse>> searchSongsFromIndex(String keyword, Sort sort, Pageable pageable) {
+        boolean byPopularity;
+        if (sort.isUnsorted()) {
+            byPopularity = false;
+        } else if (sort.stream().count() == 1
+                && "popularity".equals(sort.iterator().next().getProperty())
+                && sort.iterator().next().isDescending()) {
+            byPopularity = true;
+        } else {
+            return Optional.empty();
+        }
+
+        Optional<SongSearchIndex.Hits> hits = songSearchIndex.search(
+                keyword, byPopularity, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Song> byId = songRepository.findAllById(hits.get().songIds()).stream()
+                .collect(Collectors.toMap(Song::getSongId, s -> s));
+        List<SongResponse> content = hits.get().songIds().stream()
+                .map(byId::get)
+                .filter(java.util.Objects::nonNull)
+                .map(this::toSongResponse)
+                .toList();
+        return Optional.of(new PageImpl<>(content, pageable, hits.get().total()));
+    }
+
     private Sort.Order parseSort(String sortString) {
         // "popularity,desc" -> Sort.Order.desc("popularity")
         // "title,asc" -> Sort.Order.asc("title")
@@ -171,12 +222,19 @@ public class SongService {
                 .anyMatch(c -> c.getEnglish() != null && !c.getEnglish().trim().isEmpty()
                              && (c.getKorean() == null || c.getKorean().trim().isEmpty()));
 
-        if (hasUntranslatedChunks) {
+        TranslationJobScheduler.Admission admission = null;
+        if (hasUntranslatedChunks && !realtimeTranslationEnabled) {
+            // 토큰 사용 때문에 기본 비활성 (배포 환경에서 lyrics.translation.realtime.enabled=true)
+            log.info("[SongService] 번역이 필요한 청크 발견 - 실시간 번역 비활성, songId={}", songId);
+        } else if (hasUntranslatedChunks) {
             log.info("[SongService] 번역이 필요한 청크 발견 - 실시간 번역 시작, songId={}", songId);
-			// 테스트 끝나고 배포 후 주석 해제 (토큰 사용 때문에 주석처리)
-//             contextAwareLyricTranslationService.translateSongChunksRealtime(
-//                     songId, song.getTitle(), song.getArtists(), song.getAlbum()
-//             );
+            admission = contextAwareLyricTranslationService.translateSongChunksRealtime(
+                    songId, song.getTitle(), song.getArtists(), song.getAlbum()
+            );
+            if (admission.status() == TranslationJobScheduler.Admission.Status.REJECTED) {
+                log.warn("[SongService] 실시간 번역 대기열 포화 - songId={}, retryAfter={}s",
+                        songId, admission.retryAfter().toSeconds());
+            }
         } else {
             log.info("[SongService] 모든 번역 완료됨 - 번역 서비스 스킵, songId={}", songId);
         }
@@ -201,6 +259,10 @@ public class SongService {
                 .durationMs(song.getDurationMs())
                 .lyrics(song.getLyrics())
                 .lyricChunks(chunks)
+                .translationStatus(admission != null ? admission.status().name() : null)
+                .translationRetryAfterSeconds(admission != null
+                        && admission.status() == TranslationJobScheduler.Admission.Status.REJECTED
+                        ? admission.retryAfter().toSeconds() : null)
                 .build();
     }
 
@@ -257,6 +319,8 @@ public class SongService {
                 LearnedSongEntity saved = learnedSongRepository.save(learnedSong);
                 log.info("[SongService] 학습곡 저장 성공 - learnedSongId={}, userId={}, songId={}",
                         saved.getLearnedSongId(), userId, saved.getSongId());
+                // 추천 정렬용 곡별 학습 횟수 카운터 증가
+                learnCountStore.recordLearned(saved.getSongId());
 
                 // Parser 데이터 확인 및 LLM 파싱 수행 (동기적으로 처리)
                 // songId를 사용해야 함 (learnedSongId가 아님)
@@ -0,0 +1,174 @@
+package com.sevencode.speakle.spotify.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sevencode.speakle.auth.dto.SpotifyTokenResponse;
+import com.sevencode.speakle.spotify.config.SpotifyProps;
+import com.sevencode.speakle.spotify.exception.SpotifyTokenException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Spotify 앱(Client Credentials) 토큰 보관자
+ * - expires_in - 안전 여유(safety-margin)까지 캐시하여 호출마다 토큰 교환하지 않음
+ * - 만료 refresh-ahead 이전부터는 백그라운드 스케줄러가 선제 갱신(최근 사용된 경우에만)
+ * - 동시 갱신은 단일 in-flight 요청으로 합침(single-flight)
+ */
+@Slf4j
+@Component
+public class SpotifyAppTokenProvider {
+
+	private static final long DEFAULT_EXPIRES_IN_SECONDS = 3600;
+
+	private final SpotifyProps props;
+	private final WebClient accountsWebClient;
+	private final Duration safetyMargin;
+	private final Duration refreshAhead;
+
+	private volatile CachedToken current;
+	private volatile Instant lastAccessAt = Instant.EPOCH;
+	private CompletableFuture<CachedToken> inFlight; // guarded by this
+
+	private final AtomicLong exchangeCount = new AtomicLong();
+
+	public SpotifyAppTokenProvider(
+		SpotifyProps props,
+		@Qualifier("spotifyAccountsWebClient") WebClient accountsWebClient,
+		@Value("${spotify.app-token.safety-margin:PT60S}") Duration safetyMargin,
+		@Value("${spotify.app-token.refresh-ahead:PT5M}") Duration refreshAhead
+	) {
+		this.props = props;
+		this.accountsWebClient = accountsWebClient;
+		this.safetyMargin = safetyMargin;
+		// 선제 갱신 구간은 최소 안전 여유 이상 (만료 임박 토큰이 캐시로 반환되지 않도록)
+		this.refreshAhead = refreshAhead.compareTo(safetyMargin) < 0 ? safetyMargin : refreshAhead;
+	}
+
+	/**
+	 * 유효한 앱 토큰 반환 (캐시 우선, 없거나 만료 임박 시 single-flight 갱신)
+	 */
+	public String getAccessToken() {
+		lastAccessAt = Instant.now();
+		CachedToken token = current;
+		if (token != null && token.isUsable(Instant.now(), safetyMargin)) {
+			return token.value();
+		}
+		return awaitRefresh().value();
+	}
+
+	/** 토큰 교환 누적 횟수(모니터링/검증용) */
+	public long getExchangeCount() {
+		return exchangeCount.get();
+	}
+
+	/**
+	 * 선제 갱신: 만료 refreshAhead 이내이고, 최근 토큰 수명 내 사용 이력이 있을 때만 갱신
+	 */
+	@Scheduled(fixedDelayString = "${spotify.app-token.check-interval-ms:30000}")
+	public void refreshProactively() {
+		CachedToken token = current;
+		if (token == null) {
+			return;
+		}
+		Instant now = Instant.now();
+		boolean nearExpiry = now.isAfter(token.expiresAt().minus(refreshAhead));
+		boolean recentlyUsed = lastAccessAt.isAfter(now.minusSeconds(token.lifetimeSeconds()));
+		if (nearExpiry && recentlyUsed) {
+			try {
+				awaitRefresh();
+				log.debug("Spotify 앱 토큰 선제 갱신 완료 - expiresAt: {}", current.expiresAt());
+			} catch (Exception e) {
+				log.warn("Spotify 앱 토큰 선제 갱신 실패 (기존 토큰 유지): {}", e.getMessage());
+			}
+		}
+	}
+
+	private CachedToken awaitRefresh() {
+		try {
+			return refresh().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new SpotifyTokenException("Client Credentials 토큰 획득 실패");
+		}
+	}
+
+	/**
+	 * single-flight 갱신: 진행 중인 요청이 있으면 그 결과를 공유,
+	 * 대기 중 다른 스레드가 이미 갱신했으면 교환 없이 최신 토큰 반환
+	 */
+	private CompletableFuture<CachedToken> refresh() {
+		CompletableFuture<CachedToken> future;
+		synchronized (this) {
+			if (inFlight != null) {
+				return inFlight;
+			}
+			CachedToken token = current;
+			if (token != null && !Instant.now().isAfter(token.expiresAt().minus(refreshAhead))) {
+				return CompletableFuture.completedFuture(token);
+			}
+			future = new CompletableFuture<>();
+			inFlight = future;
+		}
+
+		try {
+			CachedToken fresh = exchange();
+			current = fresh;
+			future.complete(fresh);
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+		} finally {
+			synchronized (this) {
+				inFlight = null;
+			}
+		}
+		return future;
+	}
+
+	private CachedToken exchange() {
+		MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+		body.add("grant_type", "client_credentials");
+
+		exchangeCount.incrementAndGet();
+		SpotifyTokenResponse response = accountsWebClient.post()
+			.uri("/api/token")
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.headers(h -> h.setBasicAuth(props.getClientId(), props.getClientSecret()))
+			.body(BodyInserters.fromFormData(body))
+			.retrieve()
+			.onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+				clientResponse -> clientResponse.bodyToMono(String.class)
+					.map(errorBody -> new SpotifyTokenException("Client Credentials 토큰 획득 실패: " + errorBody)))
+			.bodyToMono(SpotifyTokenResponse.class)
+			.block();
+
+		if (response == null || response.getAccessToken() == null) {
+			throw new SpotifyTokenException("Client Credentials 토큰 응답이 비어있습니다.");
+		}
+
+		long expiresIn = response.getExpiresIn() > 0 ? response.getExpiresIn() : DEFAULT_EXPIRES_IN_SECONDS;
+		log.info("Spotify 앱 토큰 발급 완료 - expiresIn: {}s, 누적 교환: {}", expiresIn, exchangeCount.get());
+		return new CachedToken(response.getAccessToken(), Instant.now().plusSeconds(expiresIn), expiresIn);
+	}
+
+	private record CachedToken(String value, Instant expiresAt, long lifetimeSeconds) {
+		boolean isUsable(Instant now, Duration margin) {
+			return now.isBefore(expiresAt.minus(margin));
+		}
+	}
+}
@@ -43,6 +43,7 @@ public class SpotifyService {
 	private final WebClient accountsWebClient;
 	private final WebClient apiWebClient;
 	private final SpotifyTokenService spotifyTokenService;
+	private final SpotifyAppTokenProvider spotifyAppTokenProvider;
 
 	public SpotifyService(
 		SpotifyProps props,
@@ -51,7 +52,8 @@ public class SpotifyService {
 		StateStore stateStore,
 		@Qualifier("spotifyAccountsWebClient") WebClient accountsWebClient,
 		@Qualifier("spotifyApiWebClient") WebClient apiWebClient,
-		SpotifyTokenService spotifyTokenService
+		SpotifyTokenService spotifyTokenService,
+		SpotifyAppTokenProvider spotifyAppTokenProvider
 	) {
 		this.props = props;
 		this.spotifyAccountRepository = spotifyAccountRepository;
@@ -60,6 +62,7 @@ public class SpotifyService {
 		this.accountsWebClient = accountsWebClient;
 		this.apiWebClient = apiWebClient;
 		this.spotifyTokenService = spotifyTokenService;
+		this.spotifyAppTokenProvider = spotifyAppTokenProvider;
 	}
 
 	public String buildAuthorizeRedirect(UserPrincipal auth) {
@@ -209,6 +212,7 @@ public class SpotifyService {
 			}
 
 			spotifyAccountRepository.save(entity);
+			spotifyTokenService.invalidateAfterCommit(userId); // 재연동 시 이전 토큰 캐시 제거 (커밋 후)
 		} catch (Exception e) {
 			log.error("Spotify 계정 정보 저장 실패 - userId: {}", userId, e);
 			throw new SpotifyApiException("Spotify 계정 정보 저장에 실패했습니다.", 500, e);
@@ -223,6 +227,7 @@ public class SpotifyService {
 			}
 
 			spotifyAccountRepository.deleteByUserId(auth.userId());
+			spotifyTokenService.invalidateAfterCommit(auth.userId());
 			log.info("Spotify 계정 연결 해제 완료 - userId: {}", auth.userId());
 
 		} catch (Exception e) {
@@ -521,27 +526,11 @@ public class SpotifyService {
 
 	/**
 	 * Client Credentials Grant를 통해 액세스 토큰을 획득합니다.
-	 * 수정(소연)
+	 * 수정(소연) - 토큰은 SpotifyAppTokenProvider가 만료 전까지 캐시/선제 갱신
 	 */
 	private String getClientCredentialsToken() {
 		try {
-			MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-			body.add("grant_type", "client_credentials");
-
-			SpotifyTokenResponse response = accountsWebClient.post()
-				.uri("/api/token")
-				.contentType(MediaType.APPLICATION_FORM_URLENCODED)
-				.headers(h -> h.setBasicAuth(props.getClientId(), props.getClientSecret()))
-				.body(BodyInserters.fromFormData(body))
-				.retrieve()
-				.onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-					clientResponse -> clientResponse.bodyToMono(String.class)
-						.map(errorBody -> new SpotifyTokenException("Client Credentials 토큰 획득 실패: " + errorBody)))
-				.bodyToMono(SpotifyTokenResponse.class)
-				.block();
-
-			return response != null ? response.getAccessToken() : null;
-
+			return spotifyAppTokenProvider.getAccessToken();
 		} catch (Exception e) {
 			log.error("Client Credentials 토큰 획득 실패", e);
 			return null;
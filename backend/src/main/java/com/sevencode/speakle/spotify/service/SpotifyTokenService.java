@@ -1,10 +1,16 @@
 package com.sevencode.speakle.spotify.service;
 
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -22,17 +28,22 @@ import com.sevencode.speakle.spotify.exception.SpotifyRateLimitException;
 import com.sevencode.speakle.spotify.exception.SpotifyTokenException;
 import com.sevencode.speakle.spotify.repository.SpotifyAccountRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class SpotifyTokenService {
+	private static final long EXPIRY_MARGIN_SECONDS = 30;
+
 	private final SpotifyAccountRepository spotifyAccountRepository;
 	private final CryptoUtil crypto;
 	private final WebClient accountsWebClient;
 	private final SpotifyProps props;
 
+	// 복호화된 액세스 토큰 캐시(userId → token, 만료시각) + 사용자별 진행 중 조회/갱신
+	private final ConcurrentHashMap<Long, CachedAccessToken> tokenCache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
 	public SpotifyTokenService(
 		SpotifyProps props,
 		SpotifyAccountRepository spotifyAccountRepository,
@@ -45,8 +56,104 @@ public class SpotifyTokenService {
 		this.accountsWebClient = accountsWebClient;
 	}
 
-	@Transactional
+	/**
+	 * 유효한 사용자 액세스 토큰 반환
+	 * - 1) 메모리 캐시(복호화된 토큰, 만료 30초 전까지) 히트 시 DB/복호화 없이 반환
+	 * - 2) 미스 시 사용자별 single-flight로 DB 조회 + 복호화/갱신 (동시 요청은 결과 공유)
+	 * - 연동 해제/재연동 시 invalidate(userId)로 캐시 제거
+	 * - 캐시 히트 경로에서 트랜잭션을 열지 않도록 메서드 레벨 트랜잭션 제거 (저장은 리포지토리 트랜잭션 사용)
+	 */
 	public String resolveValidAccessToken(Long userId) {
+		CachedAccessToken cached = tokenCache.get(userId);
+		if (cached != null && cached.isValid(Instant.now().getEpochSecond())) {
+			return cached.token();
+		}
+
+		InFlightLoad mine = new InFlightLoad();
+		InFlightLoad running = inFlightLoads.putIfAbsent(userId, mine);
+		if (running != null) {
+			log.debug("진행 중인 토큰 조회/갱신 결과 대기 - userId: {}", userId);
+			return joinInFlight(running.result);
+		}
+
+		try {
+			String token = loadValidAccessToken(userId, mine);
+			mine.result.complete(token);
+			return token;
+		} catch (RuntimeException e) {
+			mine.result.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightLoads.remove(userId, mine);
+		}
+	}
+
+	/**
+	 * 사용자 토큰 캐시 무효화 (연동 해제/재연동 시 호출)
+	 * - 트랜잭션 안이면 커밋 후에 무효화: 커밋 전에 지우면 그 사이 다른 요청이 아직 남아 있는 이전 행을 다시 캐시함
+	 * - 롤백 시에는 행이 그대로이므로 무효화하지 않음
+	 */
+	public void invalidateAfterCommit(Long userId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(userId);
+				}
+			});
+		} else {
+			invalidate(userId);
+		}
+	}
+
+	/**
+	 * 사용자 토큰 캐시 즉시 무효화
+	 * - 이 사용자의 진행 중 조회에만 무효화 표시 → 다른 사용자의 조회 결과 캐시에는 영향 없음
+	 */
+	public void invalidate(Long userId) {
+		if (userId == null) {
+			return;
+		}
+		tokenCache.compute(userId, (id, old) -> {
+			InFlightLoad running = inFlightLoads.get(id);
+			if (running != null) {
+				running.invalidated = true;
+			}
+			return null;
+		});
+		log.debug("Spotify 사용자 토큰 캐시 무효화 - userId: {}", userId);
+	}
+
+	/**
+	 * 만료된 캐시 엔트리 정리 (메모리 상한 = 유효 토큰 보유 사용자 수)
+	 */
+	@Scheduled(fixedDelayString = "${spotify.user-token-cache.cleanup-interval-ms:600000}")
+	public void evictExpiredTokens() {
+		long now = Instant.now().getEpochSecond();
+		tokenCache.entrySet().removeIf(e -> !e.getValue().isValid(now));
+	}
+
+	private String joinInFlight(CompletableFuture<String> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new SpotifyTokenException("토큰 처리 중 시스템 오류가 발생했습니다. 다시 시도해 주세요.");
+		}
+	}
+
+	private void cacheToken(Long userId, String token, Long expiresAtEpochSec, InFlightLoad load) {
+		if (token == null || expiresAtEpochSec == null) {
+			return;
+		}
+		// 조회 도중 이 사용자가 무효화됐다면 오래된 토큰을 캐시하지 않음 (확인과 적재를 invalidate 와 같은 키 잠금 안에서)
+		tokenCache.compute(userId, (id, old) ->
+			load.invalidated ? old : new CachedAccessToken(token, expiresAtEpochSec));
+	}
+
+	private String loadValidAccessToken(Long userId, InFlightLoad load) {
 		log.debug("토큰 유효성 검사 시작 - userId: {}", userId);
 
 		try {
@@ -54,13 +161,17 @@ public class SpotifyTokenService {
 				.orElseThrow(() -> new SpotifyNotLinkedException("user"));
 
 			// 토큰이 아직 유효한지 확인 (30초 여유시간)
-			if (Instant.now().getEpochSecond() < acc.getExpiresAtEpochSec() - 30) {
+			if (Instant.now().getEpochSecond() < acc.getExpiresAtEpochSec() - EXPIRY_MARGIN_SECONDS) {
 				log.debug("기존 토큰이 유효함 - userId: {}", userId);
-				return decryptAccessToken(acc, "기존 액세스 토큰");
+				String token = decryptAccessToken(acc, "기존 액세스 토큰");
+				cacheToken(userId, token, acc.getExpiresAtEpochSec(), load);
+				return token;
 			}
 
 			log.info("토큰 만료됨, 갱신 시작 - userId: {}", userId);
-			return refreshAccessToken(acc);
+			String token = refreshAccessToken(acc);
+			cacheToken(userId, token, acc.getExpiresAtEpochSec(), load);
+			return token;
 
 		} catch (SpotifyNotLinkedException e) {
 			log.warn("Spotify 계정 미연결 - userId: {}, message: {}", userId, e.getMessage());
@@ -320,6 +431,18 @@ public class SpotifyTokenService {
 			throw new SpotifyTokenException("토큰 정보 데이터베이스 저장 중 오류가 발생했습니다.");
 		}
 	}
+
+	private record CachedAccessToken(String token, long expiresAtEpochSec) {
+		boolean isValid(long nowEpochSec) {
+			return nowEpochSec < expiresAtEpochSec - EXPIRY_MARGIN_SECONDS;
+		}
+	}
+
+	/** 사용자별 진행 중 조회/갱신 (동시 요청이 공유하는 결과 + 조회 도중 무효화 여부) */
+	private static final class InFlightLoad {
+		final CompletableFuture<String> result = new CompletableFuture<>();
+		volatile boolean invalidated;
+	}
 }
 
 
@@ -0,0 +1,51 @@
+package com.sevencode.speakle.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컴포넌트 통계 주기 기록기
+ * - StatsSource 구현 빈(캐시, 색인, 실행기 등)을
+ *   stats.log-interval-ms 마다 한 번에 INFO 로그로 남김 → 통계 확인 위치를 한 곳으로 통일
+ * - stats.log-enabled=false 면 기록하지 않음
+ */
+@Slf4j
+@Component
+public class StatsReporter {
+
+	private final List<StatsSource> sources;
+	private final boolean enabled;
+
+	public StatsReporter(List<StatsSource> sources,
+		@Value("${stats.log-enabled:true}") boolean enabled) {
+		this.sources = sources;
+		this.enabled = enabled;
+	}
+
+	@Scheduled(fixedDelayString = "${stats.log-interval-ms:300000}",
+		initialDelayString = "${stats.log-interval-ms:300000}")
+	public void report() {
+		if (!enabled) return;
+		snapshot().forEach((name, stats) -> log.info("[Stats] {} => {}", name, stats));
+	}
+
+	/** 이름 → 통계 스냅샷 (실패한 항목은 오류 메시지로 대체) */
+	public Map<String, Object> snapshot() {
+		Map<String, Object> out = new TreeMap<>();
+		for (StatsSource source : sources) {
+			try {
+				out.put(source.statsName(), source.stats());
+			} catch (Exception e) {
+				out.put(source.statsName(), "unavailable: " + e.getMessage());
+			}
+		}
+		return out;
+	}
+}
@@ -0,0 +1,14 @@
+package com.sevencode.speakle.support;
+
+/**
+ * 통계 스냅샷 제공 컴포넌트 (캐시/색인/실행기 등)
+ * - StatsReporter 가 모든 구현 빈을 모아 한 곳에서 주기적으로 로그로 남김
+ */
+public interface StatsSource {
+
+	/** 로그 구분용 이름 (예: recommend.candidate-cache) */
+	String statsName();
+
+	/** 현재 통계 스냅샷 (record 등, toString 으로 기록) */
+	Object stats();
+}
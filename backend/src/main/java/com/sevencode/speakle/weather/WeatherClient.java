@@ -55,7 +55,7 @@ public class WeatherClient {
         return getDefaultWeather();
     }
 
-    private WeatherData getDefaultWeather() {
+    public WeatherData getDefaultWeather() {
         return WeatherData.builder()
                 .condition("Clear")
                 .description("clear sky")
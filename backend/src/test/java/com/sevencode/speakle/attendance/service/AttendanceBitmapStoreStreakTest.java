@@ -0,0 +1,116 @@
+package com.sevencode.speakle.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.sevencode.speakle.attendance.repository.AttendanceRepository;
+
+/**
+ * AttendanceBitmapStore 현재 연속 출석 (Testcontainers Redis)
+ * - 요약 해시의 cur: 다음 날 기록이면 증가, 건너뛰면 1로 재시작, 같은 날 재기록은 그대로
+ * - 백필은 DB 기준 끝 연속으로 cur 보정 (순서가 뒤바뀐 기록으로 짧게 잡힌 값 포함)
+ * - cur 없는 이전 형식 해시는 DB 폴백
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AttendanceBitmapStoreStreakTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 1);
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private AttendanceRepository attendanceRepository;
+    private AttendanceBitmapStore store;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.delete(redisTemplate.keys("attendance:bitmap:*"));
+        attendanceRepository = mock(AttendanceRepository.class);
+        store = new AttendanceBitmapStore(redisTemplate, attendanceRepository);
+        ReflectionTestUtils.setField(store, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void currentStreakFollowsLiveCheckIns() {
+        backfill(DAY, DAY.plusDays(1), DAY.plusDays(2));
+        assertThat(snapshot(DAY.plusDays(2)).currentStreak()).isEqualTo(3);
+
+        store.recordAfterCommit(USER_ID, DAY.plusDays(3), 4);
+        AttendanceBitmapStore.Snapshot continued = snapshot(DAY.plusDays(3));
+        assertThat(continued.currentStreak()).isEqualTo(4);
+        assertThat(continued.maxStreak()).isEqualTo(4);
+        assertThat(continued.checkedToday()).isTrue();
+
+        store.recordAfterCommit(USER_ID, DAY.plusDays(5), 1);
+        store.recordAfterCommit(USER_ID, DAY.plusDays(5), 1);
+        AttendanceBitmapStore.Snapshot restarted = snapshot(DAY.plusDays(5));
+        assertThat(restarted.currentStreak()).isEqualTo(1);
+        assertThat(restarted.maxStreak()).isEqualTo(4);
+        assertThat(restarted.totalDays()).isEqualTo(5);
+
+        store.recordAfterCommit(USER_ID, DAY.plusDays(6), 2);
+        assertThat(snapshot(DAY.plusDays(6)).currentStreak()).isEqualTo(2);
+        assertThat(snapshot(DAY.plusDays(6)).lastDate()).isEqualTo(DAY.plusDays(6));
+    }
+
+    @Test
+    void backfillRepairsStreakAfterOutOfOrderRecords() {
+        backfill();
+        store.recordAfterCommit(USER_ID, DAY, 1);
+        store.recordAfterCommit(USER_ID, DAY.plusDays(2), 1);
+        store.recordAfterCommit(USER_ID, DAY.plusDays(1), 1);
+        // 마지막 날 앞을 채운 기록은 바로 아래 한 칸만 이어 붙임 → 실제(3)보다 짧게 잡힘
+        assertThat(snapshot(DAY.plusDays(2)).currentStreak()).isEqualTo(2);
+
+        backfill(DAY, DAY.plusDays(1), DAY.plusDays(2));
+
+        assertThat(snapshot(DAY.plusDays(2)).currentStreak()).isEqualTo(3);
+        assertThat(snapshot(DAY.plusDays(2)).maxStreak()).isEqualTo(3);
+    }
+
+    @Test
+    void statsHashWithoutCurrentStreakFallsBackToDb() {
+        backfill();
+        redisTemplate.opsForHash().put("attendance:bitmap:stats:" + USER_ID, "last", "10");
+
+        assertThat(store.snapshot(USER_ID, DAY)).isEmpty();
+    }
+
+    private void backfill(LocalDate... dates) {
+        when(attendanceRepository.findDistinctUserIds()).thenReturn(dates.length == 0 ? List.of() : List.of(USER_ID));
+        when(attendanceRepository.findDatesByUserId(USER_ID)).thenReturn(List.of(dates));
+        store.rebuild();
+    }
+
+    private AttendanceBitmapStore.Snapshot snapshot(LocalDate today) {
+        return store.snapshot(USER_ID, today).orElseThrow();
+    }
+}
@@ -0,0 +1,178 @@
+package com.sevencode.speakle.event.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.config.redis.RedisStreamsConfig;
+import com.sevencode.speakle.event.publisher.UserEventPublisher;
+import com.sevencode.speakle.playlist.service.CustomPlaylistService;
+import com.sevencode.speakle.support.FailedMessagePusher;
+
+/**
+ * PlaylistEventBatchConsumer — 실제 Redis Streams(Testcontainers) 대상
+ * - 가입 이벤트 10,000건을 쌓아 두고 배치 컨슈머로 소비: 전량 처리·PEL 0건 확인, 처리량(msg/s)은 로그로만 남김
+ * - 사용자별로 여러 이벤트를 섞어 넣고 같은 사용자의 처리 순서가 발행 순서와 같은지 확인
+ * - 죽은 컨슈머가 읽고 ACK 하지 않은 항목은 reclaim 으로 회수되어 처리됨
+ * 플레이리스트 생성은 DB insert 를 흉내 낸 1ms 지연 → 레인 간 병렬이 처리량에 반영됨
+ * (벽시계 상한은 머신 부하에 흔들려 단정하지 않음)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PlaylistEventBatchConsumerThroughputTest {
+
+	private static final Logger log = LoggerFactory.getLogger(PlaylistEventBatchConsumerThroughputTest.class);
+	private static final int REGISTRATIONS = 10_000;
+	private static final int EVENTS_PER_USER = 4;
+	private static final long CREATE_DELAY_MS = 1;
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final Map<Long, List<Integer>> createdByUser = new ConcurrentHashMap<>();
+	private final AtomicInteger created = new AtomicInteger();
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private PlaylistEventBatchConsumer batchConsumer;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.delete(UserEventPublisher.STREAM_KEY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (batchConsumer != null) {
+			batchConsumer.stop();
+		}
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void consumesTenThousandRegistrationsInUserOrder() throws InterruptedException {
+		int users = REGISTRATIONS / EVENTS_PER_USER;
+		for (int seq = 0; seq < EVENTS_PER_USER; seq++) {
+			for (long userId = 1; userId <= users; userId++) {
+				publish(userId, seq);
+			}
+		}
+		createGroup();
+		batchConsumer = newConsumer(100, 8, Duration.ofSeconds(60));
+
+		long startedAt = System.nanoTime();
+		batchConsumer.start();
+		awaitDrained(REGISTRATIONS, Duration.ofSeconds(60));
+		long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+		log.info("batch consumer: {} registrations in {} ms ({} msg/s)", REGISTRATIONS, elapsedMs,
+			REGISTRATIONS * 1000L / elapsedMs);
+
+		assertThat(created.get()).isEqualTo(REGISTRATIONS);
+		assertThat(pendingCount()).isZero();
+		assertThat(createdByUser).hasSize(users);
+		createdByUser.values().forEach(seqs -> assertThat(seqs).containsExactly(0, 1, 2, 3));
+	}
+
+	@Test
+	void reclaimsEntriesLeftPendingByADeadConsumer() throws InterruptedException {
+		for (long userId = 1; userId <= 3; userId++) {
+			publish(userId, 0);
+		}
+		createGroup();
+		// StreamOffset 가변 인자(제네릭 배열) 경고만 억제
+		@SuppressWarnings("unchecked")
+		List<MapRecord<String, String, String>> abandoned = redisTemplate.<String, String>opsForStream().read(
+			Consumer.from(RedisStreamsConfig.GROUP, "dead-consumer"),
+			StreamReadOptions.empty().count(10),
+			StreamOffset.create(UserEventPublisher.STREAM_KEY, ReadOffset.lastConsumed()));
+		assertThat(abandoned).hasSize(3);
+		assertThat(pendingCount()).isEqualTo(3);
+
+		batchConsumer = newConsumer(100, 4, Duration.ofMillis(50));
+		Thread.sleep(100);
+		batchConsumer.reclaimStalePending();
+
+		assertThat(created.get()).isEqualTo(3);
+		assertThat(pendingCount()).isZero();
+	}
+
+	private PlaylistEventBatchConsumer newConsumer(int batchSize, int workers, Duration reclaimMinIdle) {
+		CustomPlaylistService playlistService = mock(CustomPlaylistService.class);
+		when(playlistService.hasDefaultPlaylist(anyLong())).thenReturn(false);
+		when(playlistService.createDefaultPlaylist(anyLong(), anyString(), anyString())).thenAnswer(inv -> {
+			Thread.sleep(CREATE_DELAY_MS);
+			Long userId = inv.getArgument(0);
+			String name = inv.getArgument(1);
+			int seq = Integer.parseInt(name.substring(name.indexOf('#') + 1, name.indexOf('의')));
+			createdByUser.computeIfAbsent(userId, k -> new ArrayList<>()).add(seq);
+			created.incrementAndGet();
+			return null;
+		});
+		PlaylistEventConsumer eventConsumer = new PlaylistEventConsumer(objectMapper, redisTemplate, playlistService,
+			mock(FailedMessagePusher.class));
+		return new PlaylistEventBatchConsumer(eventConsumer, redisTemplate, "test-consumer", true, batchSize, workers,
+			Duration.ofMillis(200), Duration.ofHours(1), reclaimMinIdle, 5);
+	}
+
+	/** username 에 발행 순번을 실어 보냄 → 기본 플레이리스트 이름("user#순번의 기본 플레이리스트")으로 처리 순서 확인 */
+	private void publish(long userId, int seq) {
+		String json = "{\"userId\":" + userId + ",\"email\":\"u" + userId + "@example.com\",\"username\":\"user#"
+			+ seq + "\",\"registeredAt\":\"2025-09-18T02:30:00Z\",\"v\":1}";
+		redisTemplate.opsForStream().add(StreamRecords.mapBacked(Map.of("data", json))
+			.withStreamKey(UserEventPublisher.STREAM_KEY));
+	}
+
+	private void createGroup() {
+		redisTemplate.opsForStream().createGroup(UserEventPublisher.STREAM_KEY, ReadOffset.from("0"),
+			RedisStreamsConfig.GROUP);
+	}
+
+	private long pendingCount() {
+		return redisTemplate.opsForStream()
+			.pending(UserEventPublisher.STREAM_KEY, RedisStreamsConfig.GROUP)
+			.getTotalPendingMessages();
+	}
+
+	private void awaitDrained(int expected, Duration timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (created.get() < expected || pendingCount() > 0) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("not drained: created=" + created.get() + ", pending=" + pendingCount());
+			}
+			Thread.sleep(20);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.sevencode.speakle.learn.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.sevencode.speakle.learn.repository.LearnHistoryRepository;
+
+/**
+ * LearnCountStore 재집계 (Testcontainers Redis)
+ * - 집계 쿼리 이후 들어온 HINCRBY 는 교체 후에도 남음 (델타 반영)
+ * - 다른 인스턴스가 재집계 중이면 건너뜀, 끝난 뒤 임시/델타/마커 키가 남지 않음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LearnCountStoreRebuildTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private LearnHistoryRepository learnHistoryRepository;
+    private LearnCountStore store;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.delete(redisTemplate.keys("learn:count:*"));
+        learnHistoryRepository = mock(LearnHistoryRepository.class);
+        store = new LearnCountStore(redisTemplate, learnHistoryRepository, true, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void learnsRecordedDuringRebuildSurviveTheSwap() {
+        store.recordLearned("song-a");
+        when(learnHistoryRepository.countAllBySongId()).thenAnswer(inv -> {
+            List<Object[]> snapshot = rows(Map.of("song-a", 3L, "song-b", 1L));
+            // 집계 쿼리 이후 저장된 학습 (스냅샷에 없음)
+            store.recordLearned("song-a");
+            store.recordLearned("song-c");
+            return snapshot;
+        });
+
+        store.rebuild();
+
+        assertThat(store.counts(List.of("song-a", "song-b", "song-c")))
+                .hasValue(Map.of("song-a", 4, "song-b", 1, "song-c", 1));
+        assertThat(redisTemplate.keys("learn:count:*"))
+                .containsExactlyInAnyOrder("learn:count:song", "learn:count:ready");
+
+        store.recordLearned("song-b");
+        assertThat(store.counts(List.of("song-b"))).hasValue(Map.of("song-b", 2));
+    }
+
+    @Test
+    void rebuildIsSkippedWhileAnotherInstanceRebuilds() {
+        redisTemplate.opsForValue().set("learn:count:rebuild", "other-instance", Duration.ofMinutes(1));
+
+        store.rebuild();
+
+        verify(learnHistoryRepository, never()).countAllBySongId();
+        assertThat(store.counts(List.of("song-a"))).isEmpty();
+    }
+
+    private static List<Object[]> rows(Map<String, Long> counts) {
+        List<Object[]> rows = new ArrayList<>();
+        counts.forEach((songId, count) -> rows.add(new Object[] {songId, count}));
+        return rows;
+    }
+}
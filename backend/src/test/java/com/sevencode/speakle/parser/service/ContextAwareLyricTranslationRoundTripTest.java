@@ -0,0 +1,178 @@
+package com.sevencode.speakle.parser.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sevencode.speakle.parser.listener.TranslationSubscriptionTracker;
+import com.sevencode.speakle.parser.repository.LyricChunkBulkRepository;
+import com.sevencode.speakle.song.domain.LyricChunk;
+import com.sevencode.speakle.song.repository.LyricChunkRepository;
+import com.sevencode.speakle.support.CountingDataSource;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 100청크 곡 실시간 번역의 저장소 왕복 수 (Postgres / Redis Testcontainers)
+ * - DB: 창마다 펜스 검사 포함 UPDATE ... FROM (VALUES ...) 1문장 → 창 수만큼
+ * - Redis: lease 획득 + MGET + STARTED + 창마다 캐시 SETEX·PUBLISH Lua 1회 + COMPLETED + 해제
+ *   (청크마다 SET/UPDATE/PUBLISH 하던 이전 경로는 청크 수에 비례)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ContextAwareLyricTranslationRoundTripTest {
+
+	private static final int CHUNKS = 100;
+	private static final int WINDOW = 25;
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	private CountingDataSource dataSource;
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private JdbcTemplate jdbcTemplate;
+	private TranslationLease translationLease;
+	private TranslationJobScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new CountingDataSource(new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+			POSTGRES.getUsername(), POSTGRES.getPassword()));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS songs_lyrics, lyrics_translation_fence");
+		jdbcTemplate.execute("CREATE TABLE songs_lyrics (songs_lyrics_id varchar(255) PRIMARY KEY, "
+			+ "song_id varchar(255) NOT NULL, start_time_ms bigint, english text, korean text)");
+		jdbcTemplate.execute("CREATE TABLE lyrics_translation_fence (song_id varchar(255) PRIMARY KEY, "
+			+ "token bigint NOT NULL)");
+
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		translationLease = new TranslationLease(redisTemplate, 30_000, 2_000, 10_000);
+		scheduler = new TranslationJobScheduler(mock(TranslationSubscriptionTracker.class), 1, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdown();
+		translationLease.stopRenewer();
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void hundredChunkSongUsesOneStatementAndOneScriptPerWindow() throws Exception {
+		String songId = "song-" + System.nanoTime();
+		List<LyricChunk> chunks = new ArrayList<>();
+		for (int i = 0; i < CHUNKS; i++) {
+			String id = songId + "-" + i;
+			jdbcTemplate.update("INSERT INTO songs_lyrics (songs_lyrics_id, song_id, start_time_ms, english) "
+				+ "VALUES (?, ?, ?, ?)", id, songId, i * 1000L, "line " + i);
+			chunks.add(LyricChunk.builder().songsLyricsId(id).startTimeMs(i * 1000L).english("line " + i).build());
+		}
+
+		LyricChunkRepository chunkRepository = mock(LyricChunkRepository.class);
+		when(chunkRepository.findBySongSongIdOrderByStartTimeMsAsc(songId)).thenReturn(chunks);
+		BatchLyricTranslator translator = mock(BatchLyricTranslator.class);
+		when(translator.translate(anyList(), anyString(), anyString(), anyString())).thenReturn(windows());
+
+		ContextAwareLyricTranslationService service = new ContextAwareLyricTranslationService(
+			mock(LyricsParsingService.class), chunkRepository, redisTemplate, new ObjectMapper(), translator,
+			new LyricChunkBulkRepository(jdbcTemplate), translationLease, scheduler);
+		ReflectionTestUtils.setField(service, "batchEnabled", true);
+
+		dataSource.reset();
+		long redisBefore = redisRoundTrips();
+
+		assertThat(service.translateSongChunksRealtime(songId, "title", "artist", "album").isAccepted()).isTrue();
+		awaitFinished();
+
+		long redisCalls = redisRoundTrips() - redisBefore;
+		int dbStatements = dataSource.count();
+
+		Integer translated = jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM songs_lyrics WHERE song_id = ? AND korean IS NOT NULL", Integer.class, songId);
+		assertThat(translated).isEqualTo(CHUNKS);
+		assertThat(redisTemplate.opsForValue().get("lyrics:translation:" + songId + "-0")).isEqualTo("줄 0");
+
+		int windows = CHUNKS / WINDOW;
+		// 창마다 UPDATE 1문장 (측정 구간에는 조회 없음, chunk 조회는 mock)
+		assertThat(dbStatements).isEqualTo(windows);
+		// 획득 + MGET + STARTED + 창별 Lua + COMPLETED + 해제, 스크립트 첫 실행 시 NOSCRIPT → EVAL 재시도 여유 3회
+		assertThat(redisCalls).isLessThanOrEqualTo(1 + 1 + 1 + windows + 1 + 1 + 3);
+	}
+
+	private static Flux<BatchLyricTranslator.Window> windows() {
+		List<BatchLyricTranslator.Window> out = new ArrayList<>();
+		for (int from = 0; from < CHUNKS; from += WINDOW) {
+			Map<Integer, String> translations = new LinkedHashMap<>();
+			for (int i = from; i < from + WINDOW; i++) {
+				translations.put(i, "줄 " + i);
+			}
+			out.add(new BatchLyricTranslator.Window(translations));
+		}
+		return Flux.fromIterable(out);
+	}
+
+	private void awaitFinished() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (System.currentTimeMillis() < deadline) {
+			TranslationJobScheduler.Stats stats = scheduler.stats();
+			if (stats.completed() + stats.failed() > 0 && translationLease.stats().held() == 0) {
+				assertThat(stats.failed()).isZero();
+				return;
+			}
+			Thread.sleep(20);
+		}
+		throw new AssertionError("translation did not finish in time");
+	}
+
+	/** 클라이언트가 직접 보낸 명령 수 (스크립트 안에서 실행된 SET/PUBLISH/GET 등은 제외) */
+	private long redisRoundTrips() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			Properties info = connection.serverCommands().info("commandstats");
+			long total = 0;
+			for (String command : List.of("evalsha", "eval", "mget")) {
+				String line = info.getProperty("cmdstat_" + command);
+				if (line == null) {
+					continue;
+				}
+				for (String field : line.split(",")) {
+					String[] kv = field.split("=");
+					if (kv[0].equals("calls") || kv[0].equals("failed_calls") || kv[0].equals("rejected_calls")) {
+						total += Long.parseLong(kv[1]);
+					}
+				}
+			}
+			return total;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.sevencode.speakle.parser.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sevencode.speakle.parser.repository.ExpressionRepository;
+import com.sevencode.speakle.parser.repository.IdiomRepository;
+import com.sevencode.speakle.parser.repository.SentenceRepository;
+import com.sevencode.speakle.parser.repository.SongParsingRepository;
+import com.sevencode.speakle.parser.repository.WordRepository;
+import com.sevencode.speakle.parser.service.gms.cache.GmsResponseCache;
+import com.sevencode.speakle.parser.service.gms.config.GmsProperties;
+import com.sevencode.speakle.parser.service.gms.config.PromptManager;
+import com.sevencode.speakle.parser.service.gms.service.GmsClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * parseWithContext 순차/병렬 모드 — 지연을 주입한 로컬 스텁 LLM(HTTP) 대상
+ * - 순차(concatMap): 소요 시간 ≈ 청크 지연의 합
+ * - 병렬(flatMapSequential): 소요 시간 ≈ 가장 느린 청크, 병합 결과(청크 순서)는 순차와 동일
+ * - 청크별 타임아웃 초과 시 해당 청크만 빈 슬라이스
+ */
+class LyricsParsingServiceParallelTest {
+
+	private static final int CHUNKS = 6;
+	private static final long BASE_DELAY_MS = 100;
+	private static final long STEP_DELAY_MS = 60;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private HttpServer stub;
+	private ExecutorService stubThreads;
+	private LyricsPreprocessor preprocessor;
+	private LyricsParsingService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubThreads = Executors.newFixedThreadPool(16);
+		stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stub.createContext("/", this::handle);
+		stub.setExecutor(stubThreads);
+		stub.start();
+
+		String url = "http://127.0.0.1:" + stub.getAddress().getPort();
+		GmsProperties props = new GmsProperties(url, "test-key", Duration.ofSeconds(10), 8 * 1024 * 1024, null);
+		GmsResponseCache cache = new GmsResponseCache(null, false, false, "v1", 1, 1024, Duration.ofMinutes(1),
+			Duration.ofMinutes(1));
+		GmsClient gmsClient = new GmsClient(WebClient.builder().baseUrl(url).build(), objectMapper, props, cache);
+
+		preprocessor = mock(LyricsPreprocessor.class);
+		PromptManager promptManager = mock(PromptManager.class);
+		when(promptManager.lyricsPrompt()).thenReturn("parse the lyrics");
+
+		service = new LyricsParsingService(preprocessor, gmsClient, objectMapper, props, promptManager,
+			mock(LyricsPersistService.class), mock(WordRepository.class), mock(ExpressionRepository.class),
+			mock(IdiomRepository.class), mock(SentenceRepository.class), mock(SongParsingRepository.class));
+		ReflectionTestUtils.setField(service, "parallelConcurrency", CHUNKS);
+		ReflectionTestUtils.setField(service, "chunkTimeout", Duration.ofSeconds(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.stop(0);
+		stubThreads.shutdownNow();
+	}
+
+	@Test
+	void parallelModeTakesTheSlowestChunkInsteadOfTheSum() {
+		// 앞 청크일수록 느리게 → 완료 순서가 청크 순서와 반대
+		List<String> chunks = new ArrayList<>();
+		long sum = 0;
+		long max = 0;
+		for (int i = 1; i <= CHUNKS; i++) {
+			long delay = BASE_DELAY_MS + (CHUNKS - i) * STEP_DELAY_MS;
+			chunks.add("chunk-" + i + ":" + delay);
+			sum += delay;
+			max = Math.max(max, delay);
+		}
+		when(preprocessor.preprocess(any())).thenReturn(chunks);
+
+		ReflectionTestUtils.setField(service, "parallelEnabled", false);
+		long sequentialStarted = System.nanoTime();
+		ObjectNode sequential = service.parseWithContext("lyrics", null, null).block();
+		long sequentialMs = (System.nanoTime() - sequentialStarted) / 1_000_000;
+		assertThat(maxInFlight.get()).isEqualTo(1);
+
+		maxInFlight.set(0);
+		ReflectionTestUtils.setField(service, "parallelEnabled", true);
+		long parallelStarted = System.nanoTime();
+		ObjectNode parallel = service.parseWithContext("lyrics", null, null).block();
+		long parallelMs = (System.nanoTime() - parallelStarted) / 1_000_000;
+
+		assertThat(sequentialMs).isGreaterThanOrEqualTo(sum);
+		assertThat(parallelMs).isGreaterThanOrEqualTo(max).isLessThan(sum / 2);
+		assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(CHUNKS);
+		assertThat(words(parallel)).containsExactly("w1", "w2", "w3", "w4", "w5", "w6");
+		assertThat(parallel).isEqualTo(sequential);
+	}
+
+	@Test
+	void concurrencyCapLimitsInFlightCalls() {
+		List<String> chunks = new ArrayList<>();
+		for (int i = 1; i <= CHUNKS; i++) {
+			chunks.add("chunk-" + i + ":" + BASE_DELAY_MS);
+		}
+		when(preprocessor.preprocess(any())).thenReturn(chunks);
+		ReflectionTestUtils.setField(service, "parallelEnabled", true);
+		ReflectionTestUtils.setField(service, "parallelConcurrency", 2);
+
+		ObjectNode result = service.parseWithContext("lyrics", null, null).block();
+
+		assertThat(maxInFlight.get()).isEqualTo(2);
+		assertThat(words(result)).hasSize(CHUNKS);
+	}
+
+	@Test
+	void timedOutChunkFallsBackToEmptySliceAndKeepsOthers() {
+		when(preprocessor.preprocess(any())).thenReturn(List.of("chunk-1:50", "chunk-2:3000", "chunk-3:50"));
+		ReflectionTestUtils.setField(service, "parallelEnabled", true);
+		ReflectionTestUtils.setField(service, "chunkTimeout", Duration.ofMillis(500));
+
+		long started = System.nanoTime();
+		ObjectNode result = service.parseWithContext("lyrics", null, null).block();
+		long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+		assertThat(words(result)).containsExactly("w1", "w3");
+		assertThat(elapsedMs).isLessThan(3000);
+	}
+
+	/** 스텁 LLM: user 메시지 "chunk-<n>:<지연ms>" → 지연 후 단어 w<n> 하나를 담은 chat completion 응답 */
+	private void handle(HttpExchange exchange) throws IOException {
+		int now = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(now, Math::max);
+		try {
+			JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+			String[] chunk = request.path("messages").get(1).path("content").asText().split(":");
+			Thread.sleep(Long.parseLong(chunk[1]));
+
+			String content = objectMapper.writeValueAsString(objectMapper.createObjectNode()
+				.set("words", objectMapper.createArrayNode().add(objectMapper.createObjectNode()
+					.put("word", "w" + chunk[0].substring("chunk-".length()))
+					.put("meaning", "meaning")
+					.put("level", "A1"))));
+			ObjectNode response = objectMapper.createObjectNode();
+			response.putArray("choices").addObject().putObject("message").put("content", content);
+			byte[] body = objectMapper.writeValueAsBytes(response);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			exchange.sendResponseHeaders(500, -1);
+		} finally {
+			inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private static List<String> words(ObjectNode result) {
+		List<String> out = new ArrayList<>();
+		result.path("words").forEach(w -> out.add(w.path("word").asText()));
+		return out;
+	}
+}
@@ -0,0 +1,136 @@
+package com.sevencode.speakle.parser.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sevencode.speakle.parser.repository.ExpressionRepository;
+import com.sevencode.speakle.parser.repository.IdiomRepository;
+import com.sevencode.speakle.parser.repository.LyricsBulkRepository;
+import com.sevencode.speakle.parser.repository.LyricsParseStatusRepository;
+import com.sevencode.speakle.parser.repository.SentenceRepository;
+import com.sevencode.speakle.parser.repository.WordRepository;
+import com.sevencode.speakle.support.CountingDataSource;
+
+/**
+ * saveAllWithContext 일괄 저장 경로의 SQL 문장 수 (Testcontainers Postgres)
+ * - 기본 경로: 카테고리별 다중 행 INSERT ... ON CONFLICT DO NOTHING 1문장 → 곡 1개당 4문장
+ *   (이전 경로: 항목마다 존재 확인 SELECT + INSERT → 항목 수 × 2)
+ * - 폴백 경로(함수형 유니크 인덱스 생성 실패): 카테고리별 기존 키 SELECT 1 + JDBC batch 1 → 8문장
+ * - 배치 내 대소문자 중복 / 기존 행은 건너뜀
+ * 조립(JPA 조회)·상태 행 기록은 mock 이라 측정 대상이 아님
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LyricsPersistServiceBulkSaveTest {
+
+	private static final String SONG_ID = "song-1";
+	private static final String SITUATION = "cafe";
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private CountingDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private LyricsBulkRepository bulkRepository;
+	private LyricsPersistService persistService;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new CountingDataSource(new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+			POSTGRES.getUsername(), POSTGRES.getPassword()));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS words, expressions, idioms, sentences");
+		String common = "song_id varchar(255) NOT NULL, situation varchar(255), location varchar(255), "
+			+ "created_at timestamptz, level varchar(16), tags text, ";
+		jdbcTemplate.execute("CREATE TABLE words (words_id bigserial PRIMARY KEY, " + common
+			+ "word varchar(255) NOT NULL, phonetic varchar(255), meaning text NOT NULL, pos varchar(32), "
+			+ "examples text)");
+		jdbcTemplate.execute("CREATE TABLE expressions (expressions_id bigserial PRIMARY KEY, " + common
+			+ "expression varchar(255) NOT NULL, meaning text NOT NULL, context text, examples text)");
+		jdbcTemplate.execute("CREATE TABLE idioms (idioms_id bigserial PRIMARY KEY, " + common
+			+ "phrase varchar(255) NOT NULL, meaning text NOT NULL, examples text)");
+		jdbcTemplate.execute("CREATE TABLE sentences (sentences_id bigserial PRIMARY KEY, " + common
+			+ "sentence text NOT NULL, translation text NOT NULL)");
+
+		bulkRepository = new LyricsBulkRepository(jdbcTemplate);
+		persistService = new LyricsPersistService(mock(WordRepository.class), mock(ExpressionRepository.class),
+			mock(IdiomRepository.class), mock(SentenceRepository.class), bulkRepository,
+			mock(LyricsParseStatusRepository.class), objectMapper);
+	}
+
+	@Test
+	void onConflictPathWritesEachCategoryWithOneStatement() {
+		bulkRepository.ensureConflictIndexes();
+		ObjectNode parsed = parsed(40, 20, 10, 15);
+
+		dataSource.reset();
+		persistService.saveAllWithContext(SONG_ID, parsed, SITUATION, null);
+
+		assertThat(dataSource.count()).isEqualTo(4);
+		assertCounts(40, 20, 10, 15);
+
+		// 같은 결과 재저장: 여전히 4문장, 행은 늘지 않음
+		dataSource.reset();
+		persistService.saveAllWithContext(SONG_ID, parsed(45, 20, 10, 15), SITUATION, null);
+
+		assertThat(dataSource.count()).isEqualTo(4);
+		assertCounts(45, 20, 10, 15);
+	}
+
+	@Test
+	void fallbackPathUsesOneLookupAndOneBatchPerCategory() {
+		// 기존 대소문자 중복 행 → 함수형 유니크 인덱스 생성 실패 → 폴백 경로
+		jdbcTemplate.update("INSERT INTO words (song_id, situation, word, meaning) VALUES (?, ?, ?, ?)",
+			SONG_ID, SITUATION, "word0", "m");
+		jdbcTemplate.update("INSERT INTO words (song_id, situation, word, meaning) VALUES (?, ?, ?, ?)",
+			SONG_ID, SITUATION, "WORD0", "m");
+		bulkRepository.ensureConflictIndexes();
+
+		dataSource.reset();
+		persistService.saveAllWithContext(SONG_ID, parsed(40, 20, 10, 15), SITUATION, null);
+
+		assertThat(dataSource.count()).isEqualTo(8);
+		// word0 은 이미 있으므로 39개만 추가 (기존 2행 포함 41)
+		assertCounts(41, 20, 10, 15);
+	}
+
+	private void assertCounts(int words, int expressions, int idioms, int sentences) {
+		assertThat(count("words")).isEqualTo(words);
+		assertThat(count("expressions")).isEqualTo(expressions);
+		assertThat(count("idioms")).isEqualTo(idioms);
+		assertThat(count("sentences")).isEqualTo(sentences);
+	}
+
+	private Integer count(String table) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE song_id = ?", Integer.class,
+			SONG_ID);
+	}
+
+	/** 카테고리별 n개 + 대소문자만 다른 배치 내 중복 1개씩 */
+	private ObjectNode parsed(int words, int expressions, int idioms, int sentences) {
+		ObjectNode root = objectMapper.createObjectNode();
+		fill(root.putArray("words"), words, "word", "meaning");
+		fill(root.putArray("expressions"), expressions, "expression", "meaning");
+		fill(root.putArray("idioms"), idioms, "phrase", "meaning");
+		fill(root.putArray("sentences"), sentences, "sentence", "translation");
+		return root;
+	}
+
+	private static void fill(ArrayNode arr, int n, String keyField, String requiredField) {
+		for (int i = 0; i < n; i++) {
+			arr.addObject().put(keyField, keyField + i).put(requiredField, "value " + i).put("level", "B1");
+		}
+		arr.addObject().put(keyField, (keyField + 0).toUpperCase()).put(requiredField, "duplicate");
+	}
+}
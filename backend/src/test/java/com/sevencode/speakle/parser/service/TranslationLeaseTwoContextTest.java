@@ -0,0 +1,105 @@
+package com.sevencode.speakle.parser.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * TranslationLease 인스턴스 간 동작 — 같은 Redis 를 보는 애플리케이션 컨텍스트 2개로 검증
+ * - 한 곡의 lease 는 한 컨텍스트만 보유, 해제 후 다른 컨텍스트가 더 큰 토큰으로 인수
+ * - 전용 갱신 스레드가 ttl 을 넘겨도 lease 를 유지
+ * - 만료 후 인수된 이전 보유자의 쓰기(캐시 SETEX + PUBLISH)는 Redis 가 거부
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TranslationLeaseTwoContextTest {
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	private static ApplicationContextRunner instance(long ttlMs, long renewIntervalMs) {
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(RedisAutoConfiguration.class))
+			.withUserConfiguration(TranslationLease.class)
+			.withPropertyValues(
+				"spring.data.redis.host=" + REDIS.getHost(),
+				"spring.data.redis.port=" + REDIS.getMappedPort(6379),
+				"lyrics.translation.lease.ttl-ms=" + ttlMs,
+				"lyrics.translation.lease.safety-ms=100",
+				"lyrics.translation.lease.renew-interval-ms=" + renewIntervalMs);
+	}
+
+	@Test
+	void onlyOneContextHoldsTheLease() {
+		String songId = UUID.randomUUID().toString();
+		instance(30_000, 10_000).run(a -> instance(30_000, 10_000).run(b -> {
+			TranslationLease leaseA = a.getBean(TranslationLease.class);
+			TranslationLease leaseB = b.getBean(TranslationLease.class);
+
+			Optional<TranslationLease.Lease> first = leaseA.tryAcquire(songId);
+			assertThat(first).isPresent();
+			assertThat(leaseB.tryAcquire(songId)).isEmpty();
+			assertThat(leaseB.stats().contended()).isEqualTo(1);
+
+			first.get().close();
+			Optional<TranslationLease.Lease> second = leaseB.tryAcquire(songId);
+			assertThat(second).isPresent();
+			assertThat(second.get().token()).isGreaterThan(first.get().token());
+			second.get().close();
+		}));
+	}
+
+	@Test
+	void renewalKeepsTheLeasePastItsTtl() {
+		String songId = UUID.randomUUID().toString();
+		instance(600, 100).run(a -> instance(600, 100).run(b -> {
+			TranslationLease.Lease held = a.getBean(TranslationLease.class).tryAcquire(songId).orElseThrow();
+
+			Thread.sleep(1_500);
+
+			assertThat(held.isValid()).isTrue();
+			assertThat(b.getBean(TranslationLease.class).tryAcquire(songId)).isEmpty();
+			held.close();
+		}));
+	}
+
+	@Test
+	void staleHolderWritesAreRejectedAfterTakeover() {
+		String songId = UUID.randomUUID().toString();
+		String cacheKey = "lyrics:translation:" + songId + "-0";
+		// A 는 갱신하지 않아(renew-interval > ttl) 만료, B 가 인수
+		instance(500, 60_000).run(a -> instance(30_000, 10_000).run(b -> {
+			TranslationLease leaseA = a.getBean(TranslationLease.class);
+			TranslationLease leaseB = b.getBean(TranslationLease.class);
+			StringRedisTemplate redis = b.getBean(StringRedisTemplate.class);
+
+			TranslationLease.Lease stale = leaseA.tryAcquire(songId).orElseThrow();
+			Thread.sleep(800);
+			TranslationLease.Lease current = leaseB.tryAcquire(songId).orElseThrow();
+			assertThat(current.token()).isGreaterThan(stale.token());
+
+			assertThat(leaseB.writeIfHeld(current, Map.of(cacheKey, "new"), Duration.ofMinutes(1),
+				"translation:updates", "{}")).isTrue();
+			assertThat(leaseA.writeIfHeld(stale, Map.of(cacheKey, "stale"), Duration.ofMinutes(1),
+				"translation:updates", "{}")).isFalse();
+
+			assertThat(redis.opsForValue().get(cacheKey)).isEqualTo("new");
+			assertThat(stale.isValid()).isFalse();
+			assertThat(leaseA.stats().fencedWrites()).isEqualTo(1);
+			current.close();
+		}));
+	}
+}
@@ -0,0 +1,231 @@
+package com.sevencode.speakle.recommend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sevencode.speakle.recommend.client.FastApiClient;
+import com.sevencode.speakle.recommend.dto.request.QueryRequest;
+import com.sevencode.speakle.recommend.dto.response.QueryResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * RecommendCandidateCache — 로컬 스텁 HTTP 서버(FastAPI 하이브리드 검색 대역) 대상
+ * - 같은 질의의 페이지 2..N 은 FastAPI 재호출 없이 캐시된 후보에서 제공 (공백/대소문자/순서 차이 무시)
+ * - 동일 질의 동시 요청은 FastAPI 호출 1회로 합쳐짐(single-flight)
+ * - TTL 경과 후에는 다시 호출, 실패 응답은 캐시하지 않음
+ * - FastAPI 실패로 BM25 가 대신 응답한 결과는 FASTAPI 키로 캐시하지 않음
+ * - 통계: 히트율과 제공된 히트의 경과 시간(staleness)
+ */
+class RecommendCandidateCacheStubHttpTest {
+
+    private static final int CALLERS = 16;
+
+    private final AtomicInteger searches = new AtomicInteger();
+    private volatile long searchDelayMs = 0;
+    private volatile int failNext = 0;
+    private HttpServer fastApi;
+    private ExecutorService serverThreads;
+    private ExecutorService callers;
+    private FastApiRecommendationBackend backend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverThreads = Executors.newFixedThreadPool(8);
+        fastApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        fastApi.createContext("/recommend", this::search);
+        fastApi.setExecutor(serverThreads);
+        fastApi.start();
+
+        FastApiClient client = new FastApiClient(new RestTemplate());
+        ReflectionTestUtils.setField(client, "fastApiUrl",
+                "http://127.0.0.1:" + fastApi.getAddress().getPort() + "/recommend");
+        backend = new FastApiRecommendationBackend(client);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        fastApi.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void laterPagesAreServedFromCachedCandidates() throws InterruptedException {
+        RecommendCandidateCache cache = new RecommendCandidateCache(true, Duration.ofMinutes(2), 16);
+
+        QueryResponse first = fetch(cache, "카페", "서울", List.of("coffee", "rain"), List.of("on my way"));
+        Thread.sleep(50);
+        for (int page = 2; page <= 5; page++) {
+            QueryResponse paged = fetch(cache, "  카페 ", "서울", List.of("Rain", "coffee "), List.of("On  My Way"));
+            assertThat(paged).isSameAs(first);
+        }
+
+        assertThat(searches.get()).isEqualTo(1);
+        assertThat(first.getResults()).hasSize(3);
+        RecommendCandidateCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(4);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.8);
+        assertThat(stats.maxServedAgeMillis()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void concurrentIdenticalQueriesShareOneSearch() throws Exception {
+        RecommendCandidateCache cache = new RecommendCandidateCache(true, Duration.ofMinutes(2), 16);
+        searchDelayMs = 300;
+
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<QueryResponse>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> {
+                ready.countDown();
+                go.await();
+                return fetch(cache, "카페", "서울", List.of("coffee"), List.of());
+            }));
+        }
+        ready.await();
+        go.countDown();
+
+        QueryResponse shared = results.get(0).get();
+        for (Future<QueryResponse> result : results) {
+            assertThat(result.get()).isSameAs(shared);
+        }
+        assertThat(searches.get()).isEqualTo(1);
+        RecommendCandidateCache.Stats stats = cache.stats();
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hits() + stats.coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void expiredEntriesAreSearchedAgain() throws InterruptedException {
+        RecommendCandidateCache cache = new RecommendCandidateCache(true, Duration.ofMillis(100), 16);
+
+        fetch(cache, "카페", "서울", List.of("coffee"), List.of());
+        Thread.sleep(150);
+        fetch(cache, "카페", "서울", List.of("coffee"), List.of());
+
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void failedSearchesAreNotCached() {
+        RecommendCandidateCache cache = new RecommendCandidateCache(true, Duration.ofMinutes(2), 16);
+        failNext = 1;
+
+        assertThatThrownBy(() -> fetch(cache, "카페", "서울", List.of("coffee"), List.of()))
+                .isInstanceOf(RuntimeException.class);
+        QueryResponse retried = fetch(cache, "카페", "서울", List.of("coffee"), List.of());
+
+        assertThat(retried.getResults()).hasSize(3);
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void fallbackResultsAreNotCachedUnderTheRequestedBackend() {
+        RecommendCandidateCache cache = new RecommendCandidateCache(true, Duration.ofMinutes(2), 16);
+        AtomicInteger localSearches = new AtomicInteger();
+        RecommendationBackend bm25 = new RecommendationBackend() {
+            @Override
+            public Type type() {
+                return Type.BM25;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public QueryResponse search(QueryRequest query) {
+                localSearches.incrementAndGet();
+                return new QueryResponse(List.of());
+            }
+        };
+        RecommendationBackendSelector selector = new RecommendationBackendSelector(List.of(backend, bm25),
+                RecommendationBackend.Type.FASTAPI, true);
+        failNext = 1;
+
+        QueryResponse degraded = fetch(cache, selector, "카페", "서울", List.of("coffee"));
+        QueryResponse recovered = fetch(cache, selector, "카페", "서울", List.of("coffee"));
+        QueryResponse paged = fetch(cache, selector, "카페", "서울", List.of("coffee"));
+
+        assertThat(degraded.getResults()).isEmpty();
+        assertThat(recovered.getResults()).hasSize(3);
+        assertThat(paged).isSameAs(recovered);
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(localSearches.get()).isEqualTo(1);
+        assertThat(selector.stats().fallbacks()).isEqualTo(1);
+    }
+
+    /* RecommendService.fetchCandidates 와 같은 경로: 정규화 키 → 캐시 → 백엔드 선택 (대체 응답은 캐시 안 함) */
+    private QueryResponse fetch(RecommendCandidateCache cache, RecommendationBackendSelector selector,
+                                String situation, String location, List<String> words) {
+        QueryRequest query = new QueryRequest(words, List.of(), 100);
+        RecommendationBackend.Type requested = selector.resolve(null);
+        return cache.getOrLoadIfCacheable(
+                RecommendCandidateCache.Key.of(situation, location, query, requested),
+                () -> {
+                    RecommendationBackendSelector.Result result = selector.search(requested, query);
+                    return new RecommendCandidateCache.Loaded(result.response(), result.answeredBy() == requested);
+                });
+    }
+
+    /* 정규화 키 → 캐시 → FastAPI 백엔드 */
+    private QueryResponse fetch(RecommendCandidateCache cache, String situation, String location,
+                                List<String> words, List<String> phrases) {
+        QueryRequest query = new QueryRequest(words, phrases, 100);
+        return cache.getOrLoad(
+                RecommendCandidateCache.Key.of(situation, location, query, RecommendationBackend.Type.FASTAPI),
+                () -> backend.search(query));
+    }
+
+    private void search(HttpExchange exchange) throws IOException {
+        searches.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(searchDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failNext > 0) {
+            failNext--;
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = ("{\"results\":["
+                + "{\"song_id\":\"s1\",\"chunk_idx\":0,\"words\":\"coffee\",\"score\":0.9,\"source\":\"hybrid\"},"
+                + "{\"song_id\":\"s2\",\"chunk_idx\":3,\"words\":\"rain\",\"score\":0.7,\"source\":\"hybrid\"},"
+                + "{\"song_id\":\"s3\",\"chunk_idx\":1,\"words\":\"coffee\",\"score\":0.5,\"source\":\"hybrid\"}"
+                + "]}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sevencode.speakle.recommend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.sevencode.speakle.recommend.repository.RecommendationSentenceBulkRepository;
+import com.sevencode.speakle.recommend.repository.RecommendationSentenceRepository;
+import com.sevencode.speakle.support.CountingDataSource;
+
+/**
+ * saveRecommendationReasons 일괄 저장 경로의 SQL 문장 수 (Testcontainers Postgres, 추천 1페이지 = 50곡)
+ * - 기본 경로: 다중 행 INSERT ... ON CONFLICT (user_id, song_id) DO UPDATE 1문장
+ *   (이전 경로: 곡마다 조회 + 삭제 + 저장 → 50곡 × 3 = 150문장)
+ * - 폴백 경로(유니크 인덱스 생성 실패): 대상 곡 일괄 DELETE 1 + JDBC batch INSERT 1 → 2문장
+ * - 재저장 시 기존 곡의 추천 이유는 교체, 곡당 행은 1개 유지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RecommendationSentenceServiceBulkSaveTest {
+
+    private static final long USER_ID = 7L;
+    private static final int PAGE_SIZE = 50;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private CountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RecommendationSentenceBulkRepository bulkRepository;
+    private RecommendationSentenceService sentenceService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new CountingDataSource(new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recommendation_sentence");
+        jdbcTemplate.execute("CREATE TABLE recommendation_sentence (recommendation_sentence_id bigserial PRIMARY KEY, "
+                + "user_id bigint NOT NULL, song_id varchar(255) NOT NULL, reason_sentence text NOT NULL, "
+                + "created_at timestamp)");
+
+        bulkRepository = new RecommendationSentenceBulkRepository(jdbcTemplate);
+        sentenceService = new RecommendationSentenceService(mock(RecommendationSentenceRepository.class),
+                bulkRepository);
+    }
+
+    @Test
+    void fiftySongPageIsWrittenWithOneStatement() {
+        bulkRepository.ensureConflictIndex();
+
+        dataSource.reset();
+        sentenceService.saveRecommendationReasons(USER_ID, reasons(0, PAGE_SIZE, "first"));
+
+        assertThat(dataSource.count()).isEqualTo(1);
+        assertThat(rows()).isEqualTo(PAGE_SIZE);
+
+        // 다음 요청: 절반은 기존 곡(이유 교체), 절반은 새 곡 → 여전히 1문장
+        dataSource.reset();
+        sentenceService.saveRecommendationReasons(USER_ID, reasons(PAGE_SIZE / 2, PAGE_SIZE, "second"));
+
+        assertThat(dataSource.count()).isEqualTo(1);
+        assertThat(rows()).isEqualTo(PAGE_SIZE + PAGE_SIZE / 2);
+        assertThat(reasonOf("song-0")).isEqualTo("first 0");
+        assertThat(reasonOf("song-" + PAGE_SIZE)).isEqualTo("second " + PAGE_SIZE);
+        assertThat(reasonOf("song-" + (PAGE_SIZE - 1))).isEqualTo("second " + (PAGE_SIZE - 1));
+    }
+
+    @Test
+    void fallbackPathUsesOneDeleteAndOneBatch() {
+        // 기존 중복 행 → 유니크 인덱스 생성 실패 → 폴백 경로
+        jdbcTemplate.update("INSERT INTO recommendation_sentence (user_id, song_id, reason_sentence) VALUES (?, ?, ?)",
+                USER_ID, "song-0", "old");
+        jdbcTemplate.update("INSERT INTO recommendation_sentence (user_id, song_id, reason_sentence) VALUES (?, ?, ?)",
+                USER_ID, "song-0", "old");
+        bulkRepository.ensureConflictIndex();
+
+        dataSource.reset();
+        sentenceService.saveRecommendationReasons(USER_ID, reasons(0, PAGE_SIZE, "first"));
+
+        assertThat(dataSource.count()).isEqualTo(2);
+        assertThat(rows()).isEqualTo(PAGE_SIZE);
+        assertThat(reasonOf("song-0")).isEqualTo("first 0");
+    }
+
+    private static Map<String, String> reasons(int from, int count, String label) {
+        Map<String, String> reasons = new LinkedHashMap<>();
+        for (int i = from; i < from + count; i++) {
+            reasons.put("song-" + i, label + " " + i);
+        }
+        return reasons;
+    }
+
+    private Integer rows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM recommendation_sentence WHERE user_id = ?",
+                Integer.class, USER_ID);
+    }
+
+    private String reasonOf(String songId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reason_sentence FROM recommendation_sentence WHERE user_id = ? AND song_id = ?",
+                String.class, USER_ID, songId);
+    }
+}
@@ -0,0 +1,170 @@
+package com.sevencode.speakle.reward.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 동일 사용자 동시 적립 — 원자적 경로(PointsAccrualRepository) vs 비관적 락 경로 (Testcontainers Postgres)
+ * - 두 경로 모두 updateReward 처럼 트랜잭션 1개 안에서 실행, 합계/이력 수가 정확해야 함
+ * - 락 경로는 JPA 경로가 보내는 문장 순서를 그대로 재현: 존재 확인 → SELECT ... FOR UPDATE → UPDATE → 이력 INSERT
+ * - 행 잠금은 두 경로 모두 커밋까지 유지되므로, 차이는 잠금을 쥔 채 오가는 왕복 수
+ *   처리량은 로그로만 남김 (실행 순서/예열/머신 부하에 흔들리는 벽시계 비교는 단정하지 않음)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PointsAccrualRepositoryConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointsAccrualRepositoryConcurrencyTest.class);
+    private static final int THREADS = 16;
+    private static final int ACCRUALS_PER_THREAD = 50;
+    private static final int TOTAL = THREADS * ACCRUALS_PER_THREAD;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate tx;
+    private PointsAccrualRepository repository;
+    private ExecutorService workers;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        config.setMaximumPoolSize(THREADS);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new PointsAccrualRepository(jdbcTemplate);
+        workers = Executors.newFixedThreadPool(THREADS);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS points_accounts, points_ledger");
+        jdbcTemplate.execute("CREATE TABLE points_accounts (user_id bigint PRIMARY KEY, balance integer NOT NULL, "
+            + "level varchar(255) NOT NULL, updated_at timestamp)");
+        jdbcTemplate.execute("CREATE TABLE points_ledger (points_ledger_id bigserial PRIMARY KEY, "
+            + "user_id bigint NOT NULL, occurred_at timestamp NOT NULL, source varchar(255) NOT NULL, "
+            + "delta integer NOT NULL, ref_type varchar(255), ref_id bigint, meta jsonb)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        dataSource.close();
+    }
+
+    @Test
+    void atomicAndLockingPathsKeepExactTotalsUnderContention() throws Exception {
+        jdbcTemplate.update("INSERT INTO points_accounts (user_id, balance, level) VALUES (1, 0, 'BRONZE')");
+        jdbcTemplate.update("INSERT INTO points_accounts (user_id, balance, level) VALUES (2, 0, 'BRONZE')");
+
+        long lockingMs = run(1L, this::accrueWithLock);
+        long atomicMs = run(2L, this::accrueAtomically);
+
+        assertTotals(1L);
+        assertTotals(2L);
+        log.info("points accrual x{} ({} threads, same user): locking={} ms ({}/s), atomic={} ms ({}/s)",
+            TOTAL, THREADS, lockingMs, TOTAL * 1000L / lockingMs, atomicMs, TOTAL * 1000L / atomicMs);
+    }
+
+    @Test
+    void firstTimeAccountIsCreatedOnceUnderConcurrentAccruals() throws Exception {
+        run(4L, userId -> tx.executeWithoutResult(s -> {
+            if (accrue(userId).isEmpty()) {
+                repository.insertAccountIfAbsent(userId);
+                assertThat(accrue(userId)).isPresent();
+            }
+        }));
+
+        assertTotals(4L);
+    }
+
+    @Test
+    void accrualThatWouldGoNegativeIsRejected() {
+        jdbcTemplate.update("INSERT INTO points_accounts (user_id, balance, level) VALUES (5, 10, 'BRONZE')");
+
+        assertThat(repository.accrue(5L, -11, "BLANK", "BLANK_RESULT", 1L, "BLANK", "BLANK_RESULT")).isEmpty();
+        PointsAccrualRepository.AccrualResult result =
+            repository.accrue(5L, -10, "BLANK", "BLANK_RESULT", 1L, "BLANK", "BLANK_RESULT").orElseThrow();
+
+        assertThat(result.balance()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM points_ledger WHERE user_id = 5",
+            Integer.class)).isEqualTo(1);
+    }
+
+    private void accrueAtomically(Long userId) {
+        tx.executeWithoutResult(s -> assertThat(accrue(userId)).isPresent());
+    }
+
+    private Optional<PointsAccrualRepository.AccrualResult> accrue(Long userId) {
+        return repository.accrue(userId, 1, "ATTENDANCE", "ATTENDANCE_DAYS", 1L, "ATTENDANCE", "ATTENDANCE_DAYS");
+    }
+
+    /** RewardServiceImpl 락 경로의 문장 순서 재현 */
+    private void accrueWithLock(Long userId) {
+        tx.executeWithoutResult(s -> {
+            jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM points_accounts WHERE user_id = ?)",
+                Boolean.class, userId);
+            Integer balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM points_accounts WHERE user_id = ? FOR UPDATE", Integer.class, userId);
+            int newBalance = balance + 1;
+            jdbcTemplate.update("UPDATE points_accounts SET balance = ?, level = ?, updated_at = LOCALTIMESTAMP "
+                + "WHERE user_id = ?", newBalance, newBalance >= 200 ? "PLATINUM" : "BRONZE", userId);
+            jdbcTemplate.update("INSERT INTO points_ledger (user_id, occurred_at, source, delta, ref_type, ref_id, "
+                + "meta) VALUES (?, LOCALTIMESTAMP, 'ATTENDANCE', 1, 'ATTENDANCE_DAYS', 1, "
+                + "CAST('{}' AS jsonb))", userId);
+        });
+    }
+
+    /** THREADS 개 스레드가 동시에 ACCRUALS_PER_THREAD 회씩 적립, 소요 시간(ms) */
+    private long run(Long userId, Consumer<Long> accrual) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(workers.submit(() -> {
+                start.await();
+                for (int i = 0; i < ACCRUALS_PER_THREAD; i++) {
+                    accrual.accept(userId);
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        return Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void assertTotals(Long userId) {
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM points_accounts WHERE user_id = ?",
+            Integer.class, userId)).isEqualTo(TOTAL);
+        assertThat(jdbcTemplate.queryForObject("SELECT level FROM points_accounts WHERE user_id = ?",
+            String.class, userId)).isEqualTo("PLATINUM");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM points_ledger WHERE user_id = ?",
+            Integer.class, userId)).isEqualTo(TOTAL);
+    }
+}
@@ -0,0 +1,157 @@
+package com.sevencode.speakle.spotify.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sevencode.speakle.spotify.config.SpotifyProps;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * SpotifyAppTokenProvider — 로컬 가짜 토큰 엔드포인트(/api/token) 대상
+ * - 동시 호출이 몰려도 토큰 수명당 교환은 정확히 1회 (single-flight + 캐시)
+ * - 만료(expires_in - safety-margin) 후 첫 동시 호출들도 교환 1회로 합쳐짐
+ * - 선제 갱신은 백그라운드에서 1회 교환, 이후 호출은 교환 없이 새 토큰 사용
+ */
+class SpotifyAppTokenProviderTest {
+
+	private static final int CALLERS = 32;
+
+	private final AtomicInteger exchanges = new AtomicInteger();
+	private volatile long expiresInSeconds = 3600;
+	private volatile long endpointDelayMs = 200;
+	private HttpServer endpoint;
+	private ExecutorService endpointThreads;
+	private ExecutorService callers;
+	private WebClient accountsWebClient;
+	private SpotifyProps props;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		endpointThreads = Executors.newFixedThreadPool(8);
+		endpoint = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		endpoint.createContext("/api/token", this::issueToken);
+		endpoint.setExecutor(endpointThreads);
+		endpoint.start();
+
+		accountsWebClient = WebClient.builder()
+			.baseUrl("http://127.0.0.1:" + endpoint.getAddress().getPort())
+			.build();
+		props = new SpotifyProps();
+		props.setClientId("client");
+		props.setClientSecret("secret");
+		callers = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		endpoint.stop(0);
+		endpointThreads.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneExchangePerTokenLifetime() throws Exception {
+		SpotifyAppTokenProvider provider = provider(Duration.ofSeconds(60), Duration.ofMinutes(5));
+
+		Set<String> tokens = callConcurrently(provider);
+		for (int i = 0; i < 1_000; i++) {
+			tokens.add(provider.getAccessToken());
+		}
+
+		assertThat(tokens).containsExactly("token-1");
+		assertThat(exchanges.get()).isEqualTo(1);
+		assertThat(provider.getExchangeCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredTokenIsRefreshedOnceUnderConcurrentLoad() throws Exception {
+		// 수명 2초 - 안전 여유 1초 → 1초간 캐시
+		expiresInSeconds = 2;
+		SpotifyAppTokenProvider provider = provider(Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+		assertThat(callConcurrently(provider)).containsExactly("token-1");
+		Thread.sleep(1_200);
+		assertThat(callConcurrently(provider)).containsExactly("token-2");
+
+		assertThat(exchanges.get()).isEqualTo(2);
+	}
+
+	@Test
+	void proactiveRefreshRenewsBeforeCallersSeeExpiry() throws Exception {
+		// 수명 3초, 안전 여유 1초, 선제 갱신 구간 2.5초 → 0.5초 후부터 선제 갱신 대상
+		expiresInSeconds = 3;
+		endpointDelayMs = 0;
+		SpotifyAppTokenProvider provider = provider(Duration.ofSeconds(1), Duration.ofMillis(2_500));
+
+		assertThat(provider.getAccessToken()).isEqualTo("token-1");
+		provider.refreshProactively(); // 아직 구간 밖 → 교환 없음
+		assertThat(exchanges.get()).isEqualTo(1);
+
+		Thread.sleep(700);
+		provider.refreshProactively();
+		assertThat(exchanges.get()).isEqualTo(2);
+
+		assertThat(callConcurrently(provider)).containsExactly("token-2");
+		assertThat(exchanges.get()).isEqualTo(2);
+	}
+
+	private SpotifyAppTokenProvider provider(Duration safetyMargin, Duration refreshAhead) {
+		return new SpotifyAppTokenProvider(props, accountsWebClient, safetyMargin, refreshAhead);
+	}
+
+	/** CALLERS 개 스레드가 동시에 getAccessToken → 받은 토큰 집합 */
+	private Set<String> callConcurrently(SpotifyAppTokenProvider provider) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(callers.submit(() -> {
+				start.await();
+				return provider.getAccessToken();
+			}));
+		}
+		start.countDown();
+		Set<String> tokens = new HashSet<>();
+		for (Future<String> result : results) {
+			tokens.add(result.get());
+		}
+		return tokens;
+	}
+
+	private void issueToken(HttpExchange exchange) throws IOException {
+		try {
+			int n = exchanges.incrementAndGet();
+			Thread.sleep(endpointDelayMs);
+			byte[] body = ("{\"access_token\":\"token-" + n + "\",\"token_type\":\"Bearer\",\"expires_in\":"
+				+ expiresInSeconds + "}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			exchange.close();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.sevencode.speakle.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행된 SQL 문장 수를 세는 테스트용 DataSource
+ * - Statement/PreparedStatement 의 execute* 호출 1회 = DB 왕복 1회 (executeBatch 도 1회)
+ * - 통합 테스트에서 "요청당 문장 수" 를 단언할 때 사용
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+	private final AtomicInteger statements = new AtomicInteger();
+
+	public CountingDataSource(DataSource target) {
+		super(target);
+	}
+
+	/** reset 이후 실행된 문장 수 */
+	public int count() {
+		return statements.get();
+	}
+
+	public void reset() {
+		statements.set(0);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		return (Connection)Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+			new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+				Object result = invoke(method, connection, args);
+				if (result instanceof Statement statement) {
+					return countingStatement(statement, method.getReturnType());
+				}
+				return result;
+			});
+	}
+
+	private Object countingStatement(Statement statement, Class<?> type) {
+		return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[] {type},
+			(proxy, method, args) -> {
+				if (method.getName().startsWith("execute")) {
+					statements.incrementAndGet();
+				}
+				return invoke(method, statement, args);
+			});
+	}
+
+	private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}